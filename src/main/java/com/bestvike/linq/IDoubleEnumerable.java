@@ -0,0 +1,67 @@
+package com.bestvike.linq;
+
+import com.bestvike.function.DoublePredicate1;
+import com.bestvike.function.DoubleToDoubleFunc1;
+import com.bestvike.function.DoubleToObjFunc1;
+import com.bestvike.linq.enumerable.DoubleEnumerable;
+
+/**
+ * Sequence of double values, none of the operators box the values.
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public interface IDoubleEnumerable {
+    IDoubleEnumerator enumerator();
+
+    default IEnumerable<Double> boxed() {
+        return DoubleEnumerable.boxed(this);
+    }
+
+    default IDoubleEnumerable where(DoublePredicate1 predicate) {
+        return DoubleEnumerable.where(this, predicate);
+    }
+
+    default IDoubleEnumerable select(DoubleToDoubleFunc1 selector) {
+        return DoubleEnumerable.select(this, selector);
+    }
+
+    default <TResult> IEnumerable<TResult> selectToObj(DoubleToObjFunc1<TResult> selector) {
+        return DoubleEnumerable.selectToObj(this, selector);
+    }
+
+    default IDoubleEnumerable distinct() {
+        return DoubleEnumerable.distinct(this);
+    }
+
+    default IDoubleEnumerable orderBy() {
+        return DoubleEnumerable.orderBy(this);
+    }
+
+    default IDoubleEnumerable orderByDescending() {
+        return DoubleEnumerable.orderByDescending(this);
+    }
+
+    default int count() {
+        return DoubleEnumerable.count(this);
+    }
+
+    default double sum() {
+        return DoubleEnumerable.sum(this);
+    }
+
+    default double min() {
+        return DoubleEnumerable.min(this);
+    }
+
+    default double max() {
+        return DoubleEnumerable.max(this);
+    }
+
+    default double average() {
+        return DoubleEnumerable.average(this);
+    }
+
+    default double[] toArray() {
+        return DoubleEnumerable.toArray(this);
+    }
+}
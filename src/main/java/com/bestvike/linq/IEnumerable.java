@@ -6,6 +6,7 @@ import com.bestvike.function.Action2;
 import com.bestvike.function.DecimalFunc1;
 import com.bestvike.function.DoubleFunc1;
 import com.bestvike.function.FloatFunc1;
+import com.bestvike.function.Func0;
 import com.bestvike.function.Func1;
 import com.bestvike.function.Func2;
 import com.bestvike.function.IndexFunc2;
@@ -19,8 +20,10 @@ import com.bestvike.function.NullableIntFunc1;
 import com.bestvike.function.NullableLongFunc1;
 import com.bestvike.function.Predicate1;
 import com.bestvike.linq.enumerable.Aggregate;
+import com.bestvike.linq.enumerable.AggregateBy;
 import com.bestvike.linq.enumerable.AnyAll;
 import com.bestvike.linq.enumerable.AppendPrepend;
+import com.bestvike.linq.enumerable.AsParallel;
 import com.bestvike.linq.enumerable.Average;
 import com.bestvike.linq.enumerable.Cast;
 import com.bestvike.linq.enumerable.Concat;
@@ -29,22 +32,28 @@ import com.bestvike.linq.enumerable.Count;
 import com.bestvike.linq.enumerable.DefaultIfEmpty;
 import com.bestvike.linq.enumerable.Distinct;
 import com.bestvike.linq.enumerable.DistinctBy;
+import com.bestvike.linq.enumerable.DoubleEnumerable;
 import com.bestvike.linq.enumerable.ElementAt;
 import com.bestvike.linq.enumerable.Except;
 import com.bestvike.linq.enumerable.ExceptBy;
 import com.bestvike.linq.enumerable.FindIndex;
 import com.bestvike.linq.enumerable.First;
+import com.bestvike.linq.enumerable.ForEach;
 import com.bestvike.linq.enumerable.Format;
+import com.bestvike.linq.enumerable.GroupAdjacent;
 import com.bestvike.linq.enumerable.GroupBy;
 import com.bestvike.linq.enumerable.GroupJoin;
 import com.bestvike.linq.enumerable.IndexOf;
+import com.bestvike.linq.enumerable.IntEnumerable;
 import com.bestvike.linq.enumerable.Intersect;
 import com.bestvike.linq.enumerable.IntersectBy;
 import com.bestvike.linq.enumerable.Join;
 import com.bestvike.linq.enumerable.Joining;
 import com.bestvike.linq.enumerable.Last;
+import com.bestvike.linq.enumerable.LongEnumerable;
 import com.bestvike.linq.enumerable.Max;
 import com.bestvike.linq.enumerable.MaxBy;
+import com.bestvike.linq.enumerable.MergeJoin;
 import com.bestvike.linq.enumerable.Min;
 import com.bestvike.linq.enumerable.MinBy;
 import com.bestvike.linq.enumerable.OrderBy;
@@ -56,6 +65,7 @@ import com.bestvike.linq.enumerable.SequenceEqual;
 import com.bestvike.linq.enumerable.Shuffle;
 import com.bestvike.linq.enumerable.Single;
 import com.bestvike.linq.enumerable.Skip;
+import com.bestvike.linq.enumerable.SpillJoin;
 import com.bestvike.linq.enumerable.Sum;
 import com.bestvike.linq.enumerable.Take;
 import com.bestvike.linq.enumerable.ToCollection;
@@ -66,10 +76,10 @@ import com.bestvike.linq.enumerable.Union;
 import com.bestvike.linq.enumerable.UnionBy;
 import com.bestvike.linq.enumerable.Where;
 import com.bestvike.linq.enumerable.Zip;
-import com.bestvike.linq.exception.ExceptionArgument;
-import com.bestvike.linq.exception.ThrowHelper;
 import com.bestvike.linq.util.ArrayUtils;
 import com.bestvike.linq.util.Formatter;
+import com.bestvike.linq.util.ISerializer;
+import com.bestvike.linq.util.JoinBuildSide;
 import com.bestvike.tuple.Tuple2;
 
 import java.math.BigDecimal;
@@ -96,12 +106,7 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
     }
 
     default void forEach(Consumer<? super TSource> action) {
-        if (action == null)
-            ThrowHelper.throwArgumentNullException(ExceptionArgument.action);
-        try (IEnumerator<TSource> e = this.enumerator()) {
-            while (e.moveNext())
-                action.accept(e.current());
-        }
+        ForEach.forEach(this, (Consumer<TSource>) action);
     }
 
     default Spliterator<TSource> spliterator() {
@@ -132,6 +137,22 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return Aggregate.aggregate(this, seed, (Func2<TAccumulate, TSource, TAccumulate>) func, (Func1<TAccumulate, TResult>) resultSelector);
     }
 
+    default <TKey, TAccumulate> IEnumerable<Tuple2<TKey, TAccumulate>> aggregateBy(Func1<? super TSource, ? extends TKey> keySelector, Func0<? extends TAccumulate> seedFactory, Func2<? super TAccumulate, ? super TSource, ? extends TAccumulate> func) {
+        return AggregateBy.aggregateBy(this, (Func1<TSource, TKey>) keySelector, (Func0<TAccumulate>) seedFactory, (Func2<TAccumulate, TSource, TAccumulate>) func);
+    }
+
+    default <TKey, TAccumulate> IEnumerable<Tuple2<TKey, TAccumulate>> aggregateBy(Func1<? super TSource, ? extends TKey> keySelector, Func0<? extends TAccumulate> seedFactory, Func2<? super TAccumulate, ? super TSource, ? extends TAccumulate> func, IEqualityComparer<? super TKey> comparer) {
+        return AggregateBy.aggregateBy(this, (Func1<TSource, TKey>) keySelector, (Func0<TAccumulate>) seedFactory, (Func2<TAccumulate, TSource, TAccumulate>) func, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default <TKey, TAccumulate, TResult> IEnumerable<TResult> aggregateBy(Func1<? super TSource, ? extends TKey> keySelector, Func0<? extends TAccumulate> seedFactory, Func2<? super TAccumulate, ? super TSource, ? extends TAccumulate> func, Func2<? super TKey, ? super TAccumulate, ? extends TResult> resultSelector) {
+        return AggregateBy.aggregateBy(this, (Func1<TSource, TKey>) keySelector, (Func0<TAccumulate>) seedFactory, (Func2<TAccumulate, TSource, TAccumulate>) func, (Func2<TKey, TAccumulate, TResult>) resultSelector);
+    }
+
+    default <TKey, TAccumulate, TResult> IEnumerable<TResult> aggregateBy(Func1<? super TSource, ? extends TKey> keySelector, Func0<? extends TAccumulate> seedFactory, Func2<? super TAccumulate, ? super TSource, ? extends TAccumulate> func, Func2<? super TKey, ? super TAccumulate, ? extends TResult> resultSelector, IEqualityComparer<? super TKey> comparer) {
+        return AggregateBy.aggregateBy(this, (Func1<TSource, TKey>) keySelector, (Func0<TAccumulate>) seedFactory, (Func2<TAccumulate, TSource, TAccumulate>) func, (Func2<TKey, TAccumulate, TResult>) resultSelector, (IEqualityComparer<TKey>) comparer);
+    }
+
     default boolean all(Predicate1<? super TSource> predicate) {
         return AnyAll.all(this, (Predicate1<TSource>) predicate);
     }
@@ -152,6 +173,22 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return this;
     }
 
+    default IIntEnumerable asIntEnumerable() {
+        return IntEnumerable.asIntEnumerable((IEnumerable<Integer>) this);
+    }
+
+    default ILongEnumerable asLongEnumerable() {
+        return LongEnumerable.asLongEnumerable((IEnumerable<Long>) this);
+    }
+
+    default IParallelEnumerable<TSource> asParallel() {
+        return AsParallel.asParallel(this);
+    }
+
+    default IDoubleEnumerable asDoubleEnumerable() {
+        return DoubleEnumerable.asDoubleEnumerable((IEnumerable<Double>) this);
+    }
+
     default double averageInt() {
         return Average.averageInt((IEnumerable<Integer>) this);
     }
@@ -256,6 +293,22 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return Count.count(this, (Predicate1<TSource>) predicate);
     }
 
+    default <TKey> IEnumerable<Tuple2<TKey, Integer>> countBy(Func1<? super TSource, ? extends TKey> keySelector) {
+        return AggregateBy.countBy(this, (Func1<TSource, TKey>) keySelector);
+    }
+
+    default <TKey> IEnumerable<Tuple2<TKey, Integer>> countBy(Func1<? super TSource, ? extends TKey> keySelector, IEqualityComparer<? super TKey> comparer) {
+        return AggregateBy.countBy(this, (Func1<TSource, TKey>) keySelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default IEnumerable<Tuple2<Integer, Integer>> countByInt(IntFunc1<? super TSource> keySelector) {
+        return AggregateBy.countByInt(this, (IntFunc1<TSource>) keySelector);
+    }
+
+    default IEnumerable<Tuple2<Long, Integer>> countByLong(LongFunc1<? super TSource> keySelector) {
+        return AggregateBy.countByLong(this, (LongFunc1<TSource>) keySelector);
+    }
+
     default <TInner, TResult> IEnumerable<TResult> crossJoin(IEnumerable<? extends TInner> inner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
         return Join.crossJoin(this, (IEnumerable<TInner>) inner, (Func2<TSource, TInner, TResult>) resultSelector);
     }
@@ -284,14 +337,30 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return DistinctBy.distinctBy(this, (Func1<TSource, TKey>) keySelector, (IEqualityComparer<TKey>) comparer);
     }
 
+    default IEnumerable<TSource> distinctByInt(IntFunc1<? super TSource> keySelector) {
+        return DistinctBy.distinctByInt(this, (IntFunc1<TSource>) keySelector);
+    }
+
+    default IEnumerable<TSource> distinctByLong(LongFunc1<? super TSource> keySelector) {
+        return DistinctBy.distinctByLong(this, (LongFunc1<TSource>) keySelector);
+    }
+
     default TSource elementAt(int index) {
         return ElementAt.elementAt(this, index);
     }
 
+    default TSource elementAt(long index) {
+        return ElementAt.elementAt(this, index);
+    }
+
     default TSource elementAtOrDefault(int index) {
         return ElementAt.elementAtOrDefault(this, index);
     }
 
+    default TSource elementAtOrDefault(long index) {
+        return ElementAt.elementAtOrDefault(this, index);
+    }
+
     default IEnumerable<TSource> except(IEnumerable<? extends TSource> second) {
         return Except.except(this, (IEnumerable<TSource>) second);
     }
@@ -356,6 +425,22 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return Join.fullJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultOuter, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector, (IEqualityComparer<TKey>) comparer);
     }
 
+    default <TKey> IEnumerable<IGrouping<TKey, TSource>> groupAdjacent(Func1<? super TSource, ? extends TKey> keySelector) {
+        return GroupAdjacent.groupAdjacent(this, (Func1<TSource, TKey>) keySelector);
+    }
+
+    default <TKey> IEnumerable<IGrouping<TKey, TSource>> groupAdjacent(Func1<? super TSource, ? extends TKey> keySelector, IEqualityComparer<? super TKey> comparer) {
+        return GroupAdjacent.groupAdjacent(this, (Func1<TSource, TKey>) keySelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default <TKey, TElement> IEnumerable<IGrouping<TKey, TElement>> groupAdjacent(Func1<? super TSource, ? extends TKey> keySelector, Func1<? super TSource, ? extends TElement> elementSelector) {
+        return GroupAdjacent.groupAdjacent(this, (Func1<TSource, TKey>) keySelector, (Func1<TSource, TElement>) elementSelector);
+    }
+
+    default <TKey, TElement> IEnumerable<IGrouping<TKey, TElement>> groupAdjacent(Func1<? super TSource, ? extends TKey> keySelector, Func1<? super TSource, ? extends TElement> elementSelector, IEqualityComparer<? super TKey> comparer) {
+        return GroupAdjacent.groupAdjacent(this, (Func1<TSource, TKey>) keySelector, (Func1<TSource, TElement>) elementSelector, (IEqualityComparer<TKey>) comparer);
+    }
+
     default <TKey> IEnumerable<IGrouping<TKey, TSource>> groupBy(Func1<? super TSource, ? extends TKey> keySelector) {
         return GroupBy.groupBy(this, (Func1<TSource, TKey>) keySelector);
     }
@@ -388,6 +473,14 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return GroupBy.groupBy(this, (Func1<TSource, TKey>) keySelector, (Func1<TSource, TElement>) elementSelector, (Func2<TKey, IEnumerable<TElement>, TResult>) resultSelector, (IEqualityComparer<TKey>) comparer);
     }
 
+    default IEnumerable<IGrouping<Integer, TSource>> groupByInt(IntFunc1<? super TSource> keySelector) {
+        return GroupBy.groupByInt(this, (IntFunc1<TSource>) keySelector);
+    }
+
+    default IEnumerable<IGrouping<Long, TSource>> groupByLong(LongFunc1<? super TSource> keySelector) {
+        return GroupBy.groupByLong(this, (LongFunc1<TSource>) keySelector);
+    }
+
     default <TInner, TKey, TResult> IEnumerable<TResult> groupJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super IEnumerable<TInner>, ? extends TResult> resultSelector) {
         return GroupJoin.groupJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, IEnumerable<TInner>, TResult>) resultSelector);
     }
@@ -428,6 +521,10 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return Join.join(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, (IEqualityComparer<TKey>) comparer);
     }
 
+    default <TInner, TKey, TResult> IEnumerable<TResult> join(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, IEqualityComparer<? super TKey> comparer, JoinBuildSide buildSide) {
+        return Join.join(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, (IEqualityComparer<TKey>) comparer, buildSide);
+    }
+
     default String joining() {
         return Joining.joining(this);
     }
@@ -632,6 +729,46 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return MaxBy.maxByNull(this, (Func1<TSource, TKey>) keySelector);
     }
 
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeFullJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return MergeJoin.mergeFullJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeFullJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TSource defaultOuter, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return MergeJoin.mergeFullJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultOuter, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeFullJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, Comparator<? super TKey> comparer) {
+        return MergeJoin.mergeFullJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, (Comparator<TKey>) comparer);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeFullJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TSource defaultOuter, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, Comparator<? super TKey> comparer) {
+        return MergeJoin.mergeFullJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultOuter, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector, (Comparator<TKey>) comparer);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return MergeJoin.mergeJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, Comparator<? super TKey> comparer) {
+        return MergeJoin.mergeJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, (Comparator<TKey>) comparer);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeLeftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return MergeJoin.mergeLeftJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeLeftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return MergeJoin.mergeLeftJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeLeftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, Comparator<? super TKey> comparer) {
+        return MergeJoin.mergeLeftJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, (Comparator<TKey>) comparer);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeLeftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, Comparator<? super TKey> comparer) {
+        return MergeJoin.mergeLeftJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector, (Comparator<TKey>) comparer);
+    }
+
     default int minInt() {
         return Min.minInt((IEnumerable<Integer>) this);
     }
@@ -796,6 +933,30 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return OrderBy.orderByDescending(this, (Func1<TSource, TKey>) keySelector, (Comparator<TKey>) comparer);
     }
 
+    default IOrderedEnumerable<TSource> orderByInt(IntFunc1<? super TSource> keySelector) {
+        return OrderBy.orderByInt(this, (IntFunc1<TSource>) keySelector);
+    }
+
+    default IOrderedEnumerable<TSource> orderByDescendingInt(IntFunc1<? super TSource> keySelector) {
+        return OrderBy.orderByDescendingInt(this, (IntFunc1<TSource>) keySelector);
+    }
+
+    default IOrderedEnumerable<TSource> orderByLong(LongFunc1<? super TSource> keySelector) {
+        return OrderBy.orderByLong(this, (LongFunc1<TSource>) keySelector);
+    }
+
+    default IOrderedEnumerable<TSource> orderByDescendingLong(LongFunc1<? super TSource> keySelector) {
+        return OrderBy.orderByDescendingLong(this, (LongFunc1<TSource>) keySelector);
+    }
+
+    default IOrderedEnumerable<TSource> orderByDouble(DoubleFunc1<? super TSource> keySelector) {
+        return OrderBy.orderByDouble(this, (DoubleFunc1<TSource>) keySelector);
+    }
+
+    default IOrderedEnumerable<TSource> orderByDescendingDouble(DoubleFunc1<? super TSource> keySelector) {
+        return OrderBy.orderByDescendingDouble(this, (DoubleFunc1<TSource>) keySelector);
+    }
+
     default IEnumerable<TSource> prepend(TSource element) {
         return AppendPrepend.prepend(this, element);
     }
@@ -884,6 +1045,10 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return Skip.skip(this, count);
     }
 
+    default IEnumerable<TSource> skip(long count) {
+        return Skip.skip(this, count);
+    }
+
     default IEnumerable<TSource> skipLast(int count) {
         return Skip.skipLast(this, count);
     }
@@ -896,6 +1061,14 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return Skip.skipWhile(this, (IndexPredicate2<TSource>) predicate);
     }
 
+    default <TInner, TKey, TResult> IEnumerable<TResult> spillJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, int memoryBudget) {
+        return SpillJoin.spillJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, memoryBudget);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> spillJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, IEqualityComparer<? super TKey> comparer, ISerializer<TSource> outerSerializer, ISerializer<TInner> innerSerializer, int memoryBudget) {
+        return SpillJoin.spillJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, (IEqualityComparer<TKey>) comparer, outerSerializer, innerSerializer, memoryBudget);
+    }
+
     default int sumInt() {
         return Sum.sumInt((IEnumerable<Integer>) this);
     }
@@ -980,6 +1153,10 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return Take.take(this, count);
     }
 
+    default IEnumerable<TSource> take(long count) {
+        return Take.take(this, count);
+    }
+
     default IEnumerable<TSource> takeLast(int count) {
         return Take.takeLast(this, count);
     }
@@ -1049,6 +1226,14 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return ToLookup.toLookup(this, (Func1<TSource, TKey>) keySelector, (Func1<TSource, TElement>) elementSelector, (IEqualityComparer<TKey>) comparer);
     }
 
+    default ILookup<Integer, TSource> toLookupInt(IntFunc1<? super TSource> keySelector) {
+        return ToLookup.toLookupInt(this, (IntFunc1<TSource>) keySelector);
+    }
+
+    default ILookup<Long, TSource> toLookupLong(LongFunc1<? super TSource> keySelector) {
+        return ToLookup.toLookupLong(this, (LongFunc1<TSource>) keySelector);
+    }
+
     default <TKey> Map<TKey, TSource> toMap(Func1<? super TSource, ? extends TKey> keySelector) {
         return ToCollection.toMap(this, (Func1<TSource, TKey>) keySelector);
     }
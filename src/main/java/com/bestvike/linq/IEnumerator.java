@@ -13,6 +13,15 @@ public interface IEnumerator<T> extends Iterator<T>, IDisposable {
 
     T current();
 
+    // Moves at most max elements into the buffer from the offset, returns the number of elements moved, which is less
+    // than max only when the end is reached. Array backed enumerators override it to copy in bulk.
+    default int moveNextBatch(Object[] buffer, int offset, int max) {
+        int count = 0;
+        while (count < max && this.moveNext())
+            buffer[offset + count++] = this.current();
+        return count;
+    }
+
     boolean hasNext();
 
     T next();
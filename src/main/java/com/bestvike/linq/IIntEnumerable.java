@@ -0,0 +1,67 @@
+package com.bestvike.linq;
+
+import com.bestvike.function.IntPredicate1;
+import com.bestvike.function.IntToIntFunc1;
+import com.bestvike.function.IntToObjFunc1;
+import com.bestvike.linq.enumerable.IntEnumerable;
+
+/**
+ * Sequence of int values, none of the operators box the values.
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public interface IIntEnumerable {
+    IIntEnumerator enumerator();
+
+    default IEnumerable<Integer> boxed() {
+        return IntEnumerable.boxed(this);
+    }
+
+    default IIntEnumerable where(IntPredicate1 predicate) {
+        return IntEnumerable.where(this, predicate);
+    }
+
+    default IIntEnumerable select(IntToIntFunc1 selector) {
+        return IntEnumerable.select(this, selector);
+    }
+
+    default <TResult> IEnumerable<TResult> selectToObj(IntToObjFunc1<TResult> selector) {
+        return IntEnumerable.selectToObj(this, selector);
+    }
+
+    default IIntEnumerable distinct() {
+        return IntEnumerable.distinct(this);
+    }
+
+    default IIntEnumerable orderBy() {
+        return IntEnumerable.orderBy(this);
+    }
+
+    default IIntEnumerable orderByDescending() {
+        return IntEnumerable.orderByDescending(this);
+    }
+
+    default int count() {
+        return IntEnumerable.count(this);
+    }
+
+    default int sum() {
+        return IntEnumerable.sum(this);
+    }
+
+    default int min() {
+        return IntEnumerable.min(this);
+    }
+
+    default int max() {
+        return IntEnumerable.max(this);
+    }
+
+    default double average() {
+        return IntEnumerable.average(this);
+    }
+
+    default int[] toArray() {
+        return IntEnumerable.toArray(this);
+    }
+}
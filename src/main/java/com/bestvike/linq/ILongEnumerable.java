@@ -0,0 +1,67 @@
+package com.bestvike.linq;
+
+import com.bestvike.function.LongPredicate1;
+import com.bestvike.function.LongToLongFunc1;
+import com.bestvike.function.LongToObjFunc1;
+import com.bestvike.linq.enumerable.LongEnumerable;
+
+/**
+ * Sequence of long values, none of the operators box the values.
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public interface ILongEnumerable {
+    ILongEnumerator enumerator();
+
+    default IEnumerable<Long> boxed() {
+        return LongEnumerable.boxed(this);
+    }
+
+    default ILongEnumerable where(LongPredicate1 predicate) {
+        return LongEnumerable.where(this, predicate);
+    }
+
+    default ILongEnumerable select(LongToLongFunc1 selector) {
+        return LongEnumerable.select(this, selector);
+    }
+
+    default <TResult> IEnumerable<TResult> selectToObj(LongToObjFunc1<TResult> selector) {
+        return LongEnumerable.selectToObj(this, selector);
+    }
+
+    default ILongEnumerable distinct() {
+        return LongEnumerable.distinct(this);
+    }
+
+    default ILongEnumerable orderBy() {
+        return LongEnumerable.orderBy(this);
+    }
+
+    default ILongEnumerable orderByDescending() {
+        return LongEnumerable.orderByDescending(this);
+    }
+
+    default int count() {
+        return LongEnumerable.count(this);
+    }
+
+    default long sum() {
+        return LongEnumerable.sum(this);
+    }
+
+    default long min() {
+        return LongEnumerable.min(this);
+    }
+
+    default long max() {
+        return LongEnumerable.max(this);
+    }
+
+    default double average() {
+        return LongEnumerable.average(this);
+    }
+
+    default long[] toArray() {
+        return LongEnumerable.toArray(this);
+    }
+}
@@ -0,0 +1,14 @@
+package com.bestvike.linq;
+
+import com.bestvike.IDisposable;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public interface ILongEnumerator extends IDisposable {
+    boolean moveNext();
+
+    long currentLong();
+
+    void close();
+}
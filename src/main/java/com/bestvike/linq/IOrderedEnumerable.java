@@ -1,6 +1,9 @@
 package com.bestvike.linq;
 
+import com.bestvike.function.DoubleFunc1;
 import com.bestvike.function.Func1;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
 import com.bestvike.linq.enumerable.OrderBy;
 
 import java.util.Comparator;
@@ -12,6 +15,10 @@ import java.util.Comparator;
 public interface IOrderedEnumerable<TElement> extends IEnumerable<TElement> {
     <TKey> IOrderedEnumerable<TElement> createOrderedEnumerable(Func1<TElement, TKey> keySelector, Comparator<TKey> comparer, boolean descending);
 
+    default IOrderedEnumerable<TElement> parallel() {
+        return OrderBy.parallel(this);
+    }
+
     default <TKey> IOrderedEnumerable<TElement> thenBy(Func1<? super TElement, ? extends TKey> keySelector) {
         return OrderBy.thenBy(this, (Func1<TElement, TKey>) keySelector);
     }
@@ -27,4 +34,28 @@ public interface IOrderedEnumerable<TElement> extends IEnumerable<TElement> {
     default <TKey> IOrderedEnumerable<TElement> thenByDescending(Func1<? super TElement, ? extends TKey> keySelector, Comparator<? super TKey> comparer) {
         return OrderBy.thenByDescending(this, (Func1<TElement, TKey>) keySelector, (Comparator<TKey>) comparer);
     }
+
+    default IOrderedEnumerable<TElement> thenByInt(IntFunc1<? super TElement> keySelector) {
+        return OrderBy.thenByInt(this, (IntFunc1<TElement>) keySelector);
+    }
+
+    default IOrderedEnumerable<TElement> thenByDescendingInt(IntFunc1<? super TElement> keySelector) {
+        return OrderBy.thenByDescendingInt(this, (IntFunc1<TElement>) keySelector);
+    }
+
+    default IOrderedEnumerable<TElement> thenByLong(LongFunc1<? super TElement> keySelector) {
+        return OrderBy.thenByLong(this, (LongFunc1<TElement>) keySelector);
+    }
+
+    default IOrderedEnumerable<TElement> thenByDescendingLong(LongFunc1<? super TElement> keySelector) {
+        return OrderBy.thenByDescendingLong(this, (LongFunc1<TElement>) keySelector);
+    }
+
+    default IOrderedEnumerable<TElement> thenByDouble(DoubleFunc1<? super TElement> keySelector) {
+        return OrderBy.thenByDouble(this, (DoubleFunc1<TElement>) keySelector);
+    }
+
+    default IOrderedEnumerable<TElement> thenByDescendingDouble(DoubleFunc1<? super TElement> keySelector) {
+        return OrderBy.thenByDescendingDouble(this, (DoubleFunc1<TElement>) keySelector);
+    }
 }
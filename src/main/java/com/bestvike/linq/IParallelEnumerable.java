@@ -0,0 +1,101 @@
+package com.bestvike.linq;
+
+import com.bestvike.function.Func0;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Func2;
+import com.bestvike.function.Predicate1;
+import com.bestvike.linq.enumerable.AsParallel;
+
+/**
+ * Query executed in parallel on the fork join pool. The source is partitioned by index range if it supports
+ * random access, otherwise it is partitioned by chunks. Operators not declared here run sequentially over the results.
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+@SuppressWarnings("unchecked")
+public interface IParallelEnumerable<TSource> extends IEnumerable<TSource> {
+    default IParallelEnumerable<TSource> asOrdered() {
+        return AsParallel.asOrdered(this);
+    }
+
+    default IParallelEnumerable<TSource> asUnordered() {
+        return AsParallel.asUnordered(this);
+    }
+
+    default IParallelEnumerable<TSource> withDegreeOfParallelism(int degreeOfParallelism) {
+        return AsParallel.withDegreeOfParallelism(this, degreeOfParallelism);
+    }
+
+    default IEnumerable<TSource> asSequential() {
+        return AsParallel.asSequential(this);
+    }
+
+    default <TAccumulate> TAccumulate aggregate(Func0<? extends TAccumulate> seedFactory, Func2<? super TAccumulate, ? super TSource, ? extends TAccumulate> func, Func2<? super TAccumulate, ? super TAccumulate, ? extends TAccumulate> combine) {
+        return AsParallel.aggregate(this, (Func0<TAccumulate>) seedFactory, (Func2<TAccumulate, TSource, TAccumulate>) func, (Func2<TAccumulate, TAccumulate, TAccumulate>) combine);
+    }
+
+    @Override
+    default int count(Predicate1<? super TSource> predicate) {
+        return AsParallel.count(this, (Predicate1<TSource>) predicate);
+    }
+
+    @Override
+    default int maxInt() {
+        return AsParallel.maxInt((IParallelEnumerable<Integer>) this);
+    }
+
+    @Override
+    default long maxLong() {
+        return AsParallel.maxLong((IParallelEnumerable<Long>) this);
+    }
+
+    @Override
+    default double maxDouble() {
+        return AsParallel.maxDouble((IParallelEnumerable<Double>) this);
+    }
+
+    @Override
+    default int minInt() {
+        return AsParallel.minInt((IParallelEnumerable<Integer>) this);
+    }
+
+    @Override
+    default long minLong() {
+        return AsParallel.minLong((IParallelEnumerable<Long>) this);
+    }
+
+    @Override
+    default double minDouble() {
+        return AsParallel.minDouble((IParallelEnumerable<Double>) this);
+    }
+
+    @Override
+    default <TResult> IParallelEnumerable<TResult> select(Func1<? super TSource, ? extends TResult> selector) {
+        return AsParallel.select(this, (Func1<TSource, TResult>) selector);
+    }
+
+    @Override
+    default <TResult> IParallelEnumerable<TResult> selectMany(Func1<? super TSource, ? extends IEnumerable<? extends TResult>> selector) {
+        return AsParallel.selectMany(this, (Func1<TSource, IEnumerable<TResult>>) selector);
+    }
+
+    @Override
+    default int sumInt() {
+        return AsParallel.sumInt((IParallelEnumerable<Integer>) this);
+    }
+
+    @Override
+    default long sumLong() {
+        return AsParallel.sumLong((IParallelEnumerable<Long>) this);
+    }
+
+    @Override
+    default double sumDouble() {
+        return AsParallel.sumDouble((IParallelEnumerable<Double>) this);
+    }
+
+    @Override
+    default IParallelEnumerable<TSource> where(Predicate1<? super TSource> predicate) {
+        return AsParallel.where(this, (Predicate1<TSource>) predicate);
+    }
+}
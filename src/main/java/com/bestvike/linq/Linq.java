@@ -194,6 +194,10 @@ public final class Linq {
         return Range.range(start, count);
     }
 
+    public static IEnumerable<Long> range(long start, long count) {
+        return Range.range(start, count);
+    }
+
     public static <TResult> IEnumerable<TResult> repeat(TResult element, int count) {
         return Repeat.repeat(element, count);
     }
@@ -34,4 +34,17 @@ public final class ArrayEnumerator<TSource> extends AbstractEnumerator<TSource>
         this.close();
         return false;
     }
+
+    @Override
+    public int moveNextBatch(Object[] buffer, int offset, int max) {
+        if (this.state == -1)
+            return 0;
+        int index = this.state == 0 ? this.startIndex : this.state;
+        int count = Math.min(max, this.endIndex - index);
+        System.arraycopy(this.source, index, buffer, offset, count);
+        this.state = index + count;
+        if (count < max)
+            this.close();
+        return count;
+    }
 }
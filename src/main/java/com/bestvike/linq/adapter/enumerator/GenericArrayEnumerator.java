@@ -23,4 +23,16 @@ public final class GenericArrayEnumerator<TSource> extends AbstractEnumerator<TS
         this.close();
         return false;
     }
+
+    @Override
+    public int moveNextBatch(Object[] buffer, int offset, int max) {
+        if (this.state == -1)
+            return 0;
+        int count = Math.min(max, this.source.length - this.state);
+        System.arraycopy(this.source, this.state, buffer, offset, count);
+        this.state += count;
+        if (count < max)
+            this.close();
+        return count;
+    }
 }
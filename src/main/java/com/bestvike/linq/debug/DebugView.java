@@ -3,14 +3,12 @@ package com.bestvike.linq.debug;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
  * Created by 许崇雷 on 2019-06-18.
  */
 public final class DebugView {
-    private static final Map<Object, IDebugView> DEBUG_VIEW_MAP = new ConcurrentHashMap<>();
+    private static final int DEBUG_VIEW_CACHE_CAPACITY = 1024;
+    private static final DebugViewCache DEBUG_VIEW_CACHE = new DebugViewCache(DEBUG_VIEW_CACHE_CAPACITY);
 
     private DebugView() {
     }
@@ -26,7 +24,15 @@ public final class DebugView {
         if (obj == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.obj);
 
-        IDebugView debugView = DEBUG_VIEW_MAP.computeIfAbsent(obj, Debugger::getDebugView);
+        IDebugView debugView = DEBUG_VIEW_CACHE.get(obj);
         return debugView.getProxyObject();
     }
+
+    public static DebugViewCacheStatistics getCacheStatistics() {
+        return DEBUG_VIEW_CACHE.getStatistics();
+    }
+
+    public static void clearCache() {
+        DEBUG_VIEW_CACHE.clear();
+    }
 }
@@ -0,0 +1,119 @@
+package com.bestvike.linq.debug;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Identity keyed cache of debug views. Keys are weak and views are soft, because a view usually references its
+ * object. Least recently used entries are evicted when the cache is full.
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+final class DebugViewCache {
+    private final int capacity;
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+    private final LinkedHashMap<IdentityKey, SoftReference<IDebugView>> map;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long collectedCount;
+
+    DebugViewCache(int capacity) {
+        this.capacity = capacity;
+        this.map = new LinkedHashMap<IdentityKey, SoftReference<IDebugView>>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<IdentityKey, SoftReference<IDebugView>> eldest) {
+                if (this.size() <= DebugViewCache.this.capacity)
+                    return false;
+                DebugViewCache.this.evictionCount++;
+                return true;
+            }
+        };
+    }
+
+    IDebugView get(Object obj) {
+        IdentityKey lookupKey = new IdentityKey(obj, null);
+        synchronized (this) {
+            this.expunge();
+            SoftReference<IDebugView> value = this.map.get(lookupKey);
+            IDebugView debugView = value == null ? null : value.get();
+            if (debugView != null) {
+                this.hitCount++;
+                return debugView;
+            }
+            this.missCount++;
+        }
+
+        // create the view outside the lock, the first view put in the cache wins
+        IDebugView debugView = Debugger.getDebugView(obj);
+        synchronized (this) {
+            SoftReference<IDebugView> value = this.map.get(lookupKey);
+            IDebugView existing = value == null ? null : value.get();
+            if (existing != null)
+                return existing;
+            this.map.put(new IdentityKey(obj, this.queue), new SoftReference<>(debugView));
+            return debugView;
+        }
+    }
+
+    synchronized DebugViewCacheStatistics getStatistics() {
+        this.expunge();
+        return new DebugViewCacheStatistics(this.map.size(), this.hitCount, this.missCount, this.evictionCount, this.collectedCount);
+    }
+
+    synchronized void clear() {
+        this.expunge();
+        this.map.clear();
+    }
+
+    // remove the entries whose object has been collected, or whose view has been cleared
+    private void expunge() {
+        boolean collected = false;
+        Reference<?> reference;
+        while ((reference = this.queue.poll()) != null) {
+            if (this.map.remove((IdentityKey) reference) != null)
+                this.collectedCount++;
+            collected = true;
+        }
+        if (!collected)
+            return;
+        for (Iterator<SoftReference<IDebugView>> iterator = this.map.values().iterator(); iterator.hasNext(); ) {
+            if (iterator.next().get() == null) {
+                iterator.remove();
+                this.collectedCount++;
+            }
+        }
+    }
+
+
+    private static final class IdentityKey extends WeakReference<Object> {
+        private final int hashCode;
+
+        private IdentityKey(Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.hashCode = System.identityHashCode(referent);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof IdentityKey))
+                return false;
+            Object referent = this.get();
+            return referent != null && referent == ((IdentityKey) obj).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+}
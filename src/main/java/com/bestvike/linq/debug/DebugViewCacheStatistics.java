@@ -0,0 +1,54 @@
+package com.bestvike.linq.debug;
+
+/**
+ * Snapshot of the debug view cache counters.
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public final class DebugViewCacheStatistics {
+    private final int size;
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long collectedCount;
+
+    DebugViewCacheStatistics(int size, long hitCount, long missCount, long evictionCount, long collectedCount) {
+        this.size = size;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.collectedCount = collectedCount;
+    }
+
+    // entries in the cache
+    public int getSize() {
+        return this.size;
+    }
+
+    public long getHitCount() {
+        return this.hitCount;
+    }
+
+    public long getMissCount() {
+        return this.missCount;
+    }
+
+    // entries removed because the cache is full
+    public long getEvictionCount() {
+        return this.evictionCount;
+    }
+
+    // entries removed because the object or the view has been garbage collected
+    public long getCollectedCount() {
+        return this.collectedCount;
+    }
+
+    @Override
+    public String toString() {
+        return "DebugViewCacheStatistics{size=" + this.size
+                + ", hitCount=" + this.hitCount
+                + ", missCount=" + this.missCount
+                + ", evictionCount=" + this.evictionCount
+                + ", collectedCount=" + this.collectedCount + '}';
+    }
+}
@@ -0,0 +1,156 @@
+package com.bestvike.linq.debug;
+
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.InvalidOperationException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * DebuggerDisplay text of a type compiled into literals and member getters.
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+final class DebuggerDisplayTemplate {
+    private static final int MAX_CACHED_BUILDER_CAPACITY = 1024;
+    private static final ThreadLocal<StringBuilder> BUILDER = new ThreadLocal<>();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private final String[] literals;// one more than members
+    private final MethodHandle[] members;
+    private final boolean[] noQuotes;
+
+    private DebuggerDisplayTemplate(String[] literals, MethodHandle[] members, boolean[] noQuotes) {
+        this.literals = literals;
+        this.members = members;
+        this.noQuotes = noQuotes;
+    }
+
+    static DebuggerDisplayTemplate compile(Class<?> objType, String attrText) {
+        String[] segments = Linq.split(attrText, '{', '}').toArray(String.class);
+        if (segments.length % 2 == 0)
+            throw new InvalidOperationException(String.format("The DebuggerDisplay for %s lacks a closing brace.", objType));
+
+        int memberCount = segments.length / 2;
+        String[] literals = new String[memberCount + 1];
+        MethodHandle[] members = new MethodHandle[memberCount];
+        boolean[] noQuotes = new boolean[memberCount];
+        for (int i = 0; i < memberCount; i++) {
+            literals[i] = segments[2 * i];
+            String reference = segments[2 * i + 1];
+            noQuotes[i] = reference.endsWith(",nq");
+            if (noQuotes[i])
+                reference = reference.substring(0, reference.length() - 3);
+
+            // Resolve the reference.
+            members[i] = getMember(objType, reference);
+            if (members[i] == null)
+                throw new InvalidOperationException(String.format("The DebuggerDisplay for %s contains the expression \"%s\".", objType, reference));
+        }
+        literals[memberCount] = segments[segments.length - 1];
+        return new DebuggerDisplayTemplate(literals, members, noQuotes);
+    }
+
+    String render(Object obj) {
+        // member toString may render another template on this thread, so the cached builder is taken out while in use
+        StringBuilder sb = BUILDER.get();
+        if (sb == null)
+            sb = new StringBuilder();
+        else
+            BUILDER.set(null);
+
+        try {
+            for (int i = 0; i < this.members.length; i++) {
+                sb.append(this.literals[i]);
+                Object member;
+                try {
+                    member = (Object) this.members[i].invokeExact(obj);
+                } catch (Throwable e) {
+                    throw new RuntimeException(e);
+                }
+                appendMember(member, this.noQuotes[i], sb);
+            }
+            sb.append(this.literals[this.members.length]);
+            return sb.toString();
+        } finally {
+            if (sb.capacity() <= MAX_CACHED_BUILDER_CAPACITY) {
+                sb.setLength(0);
+                BUILDER.set(sb);
+            }
+        }
+    }
+
+    private static void appendMember(Object member, boolean noQuotes, StringBuilder sb) {
+        if (member == null)
+            sb.append("null");
+        else if (member instanceof String) {
+            if (noQuotes)
+                sb.append((String) member);
+            else
+                sb.append('"').append((String) member).append('"');
+        } else if (isPrimitiveType(member))
+            sb.append(member);
+        else
+            sb.append('{').append(member).append('}');
+    }
+
+    private static boolean isPrimitiveType(Object obj) {
+        Class<?> clazz = obj.getClass();
+        return clazz.isPrimitive()
+                || clazz == Boolean.class || clazz == Byte.class || clazz == Short.class || clazz == Integer.class
+                || clazz == Long.class || clazz == Character.class || clazz == Float.class || clazz == Double.class;
+    }
+
+    // getter of type (Object)Object, static members ignore the argument
+    private static MethodHandle getMember(Class<?> objType, String reference) {
+        try {
+            MethodHandle handle;
+            boolean isStatic;
+            if (reference.endsWith("()")) {
+                Method method = getMethod(objType, reference.substring(0, reference.length() - 2));
+                if (method == null)
+                    return null;
+                handle = MethodHandles.lookup().unreflect(method);
+                isStatic = Modifier.isStatic(method.getModifiers());
+            } else {
+                Field field = getField(objType, reference);
+                if (field == null)
+                    return null;
+                handle = MethodHandles.lookup().unreflectGetter(field);
+                isStatic = Modifier.isStatic(field.getModifiers());
+            }
+            if (isStatic)
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            return handle.asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Field getField(Class<?> objType, String fieldName) {
+        for (Class<?> t = objType; t != null; t = t.getSuperclass()) {
+            try {
+                Field field = t.getDeclaredField(fieldName);
+                field.setAccessible(true);
+                return field;
+            } catch (NoSuchFieldException ignored) {
+            }
+        }
+        return null;
+    }
+
+    private static Method getMethod(Class<?> objType, String propertyName) {
+        for (Class<?> t = objType; t != null; t = t.getSuperclass()) {
+            try {
+                Method method = t.getDeclaredMethod(propertyName);
+                method.setAccessible(true);
+                return method;
+            } catch (NoSuchMethodException ignored) {
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,330 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.IEqualityComparer;
+import com.bestvike.function.Func0;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Func2;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+import com.bestvike.linq.util.ArrayUtils;
+import com.bestvike.tuple.Tuple2;
+
+import java.util.Arrays;
+
+/**
+ * Groups and aggregates in one pass. Only one accumulator per key is kept, the elements are not stored.
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public final class AggregateBy {
+    private AggregateBy() {
+    }
+
+    public static <TSource, TKey, TAccumulate> IEnumerable<Tuple2<TKey, TAccumulate>> aggregateBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func0<TAccumulate> seedFactory, Func2<TAccumulate, TSource, TAccumulate> func) {
+        return aggregateBy(source, keySelector, seedFactory, func, Tuple2::new, null);
+    }
+
+    public static <TSource, TKey, TAccumulate> IEnumerable<Tuple2<TKey, TAccumulate>> aggregateBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func0<TAccumulate> seedFactory, Func2<TAccumulate, TSource, TAccumulate> func, IEqualityComparer<TKey> comparer) {
+        return aggregateBy(source, keySelector, seedFactory, func, Tuple2::new, comparer);
+    }
+
+    public static <TSource, TKey, TAccumulate, TResult> IEnumerable<TResult> aggregateBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func0<TAccumulate> seedFactory, Func2<TAccumulate, TSource, TAccumulate> func, Func2<TKey, TAccumulate, TResult> resultSelector) {
+        return aggregateBy(source, keySelector, seedFactory, func, resultSelector, null);
+    }
+
+    public static <TSource, TKey, TAccumulate, TResult> IEnumerable<TResult> aggregateBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func0<TAccumulate> seedFactory, Func2<TAccumulate, TSource, TAccumulate> func, Func2<TKey, TAccumulate, TResult> resultSelector, IEqualityComparer<TKey> comparer) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+        if (seedFactory == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.seedFactory);
+        if (func == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.func);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+
+        return new AggregateByIterator<>(source, keySelector, seedFactory, func, resultSelector, comparer);
+    }
+
+    public static <TSource, TKey> IEnumerable<Tuple2<TKey, Integer>> countBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector) {
+        return countBy(source, keySelector, null);
+    }
+
+    public static <TSource, TKey> IEnumerable<Tuple2<TKey, Integer>> countBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, IEqualityComparer<TKey> comparer) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        return new CountByIterator<>(source, keySelector, comparer);
+    }
+
+    public static <TSource> IEnumerable<Tuple2<Integer, Integer>> countByInt(IEnumerable<TSource> source, IntFunc1<TSource> keySelector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        return new CountByIntIterator<>(source, keySelector);
+    }
+
+    public static <TSource> IEnumerable<Tuple2<Long, Integer>> countByLong(IEnumerable<TSource> source, LongFunc1<TSource> keySelector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        return new CountByLongIterator<>(source, keySelector);
+    }
+}
+
+
+// Accumulators are stored by the insertion index of their key in the set, results come in first key order.
+final class AggregateByIterator<TSource, TKey, TAccumulate, TResult> extends AbstractIterator<TResult> {
+    private final IEnumerable<TSource> source;
+    private final Func1<TSource, TKey> keySelector;
+    private final Func0<TAccumulate> seedFactory;
+    private final Func2<TAccumulate, TSource, TAccumulate> func;
+    private final Func2<TKey, TAccumulate, TResult> resultSelector;
+    private final IEqualityComparer<TKey> comparer;
+    private Object[] keys;
+    private Object[] accumulates;
+    private int index;
+
+    AggregateByIterator(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func0<TAccumulate> seedFactory, Func2<TAccumulate, TSource, TAccumulate> func, Func2<TKey, TAccumulate, TResult> resultSelector, IEqualityComparer<TKey> comparer) {
+        this.source = source;
+        this.keySelector = keySelector;
+        this.seedFactory = seedFactory;
+        this.func = func;
+        this.resultSelector = resultSelector;
+        this.comparer = comparer;
+    }
+
+    @Override
+    public AbstractIterator<TResult> clone() {
+        return new AggregateByIterator<>(this.source, this.keySelector, this.seedFactory, this.func, this.resultSelector, this.comparer);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                Set<TKey> set = new Set<>(this.comparer);
+                Object[] accumulates = new Object[4];
+                try (IEnumerator<TSource> e = this.source.enumerator()) {
+                    while (e.moveNext()) {
+                        TSource item = e.current();
+                        int count = set.getCount();
+                        int index = set.getOrAddIndex(this.keySelector.apply(item));
+                        TAccumulate accumulate;
+                        if (index == count) {
+                            if (index == accumulates.length)
+                                accumulates = ArrayUtils.resize(accumulates, Math.multiplyExact(index, 2));
+                            accumulate = this.seedFactory.apply();
+                        } else {
+                            //noinspection unchecked
+                            accumulate = (TAccumulate) accumulates[index];
+                        }
+                        accumulates[index] = this.func.apply(accumulate, item);
+                    }
+                }
+                this.keys = set.toArray();
+                this.accumulates = accumulates;
+                this.state = 2;
+            case 2:
+                if (this.index < this.keys.length) {
+                    //noinspection unchecked
+                    this.current = this.resultSelector.apply((TKey) this.keys[this.index], (TAccumulate) this.accumulates[this.index]);
+                    this.index++;
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        this.keys = null;
+        this.accumulates = null;
+        super.close();
+    }
+}
+
+
+final class CountByIterator<TSource, TKey> extends AbstractIterator<Tuple2<TKey, Integer>> {
+    private final IEnumerable<TSource> source;
+    private final Func1<TSource, TKey> keySelector;
+    private final IEqualityComparer<TKey> comparer;
+    private Object[] keys;
+    private int[] counts;
+    private int index;
+
+    CountByIterator(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, IEqualityComparer<TKey> comparer) {
+        this.source = source;
+        this.keySelector = keySelector;
+        this.comparer = comparer;
+    }
+
+    @Override
+    public AbstractIterator<Tuple2<TKey, Integer>> clone() {
+        return new CountByIterator<>(this.source, this.keySelector, this.comparer);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                Set<TKey> set = new Set<>(this.comparer);
+                int[] counts = new int[4];
+                try (IEnumerator<TSource> e = this.source.enumerator()) {
+                    while (e.moveNext()) {
+                        int index = set.getOrAddIndex(this.keySelector.apply(e.current()));
+                        if (index == counts.length)
+                            counts = Arrays.copyOf(counts, Math.multiplyExact(index, 2));
+                        counts[index]++;
+                    }
+                }
+                this.keys = set.toArray();
+                this.counts = counts;
+                this.state = 2;
+            case 2:
+                if (this.index < this.keys.length) {
+                    //noinspection unchecked
+                    this.current = new Tuple2<>((TKey) this.keys[this.index], this.counts[this.index]);
+                    this.index++;
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        this.keys = null;
+        this.counts = null;
+        super.close();
+    }
+}
+
+
+final class CountByIntIterator<TSource> extends AbstractIterator<Tuple2<Integer, Integer>> {
+    private final IEnumerable<TSource> source;
+    private final IntFunc1<TSource> keySelector;
+    private IntSet keys;
+    private int[] counts;
+    private int index;
+
+    CountByIntIterator(IEnumerable<TSource> source, IntFunc1<TSource> keySelector) {
+        this.source = source;
+        this.keySelector = keySelector;
+    }
+
+    @Override
+    public AbstractIterator<Tuple2<Integer, Integer>> clone() {
+        return new CountByIntIterator<>(this.source, this.keySelector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                IntSet keys = new IntSet();
+                int[] counts = new int[4];
+                try (IEnumerator<TSource> e = this.source.enumerator()) {
+                    while (e.moveNext()) {
+                        int index = keys.getOrAddIndex(this.keySelector.apply(e.current()));
+                        if (index == counts.length)
+                            counts = Arrays.copyOf(counts, Math.multiplyExact(index, 2));
+                        counts[index]++;
+                    }
+                }
+                this.keys = keys;
+                this.counts = counts;
+                this.state = 2;
+            case 2:
+                if (this.index < this.keys.getCount()) {
+                    this.current = new Tuple2<>(this.keys.valueAt(this.index), this.counts[this.index]);
+                    this.index++;
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        this.keys = null;
+        this.counts = null;
+        super.close();
+    }
+}
+
+
+final class CountByLongIterator<TSource> extends AbstractIterator<Tuple2<Long, Integer>> {
+    private final IEnumerable<TSource> source;
+    private final LongFunc1<TSource> keySelector;
+    private LongSet keys;
+    private int[] counts;
+    private int index;
+
+    CountByLongIterator(IEnumerable<TSource> source, LongFunc1<TSource> keySelector) {
+        this.source = source;
+        this.keySelector = keySelector;
+    }
+
+    @Override
+    public AbstractIterator<Tuple2<Long, Integer>> clone() {
+        return new CountByLongIterator<>(this.source, this.keySelector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                LongSet keys = new LongSet();
+                int[] counts = new int[4];
+                try (IEnumerator<TSource> e = this.source.enumerator()) {
+                    while (e.moveNext()) {
+                        int index = keys.getOrAddIndex(this.keySelector.apply(e.current()));
+                        if (index == counts.length)
+                            counts = Arrays.copyOf(counts, Math.multiplyExact(index, 2));
+                        counts[index]++;
+                    }
+                }
+                this.keys = keys;
+                this.counts = counts;
+                this.state = 2;
+            case 2:
+                if (this.index < this.keys.getCount()) {
+                    this.current = new Tuple2<>(this.keys.valueAt(this.index), this.counts[this.index]);
+                    this.index++;
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        this.keys = null;
+        this.counts = null;
+        super.close();
+    }
+}
@@ -47,13 +47,7 @@ public final class AnyAll {
         if (predicate == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.predicate);
 
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext()) {
-                if (predicate.apply(e.current()))
-                    return true;
-            }
-        }
-        return false;
+        return !EnumerableHelpers.consume(source, item -> !predicate.apply(item));
     }
 
     public static <TSource> boolean all(IEnumerable<TSource> source, Predicate1<TSource> predicate) {
@@ -62,12 +56,6 @@ public final class AnyAll {
         if (predicate == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.predicate);
 
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext()) {
-                if (!predicate.apply(e.current()))
-                    return false;
-            }
-        }
-        return true;
+        return EnumerableHelpers.consume(source, predicate);
     }
 }
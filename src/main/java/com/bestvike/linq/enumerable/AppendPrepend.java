@@ -151,7 +151,7 @@ final class AppendPrepend1Iterator<TSource> extends AppendPrependIterator<TSourc
     private TSource[] lazyToArray(Class<TSource> clazz) {
         assert this._getCount(true) == -1;
 
-        LargeArrayBuilder<TSource> builder = new LargeArrayBuilder<>();
+        LargeArrayBuilder<TSource> builder = new LargeArrayBuilder<>(clazz);
         if (!this.appending)
             builder.slowAdd(this.item);
         builder.addRange(this.source);
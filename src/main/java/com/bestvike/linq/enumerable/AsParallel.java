@@ -0,0 +1,553 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.IDisposable;
+import com.bestvike.collections.generic.Array;
+import com.bestvike.collections.generic.IArrayList;
+import com.bestvike.function.Func0;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Func2;
+import com.bestvike.function.Predicate1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.IParallelEnumerable;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+import com.bestvike.linq.util.ArrayUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public final class AsParallel {
+    private AsParallel() {
+    }
+
+    public static <TSource> IParallelEnumerable<TSource> asParallel(IEnumerable<TSource> source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof ParallelQuery)
+            return (ParallelQuery<?, TSource>) source;
+        return new ParallelQuery<>(source, chunk -> chunk, false, 0);
+    }
+
+    public static <TSource> IParallelEnumerable<TSource> asOrdered(IParallelEnumerable<TSource> source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return asQuery(source)._withOrdered(true);
+    }
+
+    public static <TSource> IParallelEnumerable<TSource> asUnordered(IParallelEnumerable<TSource> source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return asQuery(source)._withOrdered(false);
+    }
+
+    public static <TSource> IParallelEnumerable<TSource> withDegreeOfParallelism(IParallelEnumerable<TSource> source, int degreeOfParallelism) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (degreeOfParallelism < 1)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.degreeOfParallelism);
+
+        return asQuery(source)._withDegreeOfParallelism(degreeOfParallelism);
+    }
+
+    public static <TSource> IEnumerable<TSource> asSequential(IParallelEnumerable<TSource> source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new SequentialQuery<>(asQuery(source));
+    }
+
+    public static <TSource> IParallelEnumerable<TSource> where(IParallelEnumerable<TSource> source, Predicate1<TSource> predicate) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (predicate == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.predicate);
+
+        return asQuery(source)._then(chunk -> chunk.where(predicate));
+    }
+
+    public static <TSource, TResult> IParallelEnumerable<TResult> select(IParallelEnumerable<TSource> source, Func1<TSource, TResult> selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return asQuery(source)._then(chunk -> chunk.select(selector));
+    }
+
+    public static <TSource, TResult> IParallelEnumerable<TResult> selectMany(IParallelEnumerable<TSource> source, Func1<TSource, IEnumerable<TResult>> selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return asQuery(source)._then(chunk -> chunk.selectMany(selector));
+    }
+
+    // Every chunk starts its accumulation with a new seed of the factory, so a mutable seed is never shared by the
+    // chunks running at the same time. The accumulations are merged by combine.
+    public static <TSource, TAccumulate> TAccumulate aggregate(IParallelEnumerable<TSource> source, Func0<TAccumulate> seedFactory, Func2<TAccumulate, TSource, TAccumulate> func, Func2<TAccumulate, TAccumulate, TAccumulate> combine) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (seedFactory == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.seedFactory);
+        if (func == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.func);
+        if (combine == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.combine);
+
+        List<TAccumulate> results = asQuery(source)._run(chunk -> chunk.aggregate(seedFactory.apply(), func));
+        if (results.isEmpty())
+            return seedFactory.apply();
+        TAccumulate result = results.get(0);
+        for (int i = 1; i < results.size(); i++)
+            result = combine.apply(result, results.get(i));
+        return result;
+    }
+
+    public static <TSource> int count(IParallelEnumerable<TSource> source, Predicate1<TSource> predicate) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (predicate == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.predicate);
+
+        return asQuery(source)._then(chunk -> chunk.where(predicate))._getCount(false);
+    }
+
+    public static int sumInt(IParallelEnumerable<Integer> source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        int sum = 0;
+        for (int value : asQuery(source)._run(IEnumerable::sumInt))
+            sum = Math.addExact(sum, value);
+        return sum;
+    }
+
+    public static long sumLong(IParallelEnumerable<Long> source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        long sum = 0;
+        for (long value : asQuery(source)._run(IEnumerable::sumLong))
+            sum = Math.addExact(sum, value);
+        return sum;
+    }
+
+    public static double sumDouble(IParallelEnumerable<Double> source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        double sum = 0;
+        for (double value : asQuery(source)._run(IEnumerable::sumDouble))
+            sum += value;
+        return sum;
+    }
+
+    public static int minInt(IParallelEnumerable<Integer> source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return reduce(asQuery(source), (x, y) -> y < x ? y : x);
+    }
+
+    public static long minLong(IParallelEnumerable<Long> source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return reduce(asQuery(source), (x, y) -> y < x ? y : x);
+    }
+
+    // NaN is less than any value
+    public static double minDouble(IParallelEnumerable<Double> source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return reduce(asQuery(source), (x, y) -> y < x || Double.isNaN(y) ? y : x);
+    }
+
+    public static int maxInt(IParallelEnumerable<Integer> source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return reduce(asQuery(source), (x, y) -> y > x ? y : x);
+    }
+
+    public static long maxLong(IParallelEnumerable<Long> source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return reduce(asQuery(source), (x, y) -> y > x ? y : x);
+    }
+
+    // NaN is less than any value
+    public static double maxDouble(IParallelEnumerable<Double> source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return reduce(asQuery(source), (x, y) -> y > x || Double.isNaN(x) ? y : x);
+    }
+
+    private static <TSource> ParallelQuery<?, TSource> asQuery(IParallelEnumerable<TSource> source) {
+        return source instanceof ParallelQuery
+                ? (ParallelQuery<?, TSource>) source
+                : new ParallelQuery<>(source, chunk -> chunk, false, 0);
+    }
+
+    private static <TSource> TSource reduce(ParallelQuery<?, TSource> query, Func2<TSource, TSource, TSource> func) {
+        // the result of a chunk is empty if the chunk is empty, else a list of the reduced value
+        List<List<TSource>> results = query._run(chunk -> {
+            try (IEnumerator<TSource> e = chunk.enumerator()) {
+                if (!e.moveNext())
+                    return Collections.emptyList();
+                TSource value = e.current();
+                while (e.moveNext())
+                    value = func.apply(value, e.current());
+                return Collections.singletonList(value);
+            }
+        });
+
+        boolean found = false;
+        TSource value = null;
+        for (List<TSource> result : results) {
+            if (result.isEmpty())
+                continue;
+            value = found ? func.apply(value, result.get(0)) : result.get(0);
+            found = true;
+        }
+        if (!found)
+            ThrowHelper.throwNoElementsException();
+        return value;
+    }
+}
+
+
+final class ParallelQuery<TSource, TElement> implements IParallelEnumerable<TElement>, IIListProvider<TElement> {
+    private static final ConcurrentMap<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();// shared pools for degrees above the common pool
+    private final IEnumerable<TSource> source;
+    private final Func1<IEnumerable<TSource>, IEnumerable<TElement>> pipeline;// applied to every chunk of the source
+    private final boolean ordered;
+    private final int degreeOfParallelism;// at most this many chunks run at once, zero means the parallelism of the common pool
+
+    ParallelQuery(IEnumerable<TSource> source, Func1<IEnumerable<TSource>, IEnumerable<TElement>> pipeline, boolean ordered, int degreeOfParallelism) {
+        this.source = source;
+        this.pipeline = pipeline;
+        this.ordered = ordered;
+        this.degreeOfParallelism = degreeOfParallelism;
+    }
+
+    <TResult> ParallelQuery<TSource, TResult> _then(Func1<IEnumerable<TElement>, IEnumerable<TResult>> next) {
+        Func1<IEnumerable<TSource>, IEnumerable<TElement>> pipeline = this.pipeline;
+        return new ParallelQuery<>(this.source, chunk -> next.apply(pipeline.apply(chunk)), this.ordered, this.degreeOfParallelism);
+    }
+
+    ParallelQuery<TSource, TElement> _withOrdered(boolean ordered) {
+        return new ParallelQuery<>(this.source, this.pipeline, ordered, this.degreeOfParallelism);
+    }
+
+    ParallelQuery<TSource, TElement> _withDegreeOfParallelism(int degreeOfParallelism) {
+        return new ParallelQuery<>(this.source, this.pipeline, this.ordered, degreeOfParallelism);
+    }
+
+    // Runs the pipeline and the reducer on every chunk, returns the results of the chunks, in source order if ordered.
+    <TResult> List<TResult> _run(Func1<IEnumerable<TElement>, TResult> reducer) {
+        int degree = this.degreeOfParallelism == 0 ? ForkJoinPool.getCommonPoolParallelism() : this.degreeOfParallelism;
+        List<ParallelChunk<TResult>> chunks = new ArrayList<>();
+        try (ParallelPartitioner<TSource> partitioner = ParallelPartitioner.create(this.source, degree)) {
+            List<ParallelWorker<TSource, TElement, TResult>> workers = new ArrayList<>(degree);
+            for (int i = 0; i < degree; i++)
+                workers.add(new ParallelWorker<>(partitioner, this.pipeline, reducer));
+            // no more than degree workers exist, so no more chunks than that run at once in any pool
+            if (degree <= ForkJoinPool.getCommonPoolParallelism())
+                ForkJoinTask.invokeAll(workers);
+            else
+                POOLS.computeIfAbsent(degree, ForkJoinPool::new).invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(workers)));
+            for (ParallelWorker<TSource, TElement, TResult> worker : workers)
+                chunks.addAll(worker.results);
+        }
+
+        if (this.ordered)
+            chunks.sort((x, y) -> Integer.compare(x.order, y.order));
+        List<TResult> results = new ArrayList<>(chunks.size());
+        for (ParallelChunk<TResult> chunk : chunks)
+            results.add(chunk.value);
+        return results;
+    }
+
+    @Override
+    public IEnumerator<TElement> enumerator() {
+        return new ParallelQueryEnumerator<>(this);
+    }
+
+    @Override
+    public TElement[] _toArray(Class<TElement> clazz) {
+        List<TElement> list = this._toList();
+        return list.toArray(ArrayUtils.newInstance(clazz, list.size()));
+    }
+
+    @Override
+    public Object[] _toArray() {
+        return this._toList().toArray();
+    }
+
+    @Override
+    public List<TElement> _toList() {
+        List<List<TElement>> lists = this._run(IEnumerable::toList);
+        int count = 0;
+        for (List<TElement> list : lists)
+            count = Math.addExact(count, list.size());
+        List<TElement> result = new ArrayList<>(count);
+        for (List<TElement> list : lists)
+            result.addAll(list);
+        return result;
+    }
+
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        if (onlyIfCheap)
+            return -1;
+
+        int count = 0;
+        for (int value : this._run(IEnumerable::count))
+            count = Math.addExact(count, value);
+        return count;
+    }
+}
+
+
+final class ParallelQueryEnumerator<TElement> extends AbstractEnumerator<TElement> {
+    private final ParallelQuery<?, TElement> query;
+    private List<TElement> results;
+
+    ParallelQueryEnumerator(ParallelQuery<?, TElement> query) {
+        this.query = query;
+    }
+
+    @Override
+    public boolean moveNext() {
+        if (this.state == -1)
+            return false;
+        if (this.state == 0) {
+            this.results = this.query._toList();
+            this.state = 1;
+        }
+        if (this.state <= this.results.size()) {
+            this.current = this.results.get(this.state - 1);
+            this.state++;
+            return true;
+        }
+        this.close();
+        return false;
+    }
+
+    @Override
+    public void close() {
+        this.results = null;
+        super.close();
+    }
+}
+
+
+final class SequentialQuery<TElement> implements IIListProvider<TElement> {
+    private final ParallelQuery<?, TElement> query;
+
+    SequentialQuery(ParallelQuery<?, TElement> query) {
+        this.query = query;
+    }
+
+    @Override
+    public IEnumerator<TElement> enumerator() {
+        return this.query.enumerator();
+    }
+
+    @Override
+    public TElement[] _toArray(Class<TElement> clazz) {
+        return this.query._toArray(clazz);
+    }
+
+    @Override
+    public Object[] _toArray() {
+        return this.query._toArray();
+    }
+
+    @Override
+    public List<TElement> _toList() {
+        return this.query._toList();
+    }
+
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        return this.query._getCount(onlyIfCheap);
+    }
+}
+
+
+final class ParallelChunk<T> {
+    final int order;
+    final T value;
+
+    ParallelChunk(int order, T value) {
+        this.order = order;
+        this.value = value;
+    }
+}
+
+
+final class ParallelWorker<TSource, TElement, TResult> extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+    private final ParallelPartitioner<TSource> partitioner;
+    private final Func1<IEnumerable<TSource>, IEnumerable<TElement>> pipeline;
+    private final Func1<IEnumerable<TElement>, TResult> reducer;
+    final List<ParallelChunk<TResult>> results = new ArrayList<>();
+
+    ParallelWorker(ParallelPartitioner<TSource> partitioner, Func1<IEnumerable<TSource>, IEnumerable<TElement>> pipeline, Func1<IEnumerable<TElement>, TResult> reducer) {
+        this.partitioner = partitioner;
+        this.pipeline = pipeline;
+        this.reducer = reducer;
+    }
+
+    @Override
+    protected void compute() {
+        try {
+            ParallelChunk<IEnumerable<TSource>> chunk;
+            while ((chunk = this.partitioner.next()) != null)
+                this.results.add(new ParallelChunk<>(chunk.order, this.reducer.apply(this.pipeline.apply(chunk.value))));
+        } catch (Throwable e) {
+            this.partitioner.cancel();
+            throw e;
+        }
+    }
+}
+
+
+abstract class ParallelPartitioner<TSource> implements IDisposable {
+    private volatile boolean cancelled;
+
+    static <TSource> ParallelPartitioner<TSource> create(IEnumerable<TSource> source, int degreeOfParallelism) {
+        if (source instanceof IArrayList) {
+            IArrayList<TSource> list = (IArrayList<TSource>) source;
+            return new RangePartitioner<>(list, list._getCount(), degreeOfParallelism);
+        }
+        if (source instanceof IPartition) {
+            IPartition<TSource> partition = (IPartition<TSource>) source;
+            int count = partition._getCount(true);
+            if (count != -1) {
+                if (PartitionSpliterator.isIndexed(partition))
+                    return new RangePartitioner<>(partition, count, degreeOfParallelism);
+                // _skip and _take of other partitions sort or read the whole source again for each chunk, so buffer once
+                Object[] array = partition._toArray();
+                return new RangePartitioner<>(new Array<>(array), array.length, degreeOfParallelism);
+            }
+        }
+        return new ChunkPartitioner<>(source);
+    }
+
+    // Stops handing out chunks, the workers finish the chunks they hold.
+    void cancel() {
+        this.cancelled = true;
+    }
+
+    // Gets the next chunk of the source, null if there is no more.
+    ParallelChunk<IEnumerable<TSource>> next() {
+        return this.cancelled ? null : this.nextChunk();
+    }
+
+    abstract ParallelChunk<IEnumerable<TSource>> nextChunk();
+
+    @Override
+    public void close() {
+    }
+}
+
+
+// Partitions a random access source by index range, chunks are views of the source made by skip and take.
+final class RangePartitioner<TSource> extends ParallelPartitioner<TSource> {
+    private static final int CHUNKS_PER_WORKER = 4;
+    private final IEnumerable<TSource> source;
+    private final int count;
+    private final int chunks;
+    private final AtomicInteger index = new AtomicInteger();
+
+    RangePartitioner(IEnumerable<TSource> source, int count, int degreeOfParallelism) {
+        this.source = source;
+        this.count = count;
+        this.chunks = (int) Math.min(count, (long) degreeOfParallelism * CHUNKS_PER_WORKER);
+    }
+
+    @Override
+    ParallelChunk<IEnumerable<TSource>> nextChunk() {
+        int index = this.index.getAndIncrement();
+        if (index >= this.chunks)
+            return null;
+        int from = (int) ((long) index * this.count / this.chunks);
+        int to = (int) ((long) (index + 1) * this.count / this.chunks);
+        return new ParallelChunk<>(index, this.source.skip(from).take(to - from));
+    }
+}
+
+
+// Partitions a source without random access by buffering chunks out of a shared enumerator, the chunks grow up to MAX_CHUNK_SIZE.
+final class ChunkPartitioner<TSource> extends ParallelPartitioner<TSource> {
+    private static final int MIN_CHUNK_SIZE = 16;
+    private static final int MAX_CHUNK_SIZE = 1024;
+    private static final int MAX_SHIFT = Integer.numberOfTrailingZeros(MAX_CHUNK_SIZE / MIN_CHUNK_SIZE);
+    private final IEnumerable<TSource> source;
+    private IEnumerator<TSource> enumerator;
+    private boolean done;
+    private int order;
+
+    ChunkPartitioner(IEnumerable<TSource> source) {
+        this.source = source;
+    }
+
+    @Override
+    synchronized ParallelChunk<IEnumerable<TSource>> nextChunk() {
+        if (this.done)
+            return null;
+        if (this.enumerator == null)
+            this.enumerator = this.source.enumerator();
+
+        // the size doubles every four chunks, the shift is clamped so it never overflows
+        int size = MIN_CHUNK_SIZE << Math.min(this.order >> 2, MAX_SHIFT);
+        Object[] buffer = new Object[size];
+        int count = 0;
+        try {
+            while (count < size && this.enumerator.moveNext())
+                buffer[count++] = this.enumerator.current();
+        } catch (Throwable e) {
+            this.done = true;
+            throw e;
+        }
+        if (count < size) {
+            this.done = true;
+            this.enumerator.close();
+            if (count == 0)
+                return null;
+            buffer = Arrays.copyOf(buffer, count);
+        }
+        return new ParallelChunk<>(this.order++, new Array<>(buffer));
+    }
+
+    @Override
+    public synchronized void close() {
+        this.done = true;
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+    }
+}
@@ -18,6 +18,11 @@ public final class Cast {
         if (clazz == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.clazz);
 
+        if (source instanceof IFusible) {
+            IFusible<?> fusible = (IFusible<?>) source;
+            return fusible._fuse()._ofType(clazz);
+        }
+
         return new OfTypeIterator<>(source, clazz);
     }
 
@@ -27,6 +32,11 @@ public final class Cast {
         if (clazz == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.clazz);
 
+        if (source instanceof IFusible) {
+            IFusible<?> fusible = (IFusible<?>) source;
+            return fusible._fuse()._cast(clazz);
+        }
+
         return new CastIterator<>(source, clazz);
     }
 }
@@ -7,7 +7,6 @@ import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
 import com.bestvike.linq.util.ArrayUtils;
 import com.bestvike.linq.util.ListUtils;
-import com.bestvike.out;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -147,21 +146,21 @@ final class Concat2Iterator<TSource> extends ConcatIterator<TSource> {
 
     @Override
     public int _getCount(boolean onlyIfCheap) {
-        out<Integer> firstCountRef = out.init();
-        out<Integer> secondCountRef = out.init();
-        if (!EnumerableHelpers.tryGetCount(this.first, firstCountRef)) {
+        int firstCount = EnumerableHelpers.tryGetCount(this.first);
+        if (firstCount < 0) {
             if (onlyIfCheap)
                 return -1;
-            firstCountRef.value = this.first.count();
+            firstCount = this.first.count();
         }
 
-        if (!EnumerableHelpers.tryGetCount(this.second, secondCountRef)) {
+        int secondCount = EnumerableHelpers.tryGetCount(this.second);
+        if (secondCount < 0) {
             if (onlyIfCheap)
                 return -1;
-            secondCountRef.value = this.second.count();
+            secondCount = this.second.count();
         }
 
-        return Math.addExact(firstCountRef.value, secondCountRef.value);
+        return Math.addExact(firstCount, secondCount);
     }
 
     @Override
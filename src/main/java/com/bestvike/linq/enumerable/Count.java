@@ -3,7 +3,6 @@ package com.bestvike.linq.enumerable;
 import com.bestvike.collections.generic.ICollection;
 import com.bestvike.function.Predicate1;
 import com.bestvike.linq.IEnumerable;
-import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
 
@@ -28,13 +27,13 @@ public final class Count {
             return listProv._getCount(false);
         }
 
-        int count = 0;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext())
-                count = Math.addExact(count, 1);
-        }
+        int[] count = {0};
+        EnumerableHelpers.consume(source, item -> {
+            count[0] = Math.addExact(count[0], 1);
+            return true;
+        });
 
-        return count;
+        return count[0];
     }
 
     public static <TSource> int count(IEnumerable<TSource> source, Predicate1<TSource> predicate) {
@@ -43,28 +42,27 @@ public final class Count {
         if (predicate == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.predicate);
 
-        int count = 0;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext()) {
-                if (predicate.apply(e.current()))
-                    count = Math.addExact(count, 1);
-            }
-        }
+        int[] count = {0};
+        EnumerableHelpers.consume(source, item -> {
+            if (predicate.apply(item))
+                count[0] = Math.addExact(count[0], 1);
+            return true;
+        });
 
-        return count;
+        return count[0];
     }
 
     public static <TSource> long longCount(IEnumerable<TSource> source) {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
-        long count = 0;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext())
-                count = Math.addExact(count, 1);
-        }
+        long[] count = {0};
+        EnumerableHelpers.consume(source, item -> {
+            count[0] = Math.addExact(count[0], 1);
+            return true;
+        });
 
-        return count;
+        return count[0];
     }
 
     public static <TSource> long longCount(IEnumerable<TSource> source, Predicate1<TSource> predicate) {
@@ -73,14 +71,13 @@ public final class Count {
         if (predicate == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.predicate);
 
-        long count = 0;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext()) {
-                if (predicate.apply(e.current()))
-                    count = Math.addExact(count, 1);
-            }
-        }
+        long[] count = {0};
+        EnumerableHelpers.consume(source, item -> {
+            if (predicate.apply(item))
+                count[0] = Math.addExact(count[0], 1);
+            return true;
+        });
 
-        return count;
+        return count[0];
     }
 }
@@ -2,6 +2,8 @@ package com.bestvike.linq.enumerable;
 
 import com.bestvike.collections.generic.IEqualityComparer;
 import com.bestvike.function.Func1;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.exception.ExceptionArgument;
@@ -29,6 +31,24 @@ public final class DistinctBy {
 
         return new DistinctByIterator<>(source, keySelector, comparer);
     }
+
+    public static <TSource> IEnumerable<TSource> distinctByInt(IEnumerable<TSource> source, IntFunc1<TSource> keySelector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        return new DistinctByIntIterator<>(source, keySelector);
+    }
+
+    public static <TSource> IEnumerable<TSource> distinctByLong(IEnumerable<TSource> source, LongFunc1<TSource> keySelector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        return new DistinctByLongIterator<>(source, keySelector);
+    }
 }
 
 
@@ -92,7 +112,7 @@ final class DistinctByIterator<TSource, TKey> extends Iterator<TSource> implemen
 
     @Override
     public TSource[] _toArray(Class<TSource> clazz) {
-        LargeArrayBuilder<TSource> builder = new LargeArrayBuilder<>();
+        LargeArrayBuilder<TSource> builder = new LargeArrayBuilder<>(clazz);
         Set<TKey> set = new Set<>(this.comparer);
         try (IEnumerator<TSource> e = this.source.enumerator()) {
             while (e.moveNext()) {
@@ -146,3 +166,103 @@ final class DistinctByIterator<TSource, TKey> extends Iterator<TSource> implemen
         return set;
     }
 }
+
+
+final class DistinctByIntIterator<TSource> extends Iterator<TSource> {
+    private final IEnumerable<TSource> source;
+    private final IntFunc1<TSource> keySelector;
+    private IntSet set;
+    private IEnumerator<TSource> enumerator;
+
+    DistinctByIntIterator(IEnumerable<TSource> source, IntFunc1<TSource> keySelector) {
+        this.source = source;
+        this.keySelector = keySelector;
+    }
+
+    @Override
+    public Iterator<TSource> clone() {
+        return new DistinctByIntIterator<>(this.source, this.keySelector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.set = new IntSet();
+                this.state = 2;
+            case 2:
+                while (this.enumerator.moveNext()) {
+                    TSource element = this.enumerator.current();
+                    if (this.set.add(this.keySelector.apply(element))) {
+                        this.current = element;
+                        return true;
+                    }
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+            this.set = null;
+        }
+        super.close();
+    }
+}
+
+
+final class DistinctByLongIterator<TSource> extends Iterator<TSource> {
+    private final IEnumerable<TSource> source;
+    private final LongFunc1<TSource> keySelector;
+    private LongSet set;
+    private IEnumerator<TSource> enumerator;
+
+    DistinctByLongIterator(IEnumerable<TSource> source, LongFunc1<TSource> keySelector) {
+        this.source = source;
+        this.keySelector = keySelector;
+    }
+
+    @Override
+    public Iterator<TSource> clone() {
+        return new DistinctByLongIterator<>(this.source, this.keySelector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.set = new LongSet();
+                this.state = 2;
+            case 2:
+                while (this.enumerator.moveNext()) {
+                    TSource element = this.enumerator.current();
+                    if (this.set.add(this.keySelector.apply(element))) {
+                        this.current = element;
+                        return true;
+                    }
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+            this.set = null;
+        }
+        super.close();
+    }
+}
@@ -0,0 +1,629 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.IArray;
+import com.bestvike.function.DoublePredicate1;
+import com.bestvike.function.DoubleToDoubleFunc1;
+import com.bestvike.function.DoubleToObjFunc1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.IDoubleEnumerable;
+import com.bestvike.linq.IDoubleEnumerator;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.util.Arrays;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public final class DoubleEnumerable {
+    private static final double[] EMPTY = new double[0];
+
+    private DoubleEnumerable() {
+    }
+
+    public static IDoubleEnumerable of(double[] source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new DoubleArrayIterator(source, 0, source.length);
+    }
+
+    public static IDoubleEnumerable asDoubleEnumerable(IEnumerable<Double> source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof IArray) {
+            IArray<Double> array = (IArray<Double>) source;
+            Object items = array.getArray();
+            if (items instanceof double[])
+                return new DoubleArrayIterator((double[]) items, array._getStartIndex(), array._getEndIndex());
+        }
+        if (source instanceof EmptyPartition)
+            return new DoubleArrayIterator(EMPTY, 0, 0);
+        return new DoubleUnboxIterator(source);
+    }
+
+    public static IEnumerable<Double> boxed(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new DoubleSelectToObjIterator<>(source, Double::valueOf);
+    }
+
+    public static IDoubleEnumerable where(IDoubleEnumerable source, DoublePredicate1 predicate) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (predicate == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.predicate);
+
+        return new DoubleWhereIterator(source, predicate);
+    }
+
+    public static IDoubleEnumerable select(IDoubleEnumerable source, DoubleToDoubleFunc1 selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return new DoubleSelectIterator(source, selector);
+    }
+
+    public static <TResult> IEnumerable<TResult> selectToObj(IDoubleEnumerable source, DoubleToObjFunc1<TResult> selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return new DoubleSelectToObjIterator<>(source, selector);
+    }
+
+    public static IDoubleEnumerable distinct(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new DoubleDistinctIterator(source);
+    }
+
+    public static IDoubleEnumerable orderBy(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new DoubleOrderByIterator(source, false);
+    }
+
+    public static IDoubleEnumerable orderByDescending(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new DoubleOrderByIterator(source, true);
+    }
+
+    public static int count(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof DoubleArrayIterator) {
+            DoubleArrayIterator array = (DoubleArrayIterator) source;
+            return array.end - array.start;
+        }
+
+        int count = 0;
+        try (IDoubleEnumerator e = source.enumerator()) {
+            while (e.moveNext())
+                count = Math.addExact(count, 1);
+        }
+        return count;
+    }
+
+    public static double sum(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof DoubleArrayIterator) {
+            DoubleArrayIterator array = (DoubleArrayIterator) source;
+            return sum(array.source, array.start, array.end);
+        }
+
+        double sum = 0;
+        try (IDoubleEnumerator e = source.enumerator()) {
+            while (e.moveNext())
+                sum += e.currentDouble();
+        }
+        return sum;
+    }
+
+    public static double min(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof DoubleArrayIterator) {
+            DoubleArrayIterator array = (DoubleArrayIterator) source;
+            return min(array.source, array.start, array.end);
+        }
+
+        double value;
+        try (IDoubleEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            value = e.currentDouble();
+            if (Double.isNaN(value))
+                return value;
+
+            while (e.moveNext()) {
+                double x = e.currentDouble();
+                if (x < value)
+                    value = x;
+                else if (Double.isNaN(x))
+                    return x;
+            }
+        }
+        return value;
+    }
+
+    public static double max(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof DoubleArrayIterator) {
+            DoubleArrayIterator array = (DoubleArrayIterator) source;
+            return max(array.source, array.start, array.end);
+        }
+
+        double value;
+        try (IDoubleEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            value = e.currentDouble();
+            while (Double.isNaN(value)) {
+                if (!e.moveNext())
+                    return value;
+                value = e.currentDouble();
+            }
+
+            while (e.moveNext()) {
+                double x = e.currentDouble();
+                if (x > value)
+                    value = x;
+            }
+        }
+        return value;
+    }
+
+    public static double average(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof DoubleArrayIterator) {
+            DoubleArrayIterator array = (DoubleArrayIterator) source;
+            return average(array.source, array.start, array.end);
+        }
+
+        try (IDoubleEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            double sum = e.currentDouble();
+            long count = 1;
+            while (e.moveNext()) {
+                sum += e.currentDouble();
+                count = Math.addExact(count, 1);
+            }
+            return sum / count;
+        }
+    }
+
+    // Indexed loops over a range of primitive array, also used by the IArray fast paths of the boxed aggregates.
+    static double sum(double[] source, int start, int end) {
+        double sum = 0;
+        for (int i = start; i < end; i++)
+            sum += source[i];
+        return sum;
+    }
+
+    static double min(double[] source, int start, int end) {
+        if (start == end)
+            ThrowHelper.throwNoElementsException();
+        double value = source[start];
+        if (Double.isNaN(value))
+            return value;
+        for (int i = start + 1; i < end; i++) {
+            double x = source[i];
+            if (x < value)
+                value = x;
+            else if (Double.isNaN(x))
+                return x;
+        }
+        return value;
+    }
+
+    static double max(double[] source, int start, int end) {
+        if (start == end)
+            ThrowHelper.throwNoElementsException();
+        int i = start;
+        double value = source[i++];
+        while (Double.isNaN(value)) {
+            if (i == end)
+                return value;
+            value = source[i++];
+        }
+        for (; i < end; i++) {
+            if (source[i] > value)
+                value = source[i];
+        }
+        return value;
+    }
+
+    static double average(double[] source, int start, int end) {
+        if (start == end)
+            ThrowHelper.throwNoElementsException();
+        double sum = 0;
+        for (int i = start; i < end; i++)
+            sum += source[i];
+        return sum / (end - start);
+    }
+
+    public static double[] toArray(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof DoubleArrayIterator) {
+            DoubleArrayIterator array = (DoubleArrayIterator) source;
+            return Arrays.copyOfRange(array.source, array.start, array.end);
+        }
+
+        double[] array = EMPTY;
+        int count = 0;
+        try (IDoubleEnumerator e = source.enumerator()) {
+            while (e.moveNext()) {
+                if (count == array.length)
+                    array = Arrays.copyOf(array, count == 0 ? 4 : Math.multiplyExact(count, 2));
+                array[count++] = e.currentDouble();
+            }
+        }
+        return count == array.length ? array : Arrays.copyOf(array, count);
+    }
+}
+
+
+abstract class DoubleIterator implements IDoubleEnumerable, IDoubleEnumerator {
+    private final long threadId;
+    int state;
+    double current;
+
+    DoubleIterator() {
+        this.threadId = Thread.currentThread().getId();
+    }
+
+    @Override
+    public abstract DoubleIterator clone();
+
+    @Override
+    public IDoubleEnumerator enumerator() {
+        DoubleIterator enumerator = this.state == 0 && this.threadId == Thread.currentThread().getId() ? this : this.clone();
+        enumerator.state = 1;
+        return enumerator;
+    }
+
+    @Override
+    public double currentDouble() {
+        return this.current;
+    }
+
+    @Override
+    public void close() {
+        this.current = 0;
+        this.state = -1;
+    }
+}
+
+
+final class DoubleArrayIterator extends DoubleIterator {
+    final double[] source;
+    final int start;
+    final int end;
+    private int index;
+
+    DoubleArrayIterator(double[] source, int start, int end) {
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public DoubleIterator clone() {
+        return new DoubleArrayIterator(this.source, this.start, this.end);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.index = this.start;
+                this.state = 2;
+            case 2:
+                if (this.index < this.end) {
+                    this.current = this.source[this.index++];
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+}
+
+
+final class DoubleUnboxIterator extends DoubleIterator {
+    private final IEnumerable<Double> source;
+    private IEnumerator<Double> enumerator;
+
+    DoubleUnboxIterator(IEnumerable<Double> source) {
+        this.source = source;
+    }
+
+    @Override
+    public DoubleIterator clone() {
+        return new DoubleUnboxIterator(this.source);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.enumerator.current();
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class DoubleWhereIterator extends DoubleIterator {
+    private final IDoubleEnumerable source;
+    private final DoublePredicate1 predicate;
+    private IDoubleEnumerator enumerator;
+
+    DoubleWhereIterator(IDoubleEnumerable source, DoublePredicate1 predicate) {
+        this.source = source;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public DoubleIterator clone() {
+        return new DoubleWhereIterator(this.source, this.predicate);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                while (this.enumerator.moveNext()) {
+                    double item = this.enumerator.currentDouble();
+                    if (this.predicate.apply(item)) {
+                        this.current = item;
+                        return true;
+                    }
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class DoubleSelectIterator extends DoubleIterator {
+    private final IDoubleEnumerable source;
+    private final DoubleToDoubleFunc1 selector;
+    private IDoubleEnumerator enumerator;
+
+    DoubleSelectIterator(IDoubleEnumerable source, DoubleToDoubleFunc1 selector) {
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public DoubleIterator clone() {
+        return new DoubleSelectIterator(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.apply(this.enumerator.currentDouble());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class DoubleSelectToObjIterator<TResult> extends AbstractIterator<TResult> {
+    private final IDoubleEnumerable source;
+    private final DoubleToObjFunc1<TResult> selector;
+    private IDoubleEnumerator enumerator;
+
+    DoubleSelectToObjIterator(IDoubleEnumerable source, DoubleToObjFunc1<TResult> selector) {
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public AbstractIterator<TResult> clone() {
+        return new DoubleSelectToObjIterator<>(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.apply(this.enumerator.currentDouble());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class DoubleDistinctIterator extends DoubleIterator {
+    private final IDoubleEnumerable source;
+    private IDoubleEnumerator enumerator;
+    private LongSet set;// bits of the values, same equality as Double.equals
+
+    DoubleDistinctIterator(IDoubleEnumerable source) {
+        this.source = source;
+    }
+
+    @Override
+    public DoubleIterator clone() {
+        return new DoubleDistinctIterator(this.source);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.set = new LongSet();
+                this.state = 2;
+            case 2:
+                while (this.enumerator.moveNext()) {
+                    double item = this.enumerator.currentDouble();
+                    if (this.set.add(Double.doubleToLongBits(item))) {
+                        this.current = item;
+                        return true;
+                    }
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+            this.set = null;
+        }
+        super.close();
+    }
+}
+
+
+final class DoubleOrderByIterator extends DoubleIterator {
+    private final IDoubleEnumerable source;
+    private final boolean descending;
+    private double[] buffer;
+    private int index;
+
+    DoubleOrderByIterator(IDoubleEnumerable source, boolean descending) {
+        this.source = source;
+        this.descending = descending;
+    }
+
+    @Override
+    public DoubleIterator clone() {
+        return new DoubleOrderByIterator(this.source, this.descending);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                double[] buffer = DoubleEnumerable.toArray(this.source);
+                Arrays.sort(buffer);
+                this.buffer = buffer;
+                this.index = 0;
+                this.state = 2;
+            case 2:
+                int count = this.buffer.length;
+                if (this.index < count) {
+                    this.current = this.descending ? this.buffer[count - 1 - this.index] : this.buffer[this.index];
+                    this.index++;
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        this.buffer = null;
+        super.close();
+    }
+}
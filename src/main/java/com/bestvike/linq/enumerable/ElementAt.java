@@ -5,7 +5,6 @@ import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
-import com.bestvike.out;
 
 /**
  * Created by 许崇雷 on 2018-04-27.
@@ -20,10 +19,10 @@ public final class ElementAt {
 
         if (source instanceof IPartition) {
             IPartition<TSource> partition = (IPartition<TSource>) source;
-            out<Boolean> foundRef = out.init();
-            TSource element = partition._tryGetElementAt(index, foundRef);
-            if (foundRef.value)
-                return element;
+            Object element = partition._tryGetElementAt(index);
+            if (element != IPartition.NOT_FOUND)
+                //noinspection unchecked
+                return (TSource) element;
         } else {
             if (source instanceof IList) {
                 IList<TSource> list = (IList<TSource>) source;
@@ -50,8 +49,9 @@ public final class ElementAt {
 
         if (source instanceof IPartition) {
             IPartition<TSource> partition = (IPartition<TSource>) source;
-            out<Boolean> foundRef = out.init();
-            return partition._tryGetElementAt(index, foundRef);
+            Object element = partition._tryGetElementAt(index);
+            //noinspection unchecked
+            return element == IPartition.NOT_FOUND ? null : (TSource) element;
         }
 
         if (index >= 0) {
@@ -71,4 +71,46 @@ public final class ElementAt {
         }
         return null;
     }
+
+    public static <TSource> TSource elementAt(IEnumerable<TSource> source, long index) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (index >= Integer.MIN_VALUE && index <= Integer.MAX_VALUE)
+            return elementAt(source, (int) index);
+
+        Object element = tryGetElementAt(source, index);
+        if (element == IPartition.NOT_FOUND)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.index);
+        //noinspection unchecked
+        return (TSource) element;
+    }
+
+    public static <TSource> TSource elementAtOrDefault(IEnumerable<TSource> source, long index) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (index >= Integer.MIN_VALUE && index <= Integer.MAX_VALUE)
+            return elementAtOrDefault(source, (int) index);
+
+        Object element = tryGetElementAt(source, index);
+        //noinspection unchecked
+        return element == IPartition.NOT_FOUND ? null : (TSource) element;
+    }
+
+    // Index is out of the int range here, only a source without a known count can hold such an element.
+    private static <TSource> Object tryGetElementAt(IEnumerable<TSource> source, long index) {
+        if (index < 0 || EnumerableHelpers.tryGetCount(source) >= 0)
+            return IPartition.NOT_FOUND;
+
+        long[] remains = {index};
+        Object[] element = {IPartition.NOT_FOUND};
+        EnumerableHelpers.consume(source, item -> {
+            if (remains[0]-- != 0)
+                return true;
+            element[0] = item;
+            return false;
+        });
+        return element[0];
+    }
 }
@@ -0,0 +1,27 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.util.function.Consumer;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public final class ForEach {
+    private ForEach() {
+    }
+
+    public static <TSource> void forEach(IEnumerable<TSource> source, Consumer<TSource> action) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (action == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.action);
+
+        EnumerableHelpers.consume(source, item -> {
+            action.accept(item);
+            return true;
+        });
+    }
+}
@@ -0,0 +1,118 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.EqualityComparer;
+import com.bestvike.collections.generic.IEqualityComparer;
+import com.bestvike.function.Func1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.IGrouping;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+/**
+ * Groups runs of adjacent elements with equal keys. A key that comes back after another key starts a new group.
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public final class GroupAdjacent {
+    private GroupAdjacent() {
+    }
+
+    public static <TSource, TKey> IEnumerable<IGrouping<TKey, TSource>> groupAdjacent(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector) {
+        return groupAdjacent(source, keySelector, (IEqualityComparer<TKey>) null);
+    }
+
+    public static <TSource, TKey> IEnumerable<IGrouping<TKey, TSource>> groupAdjacent(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, IEqualityComparer<TKey> comparer) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        return new GroupAdjacentIterator<>(source, keySelector, null, comparer);
+    }
+
+    public static <TSource, TKey, TElement> IEnumerable<IGrouping<TKey, TElement>> groupAdjacent(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector) {
+        return groupAdjacent(source, keySelector, elementSelector, null);
+    }
+
+    public static <TSource, TKey, TElement> IEnumerable<IGrouping<TKey, TElement>> groupAdjacent(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector, IEqualityComparer<TKey> comparer) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+        if (elementSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.elementSelector);
+
+        return new GroupAdjacentIterator<>(source, keySelector, elementSelector, comparer);
+    }
+}
+
+
+// Only the group being filled is referenced, the first element of the next group stays in the source enumerator.
+final class GroupAdjacentIterator<TSource, TKey, TElement> extends AbstractIterator<IGrouping<TKey, TElement>> {
+    private final IEnumerable<TSource> source;
+    private final Func1<TSource, TKey> keySelector;
+    private final Func1<TSource, TElement> elementSelector;// null selects the element itself
+    private final IEqualityComparer<TKey> comparer;
+    private IEnumerator<TSource> enumerator;
+    private boolean hasNext;
+
+    GroupAdjacentIterator(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector, IEqualityComparer<TKey> comparer) {
+        this.source = source;
+        this.keySelector = keySelector;
+        this.elementSelector = elementSelector;
+        this.comparer = comparer == null ? EqualityComparer.Default() : comparer;
+    }
+
+    @Override
+    public AbstractIterator<IGrouping<TKey, TElement>> clone() {
+        return new GroupAdjacentIterator<>(this.source, this.keySelector, this.elementSelector, this.comparer);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.hasNext = this.enumerator.moveNext();
+                this.state = 2;
+            case 2:
+                if (!this.hasNext) {
+                    this.close();
+                    return false;
+                }
+                TSource item = this.enumerator.current();
+                TKey key = this.keySelector.apply(item);
+                Grouping<TKey, TElement> grouping = new Grouping<>(key, 0);
+                grouping.add(this.select(item));
+                this.hasNext = false;
+                while (this.enumerator.moveNext()) {
+                    item = this.enumerator.current();
+                    if (!this.comparer.equals(key, this.keySelector.apply(item))) {
+                        this.hasNext = true;
+                        break;
+                    }
+                    grouping.add(this.select(item));
+                }
+                grouping.trim();
+                this.current = grouping;
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private TElement select(TSource item) {
+        //noinspection unchecked
+        return this.elementSelector == null ? (TElement) item : this.elementSelector.apply(item);
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
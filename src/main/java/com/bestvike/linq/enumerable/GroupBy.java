@@ -3,6 +3,8 @@ package com.bestvike.linq.enumerable;
 import com.bestvike.collections.generic.IEqualityComparer;
 import com.bestvike.function.Func1;
 import com.bestvike.function.Func2;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.IGrouping;
@@ -49,6 +51,14 @@ public final class GroupBy {
     public static <TSource, TKey, TElement, TResult> IEnumerable<TResult> groupBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector, Func2<TKey, IEnumerable<TElement>, TResult> resultSelector, IEqualityComparer<TKey> comparer) {
         return new GroupedResultEnumerable2<>(source, keySelector, elementSelector, resultSelector, comparer);
     }
+
+    public static <TSource> IEnumerable<IGrouping<Integer, TSource>> groupByInt(IEnumerable<TSource> source, IntFunc1<TSource> keySelector) {
+        return new GroupedIntEnumerable<>(source, keySelector);
+    }
+
+    public static <TSource> IEnumerable<IGrouping<Long, TSource>> groupByLong(IEnumerable<TSource> source, LongFunc1<TSource> keySelector) {
+        return new GroupedLongEnumerable<>(source, keySelector);
+    }
 }
 
 
@@ -246,3 +256,85 @@ final class GroupedResultEnumerable2<TSource, TKey, TElement, TResult> implement
         return onlyIfCheap ? -1 : Lookup.create(this.source, this.keySelector, this.elementSelector, this.comparer).getCount();
     }
 }
+
+
+final class GroupedIntEnumerable<TSource> implements IIListProvider<IGrouping<Integer, TSource>> {
+    private final IEnumerable<TSource> source;
+    private final IntFunc1<TSource> keySelector;
+
+    GroupedIntEnumerable(IEnumerable<TSource> source, IntFunc1<TSource> keySelector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        this.source = source;
+        this.keySelector = keySelector;
+    }
+
+    @Override
+    public IEnumerator<IGrouping<Integer, TSource>> enumerator() {
+        return IntLookup.create(this.source, this.keySelector).enumerator();
+    }
+
+    @Override
+    public IGrouping<Integer, TSource>[] _toArray(Class<IGrouping<Integer, TSource>> clazz) {
+        return IntLookup.create(this.source, this.keySelector)._toArray(clazz);
+    }
+
+    @Override
+    public Object[] _toArray() {
+        return IntLookup.create(this.source, this.keySelector)._toArray();
+    }
+
+    @Override
+    public List<IGrouping<Integer, TSource>> _toList() {
+        return IntLookup.create(this.source, this.keySelector)._toList();
+    }
+
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        return onlyIfCheap ? -1 : IntLookup.create(this.source, this.keySelector).getCount();
+    }
+}
+
+
+final class GroupedLongEnumerable<TSource> implements IIListProvider<IGrouping<Long, TSource>> {
+    private final IEnumerable<TSource> source;
+    private final LongFunc1<TSource> keySelector;
+
+    GroupedLongEnumerable(IEnumerable<TSource> source, LongFunc1<TSource> keySelector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        this.source = source;
+        this.keySelector = keySelector;
+    }
+
+    @Override
+    public IEnumerator<IGrouping<Long, TSource>> enumerator() {
+        return LongLookup.create(this.source, this.keySelector).enumerator();
+    }
+
+    @Override
+    public IGrouping<Long, TSource>[] _toArray(Class<IGrouping<Long, TSource>> clazz) {
+        return LongLookup.create(this.source, this.keySelector)._toArray(clazz);
+    }
+
+    @Override
+    public Object[] _toArray() {
+        return LongLookup.create(this.source, this.keySelector)._toArray();
+    }
+
+    @Override
+    public List<IGrouping<Long, TSource>> _toList() {
+        return LongLookup.create(this.source, this.keySelector)._toList();
+    }
+
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        return onlyIfCheap ? -1 : LongLookup.create(this.source, this.keySelector).getCount();
+    }
+}
@@ -0,0 +1,643 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.IArray;
+import com.bestvike.function.IntPredicate1;
+import com.bestvike.function.IntToIntFunc1;
+import com.bestvike.function.IntToObjFunc1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.IIntEnumerable;
+import com.bestvike.linq.IIntEnumerator;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.util.Arrays;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public final class IntEnumerable {
+    private static final int[] EMPTY = new int[0];
+
+    private IntEnumerable() {
+    }
+
+    public static IIntEnumerable of(int[] source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new IntArrayIterator(source, 0, source.length);
+    }
+
+    public static IIntEnumerable asIntEnumerable(IEnumerable<Integer> source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof IArray) {
+            IArray<Integer> array = (IArray<Integer>) source;
+            Object items = array.getArray();
+            if (items instanceof int[])
+                return new IntArrayIterator((int[]) items, array._getStartIndex(), array._getEndIndex());
+        }
+        if (source instanceof RangeIterator)
+            return ((RangeIterator) source)._asIntEnumerable();
+        if (source instanceof EmptyPartition)
+            return new IntArrayIterator(EMPTY, 0, 0);
+        return new IntUnboxIterator(source);
+    }
+
+    public static IEnumerable<Integer> boxed(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new IntSelectToObjIterator<>(source, Integer::valueOf);
+    }
+
+    public static IIntEnumerable where(IIntEnumerable source, IntPredicate1 predicate) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (predicate == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.predicate);
+
+        return new IntWhereIterator(source, predicate);
+    }
+
+    public static IIntEnumerable select(IIntEnumerable source, IntToIntFunc1 selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return new IntSelectIterator(source, selector);
+    }
+
+    public static <TResult> IEnumerable<TResult> selectToObj(IIntEnumerable source, IntToObjFunc1<TResult> selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return new IntSelectToObjIterator<>(source, selector);
+    }
+
+    public static IIntEnumerable distinct(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new IntDistinctIterator(source);
+    }
+
+    public static IIntEnumerable orderBy(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new IntOrderByIterator(source, false);
+    }
+
+    public static IIntEnumerable orderByDescending(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new IntOrderByIterator(source, true);
+    }
+
+    public static int count(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof IntArrayIterator) {
+            IntArrayIterator array = (IntArrayIterator) source;
+            return array.end - array.start;
+        }
+
+        int count = 0;
+        try (IIntEnumerator e = source.enumerator()) {
+            while (e.moveNext())
+                count = Math.addExact(count, 1);
+        }
+        return count;
+    }
+
+    public static int sum(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof IntArrayIterator) {
+            IntArrayIterator array = (IntArrayIterator) source;
+            return sum(array.source, array.start, array.end);
+        }
+
+        int sum = 0;
+        try (IIntEnumerator e = source.enumerator()) {
+            while (e.moveNext())
+                sum = Math.addExact(sum, e.currentInt());
+        }
+        return sum;
+    }
+
+    public static int min(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof IntArrayIterator) {
+            IntArrayIterator array = (IntArrayIterator) source;
+            return min(array.source, array.start, array.end);
+        }
+
+        int value;
+        try (IIntEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            value = e.currentInt();
+            while (e.moveNext()) {
+                int x = e.currentInt();
+                if (x < value)
+                    value = x;
+            }
+        }
+        return value;
+    }
+
+    public static int max(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof IntArrayIterator) {
+            IntArrayIterator array = (IntArrayIterator) source;
+            return max(array.source, array.start, array.end);
+        }
+
+        int value;
+        try (IIntEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            value = e.currentInt();
+            while (e.moveNext()) {
+                int x = e.currentInt();
+                if (x > value)
+                    value = x;
+            }
+        }
+        return value;
+    }
+
+    public static double average(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof IntArrayIterator) {
+            IntArrayIterator array = (IntArrayIterator) source;
+            return average(array.source, array.start, array.end);
+        }
+
+        try (IIntEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            long sum = e.currentInt();
+            long count = 1;
+            while (e.moveNext()) {
+                sum = Math.addExact(sum, e.currentInt());
+                count = Math.addExact(count, 1);
+            }
+            return (double) sum / count;
+        }
+    }
+
+    // Indexed loops over a range of primitive array, also used by the IArray fast paths of the boxed aggregates.
+    static int sum(int[] source, int start, int end) {
+        int sum = 0;
+        for (int i = start; i < end; i++)
+            sum = Math.addExact(sum, source[i]);
+        return sum;
+    }
+
+    static int min(int[] source, int start, int end) {
+        if (start == end)
+            ThrowHelper.throwNoElementsException();
+        int value = source[start];
+        for (int i = start + 1; i < end; i++)
+            value = Math.min(value, source[i]);
+        return value;
+    }
+
+    static int max(int[] source, int start, int end) {
+        if (start == end)
+            ThrowHelper.throwNoElementsException();
+        int value = source[start];
+        for (int i = start + 1; i < end; i++)
+            value = Math.max(value, source[i]);
+        return value;
+    }
+
+    static double average(int[] source, int start, int end) {
+        if (start == end)
+            ThrowHelper.throwNoElementsException();
+        long sum = 0;
+        for (int i = start; i < end; i++)
+            sum += source[i];// can not overflow, the count is int
+        return (double) sum / (end - start);
+    }
+
+    public static int[] toArray(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof IntArrayIterator) {
+            IntArrayIterator array = (IntArrayIterator) source;
+            return Arrays.copyOfRange(array.source, array.start, array.end);
+        }
+
+        int[] array = EMPTY;
+        int count = 0;
+        try (IIntEnumerator e = source.enumerator()) {
+            while (e.moveNext()) {
+                if (count == array.length)
+                    array = Arrays.copyOf(array, count == 0 ? 4 : Math.multiplyExact(count, 2));
+                array[count++] = e.currentInt();
+            }
+        }
+        return count == array.length ? array : Arrays.copyOf(array, count);
+    }
+}
+
+
+abstract class IntIterator implements IIntEnumerable, IIntEnumerator {
+    private final long threadId;
+    int state;
+    int current;
+
+    IntIterator() {
+        this.threadId = Thread.currentThread().getId();
+    }
+
+    @Override
+    public abstract IntIterator clone();
+
+    @Override
+    public IIntEnumerator enumerator() {
+        IntIterator enumerator = this.state == 0 && this.threadId == Thread.currentThread().getId() ? this : this.clone();
+        enumerator.state = 1;
+        return enumerator;
+    }
+
+    @Override
+    public int currentInt() {
+        return this.current;
+    }
+
+    @Override
+    public void close() {
+        this.current = 0;
+        this.state = -1;
+    }
+}
+
+
+final class IntArrayIterator extends IntIterator {
+    final int[] source;
+    final int start;
+    final int end;
+    private int index;
+
+    IntArrayIterator(int[] source, int start, int end) {
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public IntIterator clone() {
+        return new IntArrayIterator(this.source, this.start, this.end);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.index = this.start;
+                this.state = 2;
+            case 2:
+                if (this.index < this.end) {
+                    this.current = this.source[this.index++];
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+}
+
+
+final class IntRangeIterator extends IntIterator {
+    private final int start;
+    private final int end;
+
+    IntRangeIterator(int start, int end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public IntIterator clone() {
+        return new IntRangeIterator(this.start, this.end);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                if (this.start == this.end) {
+                    this.close();
+                    return false;
+                }
+                this.current = this.start;
+                this.state = 2;
+                return true;
+            case 2:
+                if (++this.current == this.end) {
+                    this.close();
+                    return false;
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+}
+
+
+final class IntUnboxIterator extends IntIterator {
+    private final IEnumerable<Integer> source;
+    private IEnumerator<Integer> enumerator;
+
+    IntUnboxIterator(IEnumerable<Integer> source) {
+        this.source = source;
+    }
+
+    @Override
+    public IntIterator clone() {
+        return new IntUnboxIterator(this.source);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.enumerator.current();
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class IntWhereIterator extends IntIterator {
+    private final IIntEnumerable source;
+    private final IntPredicate1 predicate;
+    private IIntEnumerator enumerator;
+
+    IntWhereIterator(IIntEnumerable source, IntPredicate1 predicate) {
+        this.source = source;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public IntIterator clone() {
+        return new IntWhereIterator(this.source, this.predicate);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                while (this.enumerator.moveNext()) {
+                    int item = this.enumerator.currentInt();
+                    if (this.predicate.apply(item)) {
+                        this.current = item;
+                        return true;
+                    }
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class IntSelectIterator extends IntIterator {
+    private final IIntEnumerable source;
+    private final IntToIntFunc1 selector;
+    private IIntEnumerator enumerator;
+
+    IntSelectIterator(IIntEnumerable source, IntToIntFunc1 selector) {
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public IntIterator clone() {
+        return new IntSelectIterator(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.apply(this.enumerator.currentInt());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class IntSelectToObjIterator<TResult> extends AbstractIterator<TResult> {
+    private final IIntEnumerable source;
+    private final IntToObjFunc1<TResult> selector;
+    private IIntEnumerator enumerator;
+
+    IntSelectToObjIterator(IIntEnumerable source, IntToObjFunc1<TResult> selector) {
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public AbstractIterator<TResult> clone() {
+        return new IntSelectToObjIterator<>(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.apply(this.enumerator.currentInt());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class IntDistinctIterator extends IntIterator {
+    private final IIntEnumerable source;
+    private IIntEnumerator enumerator;
+    private IntSet set;
+
+    IntDistinctIterator(IIntEnumerable source) {
+        this.source = source;
+    }
+
+    @Override
+    public IntIterator clone() {
+        return new IntDistinctIterator(this.source);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.set = new IntSet();
+                this.state = 2;
+            case 2:
+                while (this.enumerator.moveNext()) {
+                    int item = this.enumerator.currentInt();
+                    if (this.set.add(item)) {
+                        this.current = item;
+                        return true;
+                    }
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+            this.set = null;
+        }
+        super.close();
+    }
+}
+
+
+final class IntOrderByIterator extends IntIterator {
+    private final IIntEnumerable source;
+    private final boolean descending;
+    private int[] buffer;
+    private int index;
+
+    IntOrderByIterator(IIntEnumerable source, boolean descending) {
+        this.source = source;
+        this.descending = descending;
+    }
+
+    @Override
+    public IntIterator clone() {
+        return new IntOrderByIterator(this.source, this.descending);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                int[] buffer = IntEnumerable.toArray(this.source);
+                Arrays.sort(buffer);
+                this.buffer = buffer;
+                this.index = 0;
+                this.state = 2;
+            case 2:
+                int count = this.buffer.length;
+                if (this.index < count) {
+                    this.current = this.descending ? this.buffer[count - 1 - this.index] : this.buffer[this.index];
+                    this.index++;
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        this.buffer = null;
+        super.close();
+    }
+}
@@ -8,6 +8,7 @@ import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
+import com.bestvike.linq.util.JoinBuildSide;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -38,6 +39,25 @@ public final class Join {
         return new JoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, resultSelector, comparer);
     }
 
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> join(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, IEqualityComparer<TKey> comparer, JoinBuildSide buildSide) {
+        if (outer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outer);
+        if (inner == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.inner);
+        if (outerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerKeySelector);
+        if (innerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerKeySelector);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+        if (buildSide == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.buildSide);
+
+        return buildSide == JoinBuildSide.Inner
+                ? new JoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, resultSelector, comparer)
+                : new SmallerSideJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, resultSelector, comparer, buildSide == JoinBuildSide.SmallerOrdered);
+    }
+
     public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> leftJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector) {
         return leftJoin(outer, inner, outerKeySelector, innerKeySelector, null, resultSelector, null);
     }
@@ -140,10 +160,10 @@ final class JoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator
     private final Func2<TOuter, TInner, TResult> resultSelector;
     private final IEqualityComparer<TKey> comparer;
     private IEnumerator<TOuter> outerEnumerator;
-    private Lookup<TKey, TInner> lookup;
+    private CompactLookup<TKey, TInner> lookup;
     private TOuter item;
-    private Grouping<TKey, TInner> g;
     private int index;
+    private int end;
 
     JoinIterator(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, IEqualityComparer<TKey> comparer) {
         this.outer = outer;
@@ -169,7 +189,7 @@ final class JoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator
                         this.close();
                         return false;
                     }
-                    this.lookup = Lookup.createForJoin(this.inner, this.innerKeySelector, this.comparer);
+                    this.lookup = CompactLookup.createForJoin(this.inner, this.innerKeySelector, this.comparer);
                     if (this.lookup.getCount() == 0) {
                         this.close();
                         return false;
@@ -177,12 +197,13 @@ final class JoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator
                     this.state = 2;
                 case 2:
                     this.item = this.outerEnumerator.current();
-                    this.g = this.lookup.fetchGrouping(this.outerKeySelector.apply(this.item));
-                    if (this.g == null) {
+                    int g = this.lookup.fetchGroup(this.outerKeySelector.apply(this.item));
+                    if (g == -1) {
                         this.state = 3;
                         break;
                     }
-                    this.index = -1;
+                    this.index = this.lookup.startOf(g) - 1;
+                    this.end = this.lookup.endOf(g);
                     this.state = 4;
                     break;
                 case 3:
@@ -194,8 +215,8 @@ final class JoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator
                     break;
                 case 4:
                     this.index++;
-                    if (this.index < this.g._getCount()) {
-                        this.current = this.resultSelector.apply(this.item, this.g.get(this.index));
+                    if (this.index < this.end) {
+                        this.current = this.resultSelector.apply(this.item, this.lookup.elementOf(this.index));
                         return true;
                     }
                     this.state = 3;
@@ -213,13 +234,178 @@ final class JoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator
             this.outerEnumerator = null;
             this.lookup = null;
             this.item = null;
-            this.g = null;
         }
         super.close();
     }
 }
 
 
+// Hashes the outer sequence when both counts are cheap and the outer one is smaller, otherwise works as JoinIterator.
+final class SmallerSideJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator<TResult> {
+    private final IEnumerable<TOuter> outer;
+    private final IEnumerable<TInner> inner;
+    private final Func1<TOuter, TKey> outerKeySelector;
+    private final Func1<TInner, TKey> innerKeySelector;
+    private final Func2<TOuter, TInner, TResult> resultSelector;
+    private final IEqualityComparer<TKey> comparer;
+    private final boolean ordered;
+    private IEnumerator<TResult> joinEnumerator;// inner sequence hashed
+    private IEnumerator<TInner> innerEnumerator;// outer sequence hashed, unordered
+    private CompactLookup<TKey, TOuter> lookup;
+    private TInner item;
+    private int index;
+    private int end;
+    private Object[] outerArray;// outer sequence hashed, ordered
+    private Object[] outerKeys;
+    private CompactLookup<TKey, TInner> matches;// inner elements whose key is in the outer sequence
+    private int outerIndex;
+
+    SmallerSideJoinIterator(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, IEqualityComparer<TKey> comparer, boolean ordered) {
+        this.outer = outer;
+        this.inner = inner;
+        this.outerKeySelector = outerKeySelector;
+        this.innerKeySelector = innerKeySelector;
+        this.resultSelector = resultSelector;
+        this.comparer = comparer;
+        this.ordered = ordered;
+    }
+
+    @Override
+    public AbstractIterator<TResult> clone() {
+        return new SmallerSideJoinIterator<>(this.outer, this.inner, this.outerKeySelector, this.innerKeySelector, this.resultSelector, this.comparer, this.ordered);
+    }
+
+    private boolean hashOuter() {
+        int outerCount = EnumerableHelpers.tryGetCount(this.outer);
+        if (outerCount < 0)
+            return false;
+        int innerCount = EnumerableHelpers.tryGetCount(this.inner);
+        return innerCount >= 0 && outerCount < innerCount;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean moveNext() {
+        do {
+            switch (this.state) {
+                case 1:
+                    if (!this.hashOuter()) {
+                        this.joinEnumerator = new JoinIterator<>(this.outer, this.inner, this.outerKeySelector, this.innerKeySelector, this.resultSelector, this.comparer).enumerator();
+                        this.state = 2;
+                        break;
+                    }
+                    if (this.ordered) {
+                        this.state = 5;
+                        break;
+                    }
+                    this.lookup = CompactLookup.createForJoin(this.outer, this.outerKeySelector, this.comparer);
+                    if (this.lookup.getCount() == 0) {
+                        this.close();
+                        return false;
+                    }
+                    this.innerEnumerator = this.inner.enumerator();
+                    this.state = 3;
+                    break;
+                case 2:
+                    if (this.joinEnumerator.moveNext()) {
+                        this.current = this.joinEnumerator.current();
+                        return true;
+                    }
+                    this.close();
+                    return false;
+                case 3:
+                    if (!this.innerEnumerator.moveNext()) {
+                        this.close();
+                        return false;
+                    }
+                    this.item = this.innerEnumerator.current();
+                    int g = this.lookup.fetchGroup(this.innerKeySelector.apply(this.item));
+                    if (g == -1)
+                        break;
+                    this.index = this.lookup.startOf(g) - 1;
+                    this.end = this.lookup.endOf(g);
+                    this.state = 4;
+                case 4:
+                    this.index++;
+                    if (this.index < this.end) {
+                        this.current = this.resultSelector.apply(this.lookup.elementOf(this.index), this.item);
+                        return true;
+                    }
+                    this.state = 3;
+                    break;
+                case 5:
+                    // Keep only the inner elements whose key is in the outer sequence, then stream the outer sequence in
+                    // order over them. The matched inner elements are held until the end, so when most of the inner
+                    // sequence matches this holds nearly all of it, the price of returning the results in outer order.
+                    Object[] outerArray = EnumerableHelpers.toArray(this.outer);
+                    Object[] outerKeys = new Object[outerArray.length];
+                    Set<TKey> keys = new Set<>(this.comparer);
+                    boolean any = false;
+                    for (int i = 0; i < outerArray.length; i++) {
+                        TKey key = this.outerKeySelector.apply((TOuter) outerArray[i]);
+                        if (key == null)
+                            continue;
+                        outerKeys[i] = key;
+                        keys.add(key);
+                        any = true;
+                    }
+                    if (!any) {
+                        this.close();
+                        return false;
+                    }
+                    this.matches = CompactLookup.createForJoin(this.inner, item -> {
+                        TKey key = this.innerKeySelector.apply(item);
+                        return key != null && keys.contains(key) ? key : null;
+                    }, this.comparer);
+                    this.outerArray = outerArray;
+                    this.outerKeys = outerKeys;
+                    this.outerIndex = -1;
+                    this.state = 6;
+                case 6:
+                    if (++this.outerIndex == this.outerArray.length) {
+                        this.close();
+                        return false;
+                    }
+                    int group = this.matches.fetchGroup((TKey) this.outerKeys[this.outerIndex]);
+                    if (group == -1)
+                        break;
+                    this.index = this.matches.startOf(group) - 1;
+                    this.end = this.matches.endOf(group);
+                    this.state = 7;
+                case 7:
+                    this.index++;
+                    if (this.index < this.end) {
+                        this.current = this.resultSelector.apply((TOuter) this.outerArray[this.outerIndex], this.matches.elementOf(this.index));
+                        return true;
+                    }
+                    this.state = 6;
+                    break;
+                default:
+                    return false;
+            }
+        } while (true);
+    }
+
+    @Override
+    public void close() {
+        if (this.joinEnumerator != null) {
+            this.joinEnumerator.close();
+            this.joinEnumerator = null;
+        }
+        if (this.innerEnumerator != null) {
+            this.innerEnumerator.close();
+            this.innerEnumerator = null;
+        }
+        this.lookup = null;
+        this.item = null;
+        this.outerArray = null;
+        this.outerKeys = null;
+        this.matches = null;
+        super.close();
+    }
+}
+
+
 final class LeftJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator<TResult> {
     private final IEnumerable<TOuter> outer;
     private final IEnumerable<TInner> inner;
@@ -229,10 +415,10 @@ final class LeftJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIter
     private final Func2<TOuter, TInner, TResult> resultSelector;
     private final IEqualityComparer<TKey> comparer;
     private IEnumerator<TOuter> outerEnumerator;
-    private Lookup<TKey, TInner> lookup;
+    private CompactLookup<TKey, TInner> lookup;
     private TOuter item;
-    private Grouping<TKey, TInner> g;
     private int index;
+    private int end;
 
     LeftJoinIterator(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector, IEqualityComparer<TKey> comparer) {
         this.outer = outer;
@@ -259,17 +445,18 @@ final class LeftJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIter
                         this.close();
                         return false;
                     }
-                    this.lookup = Lookup.createForJoin(this.inner, this.innerKeySelector, this.comparer);
+                    this.lookup = CompactLookup.createForJoin(this.inner, this.innerKeySelector, this.comparer);
                     this.state = 2;
                 case 2:
                     this.item = this.outerEnumerator.current();
-                    this.g = this.lookup.fetchGrouping(this.outerKeySelector.apply(this.item));
-                    if (this.g == null) {
+                    int g = this.lookup.fetchGroup(this.outerKeySelector.apply(this.item));
+                    if (g == -1) {
                         this.current = this.resultSelector.apply(this.item, this.defaultInner);
                         this.state = 3;
                         return true;
                     }
-                    this.index = -1;
+                    this.index = this.lookup.startOf(g) - 1;
+                    this.end = this.lookup.endOf(g);
                     this.state = 4;
                     break;
                 case 3:
@@ -281,8 +468,8 @@ final class LeftJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIter
                     break;
                 case 4:
                     this.index++;
-                    if (this.index < this.g._getCount()) {
-                        this.current = this.resultSelector.apply(this.item, this.g.get(this.index));
+                    if (this.index < this.end) {
+                        this.current = this.resultSelector.apply(this.item, this.lookup.elementOf(this.index));
                         return true;
                     }
                     this.state = 3;
@@ -300,7 +487,6 @@ final class LeftJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIter
             this.outerEnumerator = null;
             this.lookup = null;
             this.item = null;
-            this.g = null;
         }
         super.close();
     }
@@ -564,7 +750,7 @@ final class CrossJoinIterator<TOuter, TInner, TResult> extends Iterator<TResult>
     @Override
     public TResult[] _toArray(Class<TResult> clazz) {
         int count = this._getCount(true);
-        LargeArrayBuilder<TResult> builder = count == -1 ? new LargeArrayBuilder<>() : new LargeArrayBuilder<>(count);
+        LargeArrayBuilder<TResult> builder = count == -1 ? new LargeArrayBuilder<>(clazz) : new LargeArrayBuilder<>(clazz, count);
         try (IEnumerator<TOuter> outerEnumerator = this.outer.enumerator()) {
             while (outerEnumerator.moveNext()) {
                 TOuter item = outerEnumerator.current();
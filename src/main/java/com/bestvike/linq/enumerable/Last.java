@@ -7,7 +7,6 @@ import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
-import com.bestvike.out;
 
 /**
  * Created by 许崇雷 on 2018-05-02.
@@ -17,47 +16,48 @@ public final class Last {
     }
 
     public static <TSource> TSource last(IEnumerable<TSource> source) {
-        out<Boolean> foundRef = out.init();
-        TSource last = tryGetLast(source, foundRef);
-        if (!foundRef.value)
+        Object last = tryGetLast(source);
+        if (last == IPartition.NOT_FOUND)
             ThrowHelper.throwNoElementsException();
 
-        return last;
+        //noinspection unchecked
+        return (TSource) last;
     }
 
     public static <TSource> TSource last(IEnumerable<TSource> source, Predicate1<TSource> predicate) {
-        out<Boolean> foundRef = out.init();
-        TSource last = tryGetLast(source, predicate, foundRef);
-        if (!foundRef.value)
+        Object last = tryGetLast(source, predicate);
+        if (last == IPartition.NOT_FOUND)
             ThrowHelper.throwNoMatchException();
 
-        return last;
+        //noinspection unchecked
+        return (TSource) last;
     }
 
     public static <TSource> TSource lastOrDefault(IEnumerable<TSource> source) {
-        out<Boolean> foundRef = out.init();
-        return tryGetLast(source, foundRef);
+        Object last = tryGetLast(source);
+        //noinspection unchecked
+        return last == IPartition.NOT_FOUND ? null : (TSource) last;
     }
 
     public static <TSource> TSource lastOrDefault(IEnumerable<TSource> source, Predicate1<TSource> predicate) {
-        out<Boolean> foundRef = out.init();
-        return tryGetLast(source, predicate, foundRef);
+        Object last = tryGetLast(source, predicate);
+        //noinspection unchecked
+        return last == IPartition.NOT_FOUND ? null : (TSource) last;
     }
 
-    private static <TSource> TSource tryGetLast(IEnumerable<TSource> source, out<Boolean> found) {
+    private static <TSource> Object tryGetLast(IEnumerable<TSource> source) {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
         if (source instanceof IPartition) {
             IPartition<TSource> partition = (IPartition<TSource>) source;
-            return partition._tryGetLast(found);
+            return partition._tryGetLast();
         }
 
         if (source instanceof IList) {
             IList<TSource> list = (IList<TSource>) source;
             int count = list._getCount();
             if (count > 0) {
-                found.value = true;
                 return list.get(count - 1);
             }
         } else {
@@ -68,17 +68,15 @@ public final class Last {
                         result = e.current();
                     } while (e.moveNext());
 
-                    found.value = true;
                     return result;
                 }
             }
         }
 
-        found.value = false;
-        return null;
+        return IPartition.NOT_FOUND;
     }
 
-    private static <TSource> TSource tryGetLast(IEnumerable<TSource> source, Predicate1<TSource> predicate, out<Boolean> found) {
+    private static <TSource> Object tryGetLast(IEnumerable<TSource> source, Predicate1<TSource> predicate) {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
         if (predicate == null)
@@ -86,7 +84,7 @@ public final class Last {
 
         if (source instanceof AbstractOrderedEnumerable) {
             AbstractOrderedEnumerable<TSource> ordered = (AbstractOrderedEnumerable<TSource>) source;
-            return ordered._tryGetLast(predicate, found);
+            return ordered._tryGetLast(predicate);
         }
 
         if (source instanceof IArrayList) {
@@ -94,7 +92,6 @@ public final class Last {
             for (int i = list._getCount() - 1; i >= 0; --i) {
                 TSource result = list.get(i);
                 if (predicate.apply(result)) {
-                    found.value = true;
                     return result;
                 }
             }
@@ -109,14 +106,12 @@ public final class Last {
                                 result = element;
                         }
 
-                        found.value = true;
                         return result;
                     }
                 }
             }
         }
 
-        found.value = false;
-        return null;
+        return IPartition.NOT_FOUND;
     }
 }
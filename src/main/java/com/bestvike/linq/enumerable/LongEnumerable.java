@@ -0,0 +1,603 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.IArray;
+import com.bestvike.function.LongPredicate1;
+import com.bestvike.function.LongToLongFunc1;
+import com.bestvike.function.LongToObjFunc1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.ILongEnumerable;
+import com.bestvike.linq.ILongEnumerator;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.util.Arrays;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public final class LongEnumerable {
+    private static final long[] EMPTY = new long[0];
+
+    private LongEnumerable() {
+    }
+
+    public static ILongEnumerable of(long[] source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new LongArrayIterator(source, 0, source.length);
+    }
+
+    public static ILongEnumerable asLongEnumerable(IEnumerable<Long> source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof IArray) {
+            IArray<Long> array = (IArray<Long>) source;
+            Object items = array.getArray();
+            if (items instanceof long[])
+                return new LongArrayIterator((long[]) items, array._getStartIndex(), array._getEndIndex());
+        }
+        if (source instanceof EmptyPartition)
+            return new LongArrayIterator(EMPTY, 0, 0);
+        return new LongUnboxIterator(source);
+    }
+
+    public static IEnumerable<Long> boxed(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new LongSelectToObjIterator<>(source, Long::valueOf);
+    }
+
+    public static ILongEnumerable where(ILongEnumerable source, LongPredicate1 predicate) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (predicate == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.predicate);
+
+        return new LongWhereIterator(source, predicate);
+    }
+
+    public static ILongEnumerable select(ILongEnumerable source, LongToLongFunc1 selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return new LongSelectIterator(source, selector);
+    }
+
+    public static <TResult> IEnumerable<TResult> selectToObj(ILongEnumerable source, LongToObjFunc1<TResult> selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return new LongSelectToObjIterator<>(source, selector);
+    }
+
+    public static ILongEnumerable distinct(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new LongDistinctIterator(source);
+    }
+
+    public static ILongEnumerable orderBy(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new LongOrderByIterator(source, false);
+    }
+
+    public static ILongEnumerable orderByDescending(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new LongOrderByIterator(source, true);
+    }
+
+    public static int count(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof LongArrayIterator) {
+            LongArrayIterator array = (LongArrayIterator) source;
+            return array.end - array.start;
+        }
+
+        int count = 0;
+        try (ILongEnumerator e = source.enumerator()) {
+            while (e.moveNext())
+                count = Math.addExact(count, 1);
+        }
+        return count;
+    }
+
+    public static long sum(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof LongArrayIterator) {
+            LongArrayIterator array = (LongArrayIterator) source;
+            return sum(array.source, array.start, array.end);
+        }
+
+        long sum = 0;
+        try (ILongEnumerator e = source.enumerator()) {
+            while (e.moveNext())
+                sum = Math.addExact(sum, e.currentLong());
+        }
+        return sum;
+    }
+
+    public static long min(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof LongArrayIterator) {
+            LongArrayIterator array = (LongArrayIterator) source;
+            return min(array.source, array.start, array.end);
+        }
+
+        long value;
+        try (ILongEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            value = e.currentLong();
+            while (e.moveNext()) {
+                long x = e.currentLong();
+                if (x < value)
+                    value = x;
+            }
+        }
+        return value;
+    }
+
+    public static long max(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof LongArrayIterator) {
+            LongArrayIterator array = (LongArrayIterator) source;
+            return max(array.source, array.start, array.end);
+        }
+
+        long value;
+        try (ILongEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            value = e.currentLong();
+            while (e.moveNext()) {
+                long x = e.currentLong();
+                if (x > value)
+                    value = x;
+            }
+        }
+        return value;
+    }
+
+    public static double average(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof LongArrayIterator) {
+            LongArrayIterator array = (LongArrayIterator) source;
+            return average(array.source, array.start, array.end);
+        }
+
+        try (ILongEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            long sum = e.currentLong();
+            long count = 1;
+            while (e.moveNext()) {
+                sum = Math.addExact(sum, e.currentLong());
+                count = Math.addExact(count, 1);
+            }
+            return (double) sum / count;
+        }
+    }
+
+    // Indexed loops over a range of primitive array, also used by the IArray fast paths of the boxed aggregates.
+    static long sum(long[] source, int start, int end) {
+        long sum = 0;
+        for (int i = start; i < end; i++)
+            sum = Math.addExact(sum, source[i]);
+        return sum;
+    }
+
+    static long min(long[] source, int start, int end) {
+        if (start == end)
+            ThrowHelper.throwNoElementsException();
+        long value = source[start];
+        for (int i = start + 1; i < end; i++)
+            value = Math.min(value, source[i]);
+        return value;
+    }
+
+    static long max(long[] source, int start, int end) {
+        if (start == end)
+            ThrowHelper.throwNoElementsException();
+        long value = source[start];
+        for (int i = start + 1; i < end; i++)
+            value = Math.max(value, source[i]);
+        return value;
+    }
+
+    static double average(long[] source, int start, int end) {
+        if (start == end)
+            ThrowHelper.throwNoElementsException();
+        long sum = 0;
+        for (int i = start; i < end; i++)
+            sum = Math.addExact(sum, source[i]);
+        return (double) sum / (end - start);
+    }
+
+    public static long[] toArray(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof LongArrayIterator) {
+            LongArrayIterator array = (LongArrayIterator) source;
+            return Arrays.copyOfRange(array.source, array.start, array.end);
+        }
+
+        long[] array = EMPTY;
+        int count = 0;
+        try (ILongEnumerator e = source.enumerator()) {
+            while (e.moveNext()) {
+                if (count == array.length)
+                    array = Arrays.copyOf(array, count == 0 ? 4 : Math.multiplyExact(count, 2));
+                array[count++] = e.currentLong();
+            }
+        }
+        return count == array.length ? array : Arrays.copyOf(array, count);
+    }
+}
+
+
+abstract class LongIterator implements ILongEnumerable, ILongEnumerator {
+    private final long threadId;
+    int state;
+    long current;
+
+    LongIterator() {
+        this.threadId = Thread.currentThread().getId();
+    }
+
+    @Override
+    public abstract LongIterator clone();
+
+    @Override
+    public ILongEnumerator enumerator() {
+        LongIterator enumerator = this.state == 0 && this.threadId == Thread.currentThread().getId() ? this : this.clone();
+        enumerator.state = 1;
+        return enumerator;
+    }
+
+    @Override
+    public long currentLong() {
+        return this.current;
+    }
+
+    @Override
+    public void close() {
+        this.current = 0;
+        this.state = -1;
+    }
+}
+
+
+final class LongArrayIterator extends LongIterator {
+    final long[] source;
+    final int start;
+    final int end;
+    private int index;
+
+    LongArrayIterator(long[] source, int start, int end) {
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public LongIterator clone() {
+        return new LongArrayIterator(this.source, this.start, this.end);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.index = this.start;
+                this.state = 2;
+            case 2:
+                if (this.index < this.end) {
+                    this.current = this.source[this.index++];
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+}
+
+
+final class LongUnboxIterator extends LongIterator {
+    private final IEnumerable<Long> source;
+    private IEnumerator<Long> enumerator;
+
+    LongUnboxIterator(IEnumerable<Long> source) {
+        this.source = source;
+    }
+
+    @Override
+    public LongIterator clone() {
+        return new LongUnboxIterator(this.source);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.enumerator.current();
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class LongWhereIterator extends LongIterator {
+    private final ILongEnumerable source;
+    private final LongPredicate1 predicate;
+    private ILongEnumerator enumerator;
+
+    LongWhereIterator(ILongEnumerable source, LongPredicate1 predicate) {
+        this.source = source;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public LongIterator clone() {
+        return new LongWhereIterator(this.source, this.predicate);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                while (this.enumerator.moveNext()) {
+                    long item = this.enumerator.currentLong();
+                    if (this.predicate.apply(item)) {
+                        this.current = item;
+                        return true;
+                    }
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class LongSelectIterator extends LongIterator {
+    private final ILongEnumerable source;
+    private final LongToLongFunc1 selector;
+    private ILongEnumerator enumerator;
+
+    LongSelectIterator(ILongEnumerable source, LongToLongFunc1 selector) {
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public LongIterator clone() {
+        return new LongSelectIterator(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.apply(this.enumerator.currentLong());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class LongSelectToObjIterator<TResult> extends AbstractIterator<TResult> {
+    private final ILongEnumerable source;
+    private final LongToObjFunc1<TResult> selector;
+    private ILongEnumerator enumerator;
+
+    LongSelectToObjIterator(ILongEnumerable source, LongToObjFunc1<TResult> selector) {
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public AbstractIterator<TResult> clone() {
+        return new LongSelectToObjIterator<>(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.apply(this.enumerator.currentLong());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class LongDistinctIterator extends LongIterator {
+    private final ILongEnumerable source;
+    private ILongEnumerator enumerator;
+    private LongSet set;
+
+    LongDistinctIterator(ILongEnumerable source) {
+        this.source = source;
+    }
+
+    @Override
+    public LongIterator clone() {
+        return new LongDistinctIterator(this.source);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.set = new LongSet();
+                this.state = 2;
+            case 2:
+                while (this.enumerator.moveNext()) {
+                    long item = this.enumerator.currentLong();
+                    if (this.set.add(item)) {
+                        this.current = item;
+                        return true;
+                    }
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+            this.set = null;
+        }
+        super.close();
+    }
+}
+
+
+final class LongOrderByIterator extends LongIterator {
+    private final ILongEnumerable source;
+    private final boolean descending;
+    private long[] buffer;
+    private int index;
+
+    LongOrderByIterator(ILongEnumerable source, boolean descending) {
+        this.source = source;
+        this.descending = descending;
+    }
+
+    @Override
+    public LongIterator clone() {
+        return new LongOrderByIterator(this.source, this.descending);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                long[] buffer = LongEnumerable.toArray(this.source);
+                Arrays.sort(buffer);
+                this.buffer = buffer;
+                this.index = 0;
+                this.state = 2;
+            case 2:
+                int count = this.buffer.length;
+                if (this.index < count) {
+                    this.current = this.descending ? this.buffer[count - 1 - this.index] : this.buffer[this.index];
+                    this.index++;
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        this.buffer = null;
+        super.close();
+    }
+}
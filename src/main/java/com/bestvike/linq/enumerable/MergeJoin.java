@@ -0,0 +1,352 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.Comparer;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Func2;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Joins of two sequences sorted ascending by key. Only the inner elements of one key are buffered.
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public final class MergeJoin {
+    private MergeJoin() {
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector) {
+        return mergeJoin(outer, inner, outerKeySelector, innerKeySelector, resultSelector, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        if (outer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outer);
+        if (inner == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.inner);
+        if (outerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerKeySelector);
+        if (innerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerKeySelector);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+
+        return new MergeJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, resultSelector, comparer);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeLeftJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector) {
+        return mergeLeftJoin(outer, inner, outerKeySelector, innerKeySelector, null, resultSelector, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeLeftJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector) {
+        return mergeLeftJoin(outer, inner, outerKeySelector, innerKeySelector, defaultInner, resultSelector, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeLeftJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        return mergeLeftJoin(outer, inner, outerKeySelector, innerKeySelector, null, resultSelector, comparer);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeLeftJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        if (outer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outer);
+        if (inner == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.inner);
+        if (outerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerKeySelector);
+        if (innerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerKeySelector);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+
+        return new MergeLeftJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, defaultInner, resultSelector, comparer);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeFullJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector) {
+        return mergeFullJoin(outer, inner, outerKeySelector, innerKeySelector, null, null, resultSelector, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeFullJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TOuter defaultOuter, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector) {
+        return mergeFullJoin(outer, inner, outerKeySelector, innerKeySelector, defaultOuter, defaultInner, resultSelector, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeFullJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        return mergeFullJoin(outer, inner, outerKeySelector, innerKeySelector, null, null, resultSelector, comparer);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeFullJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TOuter defaultOuter, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        if (outer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outer);
+        if (inner == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.inner);
+        if (outerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerKeySelector);
+        if (innerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerKeySelector);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+
+        return new MergeFullJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, defaultOuter, defaultInner, resultSelector, comparer);
+    }
+}
+
+
+// Walks both sides in key order, checks the order lazily. Null keys never match.
+abstract class AbstractMergeJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator<TResult> {
+    final IEnumerable<TOuter> outer;
+    final IEnumerable<TInner> inner;
+    final Func1<TOuter, TKey> outerKeySelector;
+    final Func1<TInner, TKey> innerKeySelector;
+    final Func2<TOuter, TInner, TResult> resultSelector;
+    final Comparator<TKey> comparer;
+    private IEnumerator<TOuter> outerEnumerator;
+    private IEnumerator<TInner> innerEnumerator;
+    private boolean outerStarted;
+    TOuter outerCurrent;
+    TKey outerKey;
+    boolean innerHasCurrent;
+    TInner innerCurrent;
+    TKey innerKey;
+    final List<TInner> group = new ArrayList<>();// inner elements matching outerKey
+    TKey groupKey;
+    int groupIndex;
+
+    AbstractMergeJoinIterator(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        this.outer = outer;
+        this.inner = inner;
+        this.outerKeySelector = outerKeySelector;
+        this.innerKeySelector = innerKeySelector;
+        this.resultSelector = resultSelector;
+        this.comparer = comparer == null ? Comparer.Default() : comparer;
+    }
+
+    void start() {
+        this.outerEnumerator = this.outer.enumerator();
+        this.innerEnumerator = this.inner.enumerator();
+        this.moveNextInner();
+    }
+
+    boolean moveNextOuter() {
+        if (!this.outerEnumerator.moveNext())
+            return false;
+        TOuter item = this.outerEnumerator.current();
+        TKey key = this.outerKeySelector.apply(item);
+        if (this.outerStarted && this.comparer.compare(this.outerKey, key) > 0)
+            ThrowHelper.throwNotSortedByKeyException(ExceptionArgument.outer);
+        this.outerStarted = true;
+        this.outerCurrent = item;
+        this.outerKey = key;
+        return true;
+    }
+
+    boolean moveNextInner() {
+        if (!this.innerEnumerator.moveNext()) {
+            this.innerHasCurrent = false;
+            this.innerCurrent = null;
+            return false;
+        }
+        TInner item = this.innerEnumerator.current();
+        TKey key = this.innerKeySelector.apply(item);
+        if (this.innerHasCurrent && this.comparer.compare(this.innerKey, key) > 0)
+            ThrowHelper.throwNotSortedByKeyException(ExceptionArgument.inner);
+        this.innerHasCurrent = true;
+        this.innerCurrent = item;
+        this.innerKey = key;
+        return true;
+    }
+
+    // inner head key is less than outerKey, or null
+    boolean innerBeforeOuter() {
+        return this.innerHasCurrent && (this.innerKey == null || this.comparer.compare(this.innerKey, this.outerKey) < 0);
+    }
+
+    // fills group with the inner elements whose key equals outerKey, reuses the group for equal outer keys
+    void fillGroup() {
+        if (!this.group.isEmpty() && this.comparer.compare(this.groupKey, this.outerKey) == 0) {
+            this.groupIndex = 0;
+            return;
+        }
+        this.group.clear();
+        this.groupIndex = 0;
+        this.groupKey = this.outerKey;
+        while (this.innerBeforeOuter())
+            this.moveNextInner();
+        while (this.innerHasCurrent && this.innerKey != null && this.comparer.compare(this.innerKey, this.outerKey) == 0) {
+            this.group.add(this.innerCurrent);
+            this.moveNextInner();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.outerEnumerator != null) {
+            this.outerEnumerator.close();
+            this.outerEnumerator = null;
+        }
+        if (this.innerEnumerator != null) {
+            this.innerEnumerator.close();
+            this.innerEnumerator = null;
+        }
+        this.outerCurrent = null;
+        this.outerKey = null;
+        this.innerCurrent = null;
+        this.innerKey = null;
+        this.group.clear();
+        this.groupKey = null;
+        super.close();
+    }
+}
+
+
+final class MergeJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractMergeJoinIterator<TOuter, TInner, TKey, TResult> {
+    MergeJoinIterator(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        super(outer, inner, outerKeySelector, innerKeySelector, resultSelector, comparer);
+    }
+
+    @Override
+    public AbstractIterator<TResult> clone() {
+        return new MergeJoinIterator<>(this.outer, this.inner, this.outerKeySelector, this.innerKeySelector, this.resultSelector, this.comparer);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.start();
+                this.state = 2;
+            case 2:
+                do {
+                    if (this.groupIndex < this.group.size()) {
+                        this.current = this.resultSelector.apply(this.outerCurrent, this.group.get(this.groupIndex++));
+                        return true;
+                    }
+                    if (!this.moveNextOuter())
+                        break;
+                    if (this.outerKey == null)
+                        continue;
+                    this.fillGroup();
+                } while (true);
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+}
+
+
+final class MergeLeftJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractMergeJoinIterator<TOuter, TInner, TKey, TResult> {
+    private final TInner defaultInner;
+
+    MergeLeftJoinIterator(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        super(outer, inner, outerKeySelector, innerKeySelector, resultSelector, comparer);
+        this.defaultInner = defaultInner;
+    }
+
+    @Override
+    public AbstractIterator<TResult> clone() {
+        return new MergeLeftJoinIterator<>(this.outer, this.inner, this.outerKeySelector, this.innerKeySelector, this.defaultInner, this.resultSelector, this.comparer);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.start();
+                this.state = 2;
+            case 2:
+                if (this.groupIndex < this.group.size()) {
+                    this.current = this.resultSelector.apply(this.outerCurrent, this.group.get(this.groupIndex++));
+                    return true;
+                }
+                if (this.moveNextOuter()) {
+                    if (this.outerKey != null)
+                        this.fillGroup();
+                    if (this.outerKey == null || this.group.isEmpty()) {
+                        this.current = this.resultSelector.apply(this.outerCurrent, this.defaultInner);
+                        return true;
+                    }
+                    this.current = this.resultSelector.apply(this.outerCurrent, this.group.get(this.groupIndex++));
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+}
+
+
+final class MergeFullJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractMergeJoinIterator<TOuter, TInner, TKey, TResult> {
+    private final TOuter defaultOuter;
+    private final TInner defaultInner;
+    private boolean outerPending;// inner elements before outerKey are being returned
+
+    MergeFullJoinIterator(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TOuter defaultOuter, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        super(outer, inner, outerKeySelector, innerKeySelector, resultSelector, comparer);
+        this.defaultOuter = defaultOuter;
+        this.defaultInner = defaultInner;
+    }
+
+    @Override
+    public AbstractIterator<TResult> clone() {
+        return new MergeFullJoinIterator<>(this.outer, this.inner, this.outerKeySelector, this.innerKeySelector, this.defaultOuter, this.defaultInner, this.resultSelector, this.comparer);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.start();
+                this.state = 2;
+            case 2:
+                do {
+                    if (this.groupIndex < this.group.size()) {
+                        this.current = this.resultSelector.apply(this.outerCurrent, this.group.get(this.groupIndex++));
+                        return true;
+                    }
+                    if (this.outerPending) {
+                        if (this.innerBeforeOuter()) {
+                            this.current = this.resultSelector.apply(this.defaultOuter, this.innerCurrent);
+                            this.moveNextInner();
+                            return true;
+                        }
+                        this.outerPending = false;
+                        this.fillGroup();
+                        if (this.group.isEmpty()) {
+                            this.current = this.resultSelector.apply(this.outerCurrent, this.defaultInner);
+                            return true;
+                        }
+                        continue;
+                    }
+                    if (!this.moveNextOuter())
+                        break;
+                    if (this.outerKey == null) {
+                        this.current = this.resultSelector.apply(this.outerCurrent, this.defaultInner);
+                        return true;
+                    }
+                    if (!this.group.isEmpty() && this.comparer.compare(this.groupKey, this.outerKey) == 0)
+                        this.groupIndex = 0;
+                    else
+                        this.outerPending = true;
+                } while (true);
+                this.state = 3;
+            case 3:
+                if (this.innerHasCurrent) {
+                    this.current = this.resultSelector.apply(this.defaultOuter, this.innerCurrent);
+                    this.moveNextInner();
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+}
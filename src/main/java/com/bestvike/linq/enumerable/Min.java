@@ -1,6 +1,7 @@
 package com.bestvike.linq.enumerable;
 
 import com.bestvike.collections.generic.Comparer;
+import com.bestvike.collections.generic.IArray;
 import com.bestvike.function.DecimalFunc1;
 import com.bestvike.function.DoubleFunc1;
 import com.bestvike.function.FloatFunc1;
@@ -31,6 +32,13 @@ public final class Min {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
+        if (source instanceof IArray) {
+            IArray<Integer> array = (IArray<Integer>) source;
+            Object items = array.getArray();
+            if (items instanceof int[])
+                return IntEnumerable.min((int[]) items, array._getStartIndex(), array._getEndIndex());
+        }
+
         int value;
         try (IEnumerator<Integer> e = source.enumerator()) {
             if (!e.moveNext())
@@ -74,6 +82,13 @@ public final class Min {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
+        if (source instanceof IArray) {
+            IArray<Long> array = (IArray<Long>) source;
+            Object items = array.getArray();
+            if (items instanceof long[])
+                return LongEnumerable.min((long[]) items, array._getStartIndex(), array._getEndIndex());
+        }
+
         long value;
         try (IEnumerator<Long> e = source.enumerator()) {
             if (!e.moveNext())
@@ -172,6 +187,13 @@ public final class Min {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
+        if (source instanceof IArray) {
+            IArray<Double> array = (IArray<Double>) source;
+            Object items = array.getArray();
+            if (items instanceof double[])
+                return DoubleEnumerable.min((double[]) items, array._getStartIndex(), array._getEndIndex());
+        }
+
         double value;
         try (IEnumerator<Double> e = source.enumerator()) {
             if (!e.moveNext())
@@ -1,6 +1,9 @@
 package com.bestvike.linq.enumerable;
 
+import com.bestvike.function.DoubleFunc1;
 import com.bestvike.function.Func1;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IOrderedEnumerable;
 import com.bestvike.linq.exception.ExceptionArgument;
@@ -58,4 +61,103 @@ public final class OrderBy {
 
         return source.createOrderedEnumerable(keySelector, comparer, true);
     }
+
+    public static <TSource> IOrderedEnumerable<TSource> orderByInt(IEnumerable<TSource> source, IntFunc1<TSource> keySelector) {
+        return new IntOrderedEnumerable<>(source, keySelector, false, null);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> orderByDescendingInt(IEnumerable<TSource> source, IntFunc1<TSource> keySelector) {
+        return new IntOrderedEnumerable<>(source, keySelector, true, null);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> orderByLong(IEnumerable<TSource> source, LongFunc1<TSource> keySelector) {
+        return new LongOrderedEnumerable<>(source, keySelector, false, null);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> orderByDescendingLong(IEnumerable<TSource> source, LongFunc1<TSource> keySelector) {
+        return new LongOrderedEnumerable<>(source, keySelector, true, null);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> orderByDouble(IEnumerable<TSource> source, DoubleFunc1<TSource> keySelector) {
+        return new LongOrderedEnumerable<>(source, toSortableKey(keySelector), false, null);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> orderByDescendingDouble(IEnumerable<TSource> source, DoubleFunc1<TSource> keySelector) {
+        return new LongOrderedEnumerable<>(source, toSortableKey(keySelector), true, null);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> parallel(IOrderedEnumerable<TSource> source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return source instanceof AbstractOrderedEnumerable ? ((AbstractOrderedEnumerable<TSource>) source).createParallelOrderedEnumerable() : source;
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> thenByInt(IOrderedEnumerable<TSource> source, IntFunc1<TSource> keySelector) {
+        return thenByInt(source, keySelector, false);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> thenByDescendingInt(IOrderedEnumerable<TSource> source, IntFunc1<TSource> keySelector) {
+        return thenByInt(source, keySelector, true);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> thenByLong(IOrderedEnumerable<TSource> source, LongFunc1<TSource> keySelector) {
+        return thenByLong(source, keySelector, false);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> thenByDescendingLong(IOrderedEnumerable<TSource> source, LongFunc1<TSource> keySelector) {
+        return thenByLong(source, keySelector, true);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> thenByDouble(IOrderedEnumerable<TSource> source, DoubleFunc1<TSource> keySelector) {
+        return thenByDouble(source, keySelector, false);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> thenByDescendingDouble(IOrderedEnumerable<TSource> source, DoubleFunc1<TSource> keySelector) {
+        return thenByDouble(source, keySelector, true);
+    }
+
+    private static <TSource> IOrderedEnumerable<TSource> thenByInt(IOrderedEnumerable<TSource> source, IntFunc1<TSource> keySelector, boolean descending) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        if (source instanceof AbstractOrderedEnumerable)
+            return ((AbstractOrderedEnumerable<TSource>) source).createIntOrderedEnumerable(keySelector, descending);
+        return source.createOrderedEnumerable(keySelector::apply, null, descending);
+    }
+
+    private static <TSource> IOrderedEnumerable<TSource> thenByLong(IOrderedEnumerable<TSource> source, LongFunc1<TSource> keySelector, boolean descending) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        if (source instanceof AbstractOrderedEnumerable)
+            return ((AbstractOrderedEnumerable<TSource>) source).createLongOrderedEnumerable(keySelector, descending);
+        return source.createOrderedEnumerable(keySelector::apply, null, descending);
+    }
+
+    private static <TSource> IOrderedEnumerable<TSource> thenByDouble(IOrderedEnumerable<TSource> source, DoubleFunc1<TSource> keySelector, boolean descending) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        if (source instanceof AbstractOrderedEnumerable)
+            return ((AbstractOrderedEnumerable<TSource>) source).createLongOrderedEnumerable(toSortableKey(keySelector), descending);
+        return source.createOrderedEnumerable(keySelector::apply, null, descending);
+    }
+
+    // Maps a double key to a long whose signed order is the order of Double.compare (-0.0 before 0.0, NaN last).
+    private static <TSource> LongFunc1<TSource> toSortableKey(DoubleFunc1<TSource> keySelector) {
+        if (keySelector == null)
+            return null;
+
+        return element -> {
+            long bits = Double.doubleToLongBits(keySelector.apply(element));
+            return bits < 0 ? bits ^ Long.MAX_VALUE : bits;
+        };
+    }
 }
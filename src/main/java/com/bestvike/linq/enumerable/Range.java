@@ -1,12 +1,13 @@
 package com.bestvike.linq.enumerable;
 
 import com.bestvike.function.Func1;
+import com.bestvike.function.Predicate1;
 import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IIntEnumerable;
 import com.bestvike.linq.debug.DebuggerDisplay;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
 import com.bestvike.linq.util.ArrayUtils;
-import com.bestvike.out;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -28,11 +29,21 @@ public final class Range {
 
         return new RangeIterator(start, count);
     }
+
+    public static IEnumerable<Long> range(long start, long count) {
+        if (count < 0 || (count > 0 && start > Long.MAX_VALUE - (count - 1)))
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.count);
+
+        if (count == 0)
+            return EmptyPartition.instance();
+
+        return new LongRangeIterator(start, count);
+    }
 }
 
 
 @DebuggerDisplay("Count = {countForDebugger()}")
-final class RangeIterator extends Iterator<Integer> implements IPartition<Integer> {
+final class RangeIterator extends Iterator<Integer> implements IPartition<Integer>, IConsumable<Integer> {
     private final int start;
     private final int end;
 
@@ -71,6 +82,19 @@ final class RangeIterator extends Iterator<Integer> implements IPartition<Intege
         }
     }
 
+    @Override
+    public boolean _consume(Predicate1<Integer> sink) {
+        for (int cur = this.start; cur != this.end; cur++) {
+            if (!sink.apply(cur))
+                return false;
+        }
+        return true;
+    }
+
+    IIntEnumerable _asIntEnumerable() {
+        return new IntRangeIterator(this.start, this.end);
+    }
+
     @Override
     public <TResult> IEnumerable<TResult> _select(Func1<Integer, TResult> selector) {
         return new SelectRangeIterator<>(this.start, this.end, selector);
@@ -128,24 +152,65 @@ final class RangeIterator extends Iterator<Integer> implements IPartition<Intege
     }
 
     @Override
-    public Integer _tryGetElementAt(int index, out<Boolean> found) {
-        if (Integer.compareUnsigned(index, this.end - this.start) < 0) {
-            found.value = true;
+    public Object _tryGetElementAt(int index) {
+        if (Integer.compareUnsigned(index, this.end - this.start) < 0)
             return this.start + index;
-        }
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public Integer _tryGetFirst(out<Boolean> found) {
-        found.value = true;
+    public Object _tryGetFirst() {
         return this.start;
     }
 
     @Override
-    public Integer _tryGetLast(out<Boolean> found) {
-        found.value = true;
+    public Object _tryGetLast() {
         return this.end - 1;
     }
 }
+
+
+final class LongRangeIterator extends Iterator<Long> implements IConsumable<Long> {
+    private final long start;
+    private final long last;// inclusive, so a range which ends at Long.MAX_VALUE does not overflow
+
+    LongRangeIterator(long start, long count) {
+        assert count > 0;
+        this.start = start;
+        this.last = start + (count - 1);
+    }
+
+    @Override
+    public Iterator<Long> clone() {
+        return new LongRangeIterator(this.start, this.last - this.start + 1);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.current = this.start;
+                this.state = 2;
+                return true;
+            case 2:
+                if (this.current == this.last) {
+                    this.close();
+                    return false;
+                }
+                ++this.current;
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public boolean _consume(Predicate1<Long> sink) {
+        for (long cur = this.start; ; cur++) {
+            if (!sink.apply(cur))
+                return false;
+            if (cur == this.last)
+                return true;
+        }
+    }
+}
@@ -1,12 +1,12 @@
 package com.bestvike.linq.enumerable;
 
 import com.bestvike.function.Func1;
+import com.bestvike.function.Predicate1;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.debug.DebuggerDisplay;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
 import com.bestvike.linq.util.ArrayUtils;
-import com.bestvike.out;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,7 +31,7 @@ public final class Repeat {
 
 
 @DebuggerDisplay("Count = {count}")
-final class RepeatIterator<TResult> extends Iterator<TResult> implements IPartition<TResult> {
+final class RepeatIterator<TResult> extends Iterator<TResult> implements IPartition<TResult>, IConsumable<TResult> {
     private final int count;
 
     RepeatIterator(TResult element, int count) {
@@ -69,6 +69,15 @@ final class RepeatIterator<TResult> extends Iterator<TResult> implements IPartit
         this.state = -1;
     }
 
+    @Override
+    public boolean _consume(Predicate1<TResult> sink) {
+        for (int i = 0; i != this.count; ++i) {
+            if (!sink.apply(this.current))
+                return false;
+        }
+        return true;
+    }
+
     @Override
     public <TResult2> IEnumerable<TResult2> _select(Func1<TResult, TResult2> selector) {
         return new SelectRepeatIterator<>(this.current, this.count, selector);
@@ -120,24 +129,19 @@ final class RepeatIterator<TResult> extends Iterator<TResult> implements IPartit
     }
 
     @Override
-    public TResult _tryGetElementAt(int index, out<Boolean> found) {
-        if (Integer.compareUnsigned(index, this.count) < 0) {
-            found.value = true;
+    public Object _tryGetElementAt(int index) {
+        if (Integer.compareUnsigned(index, this.count) < 0)
             return this.current;
-        }
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TResult _tryGetFirst(out<Boolean> found) {
-        found.value = true;
+    public Object _tryGetFirst() {
         return this.current;
     }
 
     @Override
-    public TResult _tryGetLast(out<Boolean> found) {
-        found.value = true;
+    public Object _tryGetLast() {
         return this.current;
     }
 }
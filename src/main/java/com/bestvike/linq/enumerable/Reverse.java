@@ -27,7 +27,8 @@ public final class Reverse {
 
 final class ReverseIterator<TSource> extends Iterator<TSource> implements IIListProvider<TSource> {
     private final IEnumerable<TSource> source;
-    private Object[] buffer;
+    private BigBuffer<TSource> buffer;
+    private long index;
 
     ReverseIterator(IEnumerable<TSource> source) {
         assert source != null;
@@ -41,41 +42,25 @@ final class ReverseIterator<TSource> extends Iterator<TSource> implements IIList
 
     @Override
     public boolean moveNext() {
-        if (this.state - 2 <= -2) {
-            // Either someone called a method and cast us to IEnumerable without calling GetEnumerator,
-            // or we were already disposed. In either case, iteration has ended, so return false.
-            // A comparison is made against -2 instead of _state <= 0 because we want to handle cases where
-            // the source is really large and adding the bias causes _state to overflow.
-            assert this.state == -1 || this.state == 0;
-            this.close();
-            return false;
-        }
-
         switch (this.state) {
             case 1:
-                // Iteration has just started. Capture the source into an array and set _state to 2 + the count.
-                // Having an extra field for the count would be more readable, but we save it into _state with a
-                // bias instead to minimize field size of the iterator.
-                Buffer<TSource> buffer = new Buffer<>(this.source);
-                this.buffer = buffer.items;
-                this.state = buffer.count + 2;
-            default:
-                // At this stage, _state starts from 2 + the count. _state - 3 represents the current index into the
-                // buffer. It is continuously decremented until it hits 2, which means that we've run out of items to
-                // yield and should return false.
-                int index = this.state - 3;
-                if (index != -1) {
+                // Iteration has just started. Capture the source into a buffer, it is segmented so a source with more
+                // than Integer.MAX_VALUE elements can be reversed too. The index is continuously decremented until it
+                // hits 0, which means that we've run out of items to yield and should return false.
+                this.buffer = new BigBuffer<>(this.source);
+                this.index = this.buffer.count;
+                this.state = 2;
+            case 2:
+                if (this.index > 0) {
                     //noinspection unchecked
-                    this.current = (TSource) this.buffer[index];
-                    --this.state;
+                    this.current = (TSource) this.buffer.get(--this.index);
                     return true;
                 }
-
-                break;
+                this.close();
+                return false;
+            default:
+                return false;
         }
-
-        this.close();
-        return false;
     }
 
     @Override
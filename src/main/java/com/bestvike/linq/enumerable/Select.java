@@ -5,6 +5,7 @@ import com.bestvike.collections.generic.IArrayList;
 import com.bestvike.collections.generic.IList;
 import com.bestvike.function.Func1;
 import com.bestvike.function.IndexFunc2;
+import com.bestvike.function.Predicate1;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.debug.DebuggerDisplay;
@@ -13,7 +14,6 @@ import com.bestvike.linq.exception.ThrowHelper;
 import com.bestvike.linq.util.ArrayUtils;
 import com.bestvike.linq.util.ListUtils;
 import com.bestvike.linq.util.Utilities;
-import com.bestvike.out;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -121,7 +121,7 @@ final class SelectIterator<TSource, TResult> extends AbstractIterator<TResult> {
 }
 
 
-final class SelectEnumerableIterator<TSource, TResult> extends Iterator<TResult> implements IIListProvider<TResult> {
+final class SelectEnumerableIterator<TSource, TResult> extends Iterator<TResult> implements IIListProvider<TResult>, IFusible<TResult> {
     private final IEnumerable<TSource> source;
     private final Func1<TSource, TResult> selector;
     private IEnumerator<TSource> enumerator;
@@ -170,9 +170,19 @@ final class SelectEnumerableIterator<TSource, TResult> extends Iterator<TResult>
         return new SelectEnumerableIterator<>(this.source, Utilities.combineSelectors(this.selector, selector));
     }
 
+    @Override
+    public IEnumerable<TResult> _where(Predicate1<TResult> predicate) {
+        return this._fuse()._where(predicate);
+    }
+
+    @Override
+    public FusedIterator<TResult> _fuse() {
+        return FusedIterator.from(this.source)._select(this.selector);
+    }
+
     @Override
     public TResult[] _toArray(Class<TResult> clazz) {
-        LargeArrayBuilder<TResult> builder = new LargeArrayBuilder<>();
+        LargeArrayBuilder<TResult> builder = new LargeArrayBuilder<>(clazz);
         try (IEnumerator<TSource> e = this.source.enumerator()) {
             while (e.moveNext())
                 builder.add(this.selector.apply(e.current()));
@@ -224,7 +234,7 @@ final class SelectEnumerableIterator<TSource, TResult> extends Iterator<TResult>
 
 
 @DebuggerDisplay("Count = {countForDebugger()}")
-final class SelectArrayIterator<TSource, TResult> extends Iterator<TResult> implements IPartition<TResult> {
+final class SelectArrayIterator<TSource, TResult> extends Iterator<TResult> implements IPartition<TResult>, IFusible<TResult> {
     private final IArray<TSource> source;
     private final Func1<TSource, TResult> selector;
 
@@ -258,11 +268,35 @@ final class SelectArrayIterator<TSource, TResult> extends Iterator<TResult> impl
         return true;
     }
 
+    @Override
+    public int moveNextBatch(Object[] buffer, int offset, int max) {
+        if (this.state < 1)
+            return 0;
+        int index = this.state - 1;
+        int count = Math.min(max, this.source._getCount() - index);
+        for (int i = 0; i < count; i++)
+            buffer[offset + i] = this.selector.apply(this.source.get(index + i));
+        this.state += count;
+        if (count < max)
+            this.close();
+        return count;
+    }
+
     @Override
     public <TResult2> IEnumerable<TResult2> _select(Func1<TResult, TResult2> selector) {
         return new SelectArrayIterator<>(this.source, Utilities.combineSelectors(this.selector, selector));
     }
 
+    @Override
+    public IEnumerable<TResult> _where(Predicate1<TResult> predicate) {
+        return this._fuse()._where(predicate);
+    }
+
+    @Override
+    public FusedIterator<TResult> _fuse() {
+        return FusedIterator.from(this.source)._select(this.selector);
+    }
+
     @Override
     public TResult[] _toArray(Class<TResult> clazz) {
         // See assert : constructor.
@@ -328,29 +362,24 @@ final class SelectArrayIterator<TSource, TResult> extends Iterator<TResult> impl
     }
 
     @Override
-    public TResult _tryGetElementAt(int index, out<Boolean> found) {
-        if (Integer.compareUnsigned(index, this.source._getCount()) < 0) {
-            found.value = true;
+    public Object _tryGetElementAt(int index) {
+        if (Integer.compareUnsigned(index, this.source._getCount()) < 0)
             return this.selector.apply(this.source.get(index));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TResult _tryGetFirst(out<Boolean> found) {
+    public Object _tryGetFirst() {
         assert this.source._getCount() > 0; // See assert : constructor
 
-        found.value = true;
         return this.selector.apply(this.source.get(0));
     }
 
     @Override
-    public TResult _tryGetLast(out<Boolean> found) {
+    public Object _tryGetLast() {
         assert this.source._getCount() > 0; // See assert : constructor
 
-        found.value = true;
         return this.selector.apply(this.source.get(this.source._getCount() - 1));
     }
 }
@@ -454,26 +483,21 @@ final class SelectRangeIterator<TResult> extends Iterator<TResult> implements IP
     }
 
     @Override
-    public TResult _tryGetElementAt(int index, out<Boolean> found) {
-        if (Integer.compareUnsigned(index, this.end - this.start) < 0) {
-            found.value = true;
+    public Object _tryGetElementAt(int index) {
+        if (Integer.compareUnsigned(index, this.end - this.start) < 0)
             return this.selector.apply(this.start + index);
-        }
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TResult _tryGetFirst(out<Boolean> found) {
+    public Object _tryGetFirst() {
         assert this.end > this.start;
-        found.value = true;
         return this.selector.apply(this.start);
     }
 
     @Override
-    public TResult _tryGetLast(out<Boolean> found) {
+    public Object _tryGetLast() {
         assert this.end > this.start;
-        found.value = true;
         return this.selector.apply(this.end - 1);
     }
 }
@@ -567,33 +591,28 @@ final class SelectRepeatIterator<TSource, TResult> extends Iterator<TResult> imp
     }
 
     @Override
-    public TResult _tryGetElementAt(int index, out<Boolean> found) {
-        if (Integer.compareUnsigned(index, this.count) < 0) {
-            found.value = true;
+    public Object _tryGetElementAt(int index) {
+        if (Integer.compareUnsigned(index, this.count) < 0)
             return this.selector.apply(this.element);
-        }
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TResult _tryGetFirst(out<Boolean> found) {
+    public Object _tryGetFirst() {
         assert this.count > 0;
-        found.value = true;
         return this.selector.apply(this.element);
     }
 
     @Override
-    public TResult _tryGetLast(out<Boolean> found) {
+    public Object _tryGetLast() {
         assert this.count > 0;
-        found.value = true;
         return this.selector.apply(this.element);
     }
 }
 
 
 @DebuggerDisplay("Count = {countForDebugger()}")
-final class SelectListIterator<TSource, TResult> extends Iterator<TResult> implements IPartition<TResult> {
+final class SelectListIterator<TSource, TResult> extends Iterator<TResult> implements IPartition<TResult>, IFusible<TResult> {
     private final IArrayList<TSource> source;
     private final Func1<TSource, TResult> selector;
     private IEnumerator<TSource> enumerator;
@@ -647,6 +666,16 @@ final class SelectListIterator<TSource, TResult> extends Iterator<TResult> imple
         return new SelectListIterator<>(this.source, Utilities.combineSelectors(this.selector, selector));
     }
 
+    @Override
+    public IEnumerable<TResult> _where(Predicate1<TResult> predicate) {
+        return this._fuse()._where(predicate);
+    }
+
+    @Override
+    public FusedIterator<TResult> _fuse() {
+        return FusedIterator.from(this.source)._select(this.selector);
+    }
+
     @Override
     public TResult[] _toArray(Class<TResult> clazz) {
         int count = this.source._getCount();
@@ -710,37 +739,28 @@ final class SelectListIterator<TSource, TResult> extends Iterator<TResult> imple
     }
 
     @Override
-    public TResult _tryGetElementAt(int index, out<Boolean> found) {
-        if (Integer.compareUnsigned(index, this.source._getCount()) < 0) {
-            found.value = true;
+    public Object _tryGetElementAt(int index) {
+        if (Integer.compareUnsigned(index, this.source._getCount()) < 0)
             return this.selector.apply(this.source.get(index));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TResult _tryGetFirst(out<Boolean> found) {
-        if (this.source._getCount() != 0) {
-            found.value = true;
+    public Object _tryGetFirst() {
+        if (this.source._getCount() != 0)
             return this.selector.apply(this.source.get(0));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TResult _tryGetLast(out<Boolean> found) {
+    public Object _tryGetLast() {
         int len = this.source._getCount();
-        if (len != 0) {
-            found.value = true;
+        if (len != 0)
             return this.selector.apply(this.source.get(len - 1));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 }
 
@@ -872,37 +892,28 @@ final class SelectIListIterator<TSource, TResult> extends Iterator<TResult> impl
     }
 
     @Override
-    public TResult _tryGetElementAt(int index, out<Boolean> found) {
-        if (Integer.compareUnsigned(index, this.source._getCount()) < 0) {
-            found.value = true;
+    public Object _tryGetElementAt(int index) {
+        if (Integer.compareUnsigned(index, this.source._getCount()) < 0)
             return this.selector.apply(this.source.get(index));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TResult _tryGetFirst(out<Boolean> found) {
-        if (this.source._getCount() != 0) {
-            found.value = true;
+    public Object _tryGetFirst() {
+        if (this.source._getCount() != 0)
             return this.selector.apply(this.source.get(0));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TResult _tryGetLast(out<Boolean> found) {
+    public Object _tryGetLast() {
         int len = this.source._getCount();
-        if (len != 0) {
-            found.value = true;
+        if (len != 0)
             return this.selector.apply(this.source.get(len - 1));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 }
 
@@ -969,27 +980,30 @@ final class SelectIPartitionIterator<TSource, TResult> extends Iterator<TResult>
     }
 
     @Override
-    public TResult _tryGetElementAt(int index, out<Boolean> found) {
-        TSource input = this.source._tryGetElementAt(index, found);
-        return found.value ? this.selector.apply(input) : null;
+    public Object _tryGetElementAt(int index) {
+        Object input = this.source._tryGetElementAt(index);
+        //noinspection unchecked
+        return input == NOT_FOUND ? NOT_FOUND : this.selector.apply((TSource) input);
     }
 
     @Override
-    public TResult _tryGetFirst(out<Boolean> found) {
-        TSource input = this.source._tryGetFirst(found);
-        return found.value ? this.selector.apply(input) : null;
+    public Object _tryGetFirst() {
+        Object input = this.source._tryGetFirst();
+        //noinspection unchecked
+        return input == NOT_FOUND ? NOT_FOUND : this.selector.apply((TSource) input);
     }
 
     @Override
-    public TResult _tryGetLast(out<Boolean> found) {
-        TSource input = this.source._tryGetLast(found);
-        return found.value ? this.selector.apply(input) : null;
+    public Object _tryGetLast() {
+        Object input = this.source._tryGetLast();
+        //noinspection unchecked
+        return input == NOT_FOUND ? NOT_FOUND : this.selector.apply((TSource) input);
     }
 
     private TResult[] lazyToArray(Class<TResult> clazz) {
         assert this.source._getCount(true) == -1;
 
-        LargeArrayBuilder<TResult> builder = new LargeArrayBuilder<>();
+        LargeArrayBuilder<TResult> builder = new LargeArrayBuilder<>(clazz);
         try (IEnumerator<TSource> e = this.source.enumerator()) {
             while (e.moveNext())
                 builder.add(this.selector.apply(e.current()));
@@ -1175,37 +1189,28 @@ final class SelectListPartitionIterator<TSource, TResult> extends Iterator<TResu
     }
 
     @Override
-    public TResult _tryGetElementAt(int index, out<Boolean> found) {
-        if (Integer.compareUnsigned(index, this.maxIndexInclusive - this.minIndexInclusive) <= 0 && index < this.source._getCount() - this.minIndexInclusive) {
-            found.value = true;
+    public Object _tryGetElementAt(int index) {
+        if (Integer.compareUnsigned(index, this.maxIndexInclusive - this.minIndexInclusive) <= 0 && index < this.source._getCount() - this.minIndexInclusive)
             return this.selector.apply(this.source.get(this.minIndexInclusive + index));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TResult _tryGetFirst(out<Boolean> found) {
-        if (this.source._getCount() > this.minIndexInclusive) {
-            found.value = true;
+    public Object _tryGetFirst() {
+        if (this.source._getCount() > this.minIndexInclusive)
             return this.selector.apply(this.source.get(this.minIndexInclusive));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TResult _tryGetLast(out<Boolean> found) {
+    public Object _tryGetLast() {
         int lastIndex = this.source._getCount() - 1;
-        if (lastIndex >= this.minIndexInclusive) {
-            found.value = true;
+        if (lastIndex >= this.minIndexInclusive)
             return this.selector.apply(this.source.get(Math.min(lastIndex, this.maxIndexInclusive)));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     private int _getCount() {
@@ -1401,39 +1406,30 @@ final class SelectIListPartitionIterator<TSource, TResult> extends Iterator<TRes
 
     //see SelectListPartitionIterator
     @Override
-    public TResult _tryGetElementAt(int index, out<Boolean> found) {
-        if (Integer.compareUnsigned(index, this.maxIndexInclusive - this.minIndexInclusive) <= 0 && index < this.source._getCount() - this.minIndexInclusive) {
-            found.value = true;
+    public Object _tryGetElementAt(int index) {
+        if (Integer.compareUnsigned(index, this.maxIndexInclusive - this.minIndexInclusive) <= 0 && index < this.source._getCount() - this.minIndexInclusive)
             return this.selector.apply(this.source.get(this.minIndexInclusive + index));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     //see SelectListPartitionIterator
     @Override
-    public TResult _tryGetFirst(out<Boolean> found) {
-        if (this.source._getCount() > this.minIndexInclusive) {
-            found.value = true;
+    public Object _tryGetFirst() {
+        if (this.source._getCount() > this.minIndexInclusive)
             return this.selector.apply(this.source.get(this.minIndexInclusive));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     //see SelectListPartitionIterator
     @Override
-    public TResult _tryGetLast(out<Boolean> found) {
+    public Object _tryGetLast() {
         int lastIndex = this.source._getCount() - 1;
-        if (lastIndex >= this.minIndexInclusive) {
-            found.value = true;
+        if (lastIndex >= this.minIndexInclusive)
             return this.selector.apply(this.source.get(Math.min(lastIndex, this.maxIndexInclusive)));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     //see SelectListPartitionIterator
@@ -1452,7 +1448,7 @@ final class SelectIListPartitionIterator<TSource, TResult> extends Iterator<TRes
             if (this.skipBeforeFirst(en) && en.moveNext()) {
                 int limit = this.getLimit();
                 int remaining = limit - 1; // Max number of items left, not counting the current element.
-                LargeArrayBuilder<TResult> builder = new LargeArrayBuilder<>(limit);
+                LargeArrayBuilder<TResult> builder = new LargeArrayBuilder<>(clazz, limit);
 
                 do {
                     remaining--;
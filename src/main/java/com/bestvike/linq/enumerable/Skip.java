@@ -30,6 +30,9 @@ public final class Skip {
         } else if (source instanceof IPartition) {
             IPartition<TSource> partition = (IPartition<TSource>) source;
             return partition._skip(count);
+        } else if (source instanceof IFusible) {
+            IFusible<TSource> fusible = (IFusible<TSource>) source;
+            return fusible._fuse()._skip(count);
         }
 
         if (source instanceof IList) {
@@ -45,12 +48,31 @@ public final class Skip {
         return new EnumerablePartition<>(source, count, -1);
     }
 
+    public static <TSource> IEnumerable<TSource> skip(IEnumerable<TSource> source, long count) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (count <= Integer.MAX_VALUE)
+            return skip(source, count <= 0 ? 0 : (int) count);
+
+        // a source with a known count holds at most Integer.MAX_VALUE elements
+        if (EnumerableHelpers.tryGetCount(source) >= 0)
+            return EmptyPartition.instance();
+
+        return new LongEnumerablePartition<>(source, count, -1);
+    }
+
     public static <TSource> IEnumerable<TSource> skipWhile(IEnumerable<TSource> source, Predicate1<TSource> predicate) {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
         if (predicate == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.predicate);
 
+        if (source instanceof IFusible) {
+            IFusible<TSource> fusible = (IFusible<TSource>) source;
+            return fusible._fuse()._skipWhile(predicate);
+        }
+
         return new SkipWhileIterator<>(source, predicate);
     }
 
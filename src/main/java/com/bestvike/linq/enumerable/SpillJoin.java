@@ -0,0 +1,465 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.Array;
+import com.bestvike.collections.generic.EqualityComparer;
+import com.bestvike.collections.generic.IEqualityComparer;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Func2;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+import com.bestvike.linq.util.ISerializer;
+import com.bestvike.linq.util.Serializer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Inner join for inputs larger than the heap. When the inner sequence has more elements than the memory budget,
+ * both sequences are partitioned by key hash into temporary files and joined partition by partition.
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public final class SpillJoin {
+    private SpillJoin() {
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> spillJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, int memoryBudget) {
+        return spillJoin(outer, inner, outerKeySelector, innerKeySelector, resultSelector, null, Serializer.Default(), Serializer.Default(), memoryBudget);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> spillJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, IEqualityComparer<TKey> comparer, ISerializer<TOuter> outerSerializer, ISerializer<TInner> innerSerializer, int memoryBudget) {
+        if (outer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outer);
+        if (inner == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.inner);
+        if (outerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerKeySelector);
+        if (innerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerKeySelector);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+        if (outerSerializer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerSerializer);
+        if (innerSerializer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerSerializer);
+        if (memoryBudget < 1)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.memoryBudget);
+
+        return new SpillJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, resultSelector, comparer, outerSerializer, innerSerializer, memoryBudget);
+    }
+}
+
+
+// The memory budget is the count of inner elements held in memory. A partition still larger than the budget is
+// partitioned again by other hash bits, up to MAX_DEPTH levels. A pass which does not split the partition, such as
+// one heavily skewed key, stops the partitioning; that partition is joined block by block instead, each block of the
+// inner side fits the budget and is joined with the whole outer side. Results are returned partition by partition.
+final class SpillJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator<TResult> {
+    private static final int PARTITION_BITS = 5;
+    private static final int PARTITION_COUNT = 1 << PARTITION_BITS;
+    private static final int MAX_DEPTH = 32 / PARTITION_BITS - 1;
+    private final IEnumerable<TOuter> outer;
+    private final IEnumerable<TInner> inner;
+    private final Func1<TOuter, TKey> outerKeySelector;
+    private final Func1<TInner, TKey> innerKeySelector;
+    private final Func2<TOuter, TInner, TResult> resultSelector;
+    private final IEqualityComparer<TKey> comparer;
+    private final ISerializer<TOuter> outerSerializer;
+    private final ISerializer<TInner> innerSerializer;
+    private final int memoryBudget;
+    private File directory;
+    private int fileId;
+    private Deque<SpillPartition> partitions;
+    private SpillPartition partition;
+    private SpillReader<TInner> innerReader;// inner side of the partition, read block by block
+    private int innerRemaining;
+    private IEnumerator<TResult> joinEnumerator;
+
+    SpillJoinIterator(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, IEqualityComparer<TKey> comparer, ISerializer<TOuter> outerSerializer, ISerializer<TInner> innerSerializer, int memoryBudget) {
+        this.outer = outer;
+        this.inner = inner;
+        this.outerKeySelector = outerKeySelector;
+        this.innerKeySelector = innerKeySelector;
+        this.resultSelector = resultSelector;
+        this.comparer = comparer == null ? EqualityComparer.Default() : comparer;
+        this.outerSerializer = outerSerializer;
+        this.innerSerializer = innerSerializer;
+        this.memoryBudget = memoryBudget;
+    }
+
+    @Override
+    public AbstractIterator<TResult> clone() {
+        return new SpillJoinIterator<>(this.outer, this.inner, this.outerKeySelector, this.innerKeySelector, this.resultSelector, this.comparer, this.outerSerializer, this.innerSerializer, this.memoryBudget);
+    }
+
+    @Override
+    public boolean moveNext() {
+        do {
+            switch (this.state) {
+                case 1:
+                    this.start();
+                    this.state = 2;
+                case 2:
+                    if (this.joinEnumerator != null) {
+                        if (this.joinEnumerator.moveNext()) {
+                            this.current = this.joinEnumerator.current();
+                            return true;
+                        }
+                        this.joinEnumerator.close();
+                        this.joinEnumerator = null;
+                        if (this.partition != null) {
+                            if (this.innerRemaining > 0) {
+                                this.nextBlock();
+                                break;
+                            }
+                            this.closeInnerReader();
+                            this.partition.delete();
+                            this.partition = null;
+                        }
+                    }
+                    if (this.partitions == null || this.partitions.isEmpty()) {
+                        this.close();
+                        return false;
+                    }
+                    this.nextPartition();
+                    break;
+                default:
+                    return false;
+            }
+        } while (true);
+    }
+
+    // joins in memory when the inner sequence fits the budget, otherwise partitions both sequences to disk
+    private void start() {
+        List<TInner> buffer = new ArrayList<>();
+        try (IEnumerator<TInner> e = this.inner.enumerator()) {
+            while (e.moveNext()) {
+                buffer.add(e.current());
+                if (buffer.size() <= this.memoryBudget)
+                    continue;
+
+                this.partitions = new ArrayDeque<>();
+                try {
+                    this.directory = Files.createTempDirectory("linq-spill-join").toFile();
+                    SpillWriter<TInner>[] innerWriters = this.createWriters(this.innerSerializer);
+                    try {
+                        for (TInner item : buffer)
+                            this.writeInner(item, innerWriters, 0);
+                        buffer = null;
+                        while (e.moveNext())
+                            this.writeInner(e.current(), innerWriters, 0);
+                    } finally {
+                        closeWriters(innerWriters);
+                    }
+                    SpillWriter<TOuter>[] outerWriters = this.createWriters(this.outerSerializer);
+                    try (IEnumerator<TOuter> o = this.outer.enumerator()) {
+                        while (o.moveNext())
+                            this.writeOuter(o.current(), outerWriters, 0);
+                    } finally {
+                        closeWriters(outerWriters);
+                    }
+                    this.addPartitions(innerWriters, outerWriters, 0);
+                } catch (IOException ex) {
+                    ThrowHelper.throwRuntimeException(ex);
+                }
+                return;
+            }
+        }
+        this.joinEnumerator = new JoinIterator<>(this.outer, new Array<>(buffer.toArray()), this.outerKeySelector, this.innerKeySelector, this.resultSelector, this.comparer).enumerator();
+    }
+
+    // joins the next partition, or partitions it again when its inner side is larger than the budget
+    private void nextPartition() {
+        SpillPartition partition = this.partitions.pop();
+        try {
+            if (partition.innerCount == 0 || partition.outerCount == 0) {
+                partition.delete();
+                return;
+            }
+            if (partition.innerCount > this.memoryBudget && partition.depth < MAX_DEPTH && this.repartition(partition))
+                return;
+            this.partition = partition;
+            this.innerReader = new SpillReader<>(partition.innerFile, this.innerSerializer);
+            this.innerRemaining = partition.innerCount;
+            this.nextBlock();
+        } catch (IOException e) {
+            ThrowHelper.throwRuntimeException(e);
+        }
+    }
+
+    // partitions again by the hash bits of the next depth, returns false if the inner side is not split
+    private boolean repartition(SpillPartition partition) throws IOException {
+        int depth = partition.depth + 1;
+        SpillWriter<TInner>[] innerWriters = this.createWriters(this.innerSerializer);
+        try (SpillReader<TInner> reader = new SpillReader<>(partition.innerFile, this.innerSerializer)) {
+            for (int i = 0; i < partition.innerCount; i++)
+                this.writeInner(reader.read(), innerWriters, depth);
+        } finally {
+            closeWriters(innerWriters);
+        }
+        for (SpillWriter<TInner> writer : innerWriters) {
+            if (writer.count == partition.innerCount) {
+                // all the keys hash to one partition, the bits left will not split them either
+                deleteWriters(innerWriters);
+                return false;
+            }
+        }
+        SpillWriter<TOuter>[] outerWriters = this.createWriters(this.outerSerializer);
+        try (SpillReader<TOuter> reader = new SpillReader<>(partition.outerFile, this.outerSerializer)) {
+            for (int i = 0; i < partition.outerCount; i++)
+                this.writeOuter(reader.read(), outerWriters, depth);
+        } finally {
+            closeWriters(outerWriters);
+        }
+        partition.delete();
+        this.addPartitions(innerWriters, outerWriters, depth);
+        return true;
+    }
+
+    // joins the next block of the inner side of the partition, at most the budget, with the whole outer side
+    private void nextBlock() {
+        int count = Math.min(this.innerRemaining, this.memoryBudget);
+        Object[] block = new Object[count];
+        try {
+            for (int i = 0; i < count; i++)
+                block[i] = this.innerReader.read();
+        } catch (IOException e) {
+            ThrowHelper.throwRuntimeException(e);
+        }
+        this.innerRemaining -= count;
+        this.joinEnumerator = new JoinIterator<>(new SpillEnumerable<>(this.partition.outerFile, this.partition.outerCount, this.outerSerializer), new Array<TInner>(block), this.outerKeySelector, this.innerKeySelector, this.resultSelector, this.comparer).enumerator();
+    }
+
+    private void closeInnerReader() {
+        if (this.innerReader != null) {
+            try {
+                this.innerReader.close();
+            } catch (IOException e) {
+                ThrowHelper.throwRuntimeException(e);
+            } finally {
+                this.innerReader = null;
+                this.innerRemaining = 0;
+            }
+        }
+    }
+
+    private <T> SpillWriter<T>[] createWriters(ISerializer<T> serializer) throws IOException {
+        //noinspection unchecked
+        SpillWriter<T>[] writers = new SpillWriter[PARTITION_COUNT];
+        try {
+            for (int i = 0; i < PARTITION_COUNT; i++)
+                writers[i] = new SpillWriter<>(new File(this.directory, String.valueOf(this.fileId++)), serializer);
+        } catch (IOException e) {
+            closeWriters(writers);
+            throw e;
+        }
+        return writers;
+    }
+
+    private static <T> void closeWriters(SpillWriter<T>[] writers) throws IOException {
+        IOException exception = null;
+        for (SpillWriter<T> writer : writers) {
+            if (writer == null)
+                continue;
+            try {
+                writer.close();
+            } catch (IOException e) {
+                exception = e;
+            }
+        }
+        if (exception != null)
+            throw exception;
+    }
+
+    private static <T> void deleteWriters(SpillWriter<T>[] writers) {
+        for (SpillWriter<T> writer : writers)
+            //noinspection ResultOfMethodCallIgnored
+            writer.file.delete();
+    }
+
+    private void addPartitions(SpillWriter<TInner>[] innerWriters, SpillWriter<TOuter>[] outerWriters, int depth) {
+        for (int i = PARTITION_COUNT - 1; i >= 0; i--)
+            this.partitions.push(new SpillPartition(innerWriters[i].file, innerWriters[i].count, outerWriters[i].file, outerWriters[i].count, depth));
+    }
+
+    // null keys never match, they are not written
+    private void writeInner(TInner item, SpillWriter<TInner>[] writers, int depth) throws IOException {
+        TKey key = this.innerKeySelector.apply(item);
+        if (key != null)
+            writers[this.partitionOf(key, depth)].write(item);
+    }
+
+    private void writeOuter(TOuter item, SpillWriter<TOuter>[] writers, int depth) throws IOException {
+        TKey key = this.outerKeySelector.apply(item);
+        if (key != null)
+            writers[this.partitionOf(key, depth)].write(item);
+    }
+
+    private int partitionOf(TKey key, int depth) {
+        int hash = this.comparer.hashCode(key) * 0x9E3779B9;
+        return (hash >>> (32 - PARTITION_BITS * (depth + 1))) & (PARTITION_COUNT - 1);
+    }
+
+    @Override
+    public void close() {
+        if (this.joinEnumerator != null) {
+            this.joinEnumerator.close();
+            this.joinEnumerator = null;
+        }
+        this.closeInnerReader();
+        if (this.directory != null) {
+            File[] files = this.directory.listFiles();
+            if (files != null) {
+                for (File file : files)
+                    //noinspection ResultOfMethodCallIgnored
+                    file.delete();
+            }
+            //noinspection ResultOfMethodCallIgnored
+            this.directory.delete();
+            this.directory = null;
+        }
+        this.partitions = null;
+        this.partition = null;
+        super.close();
+    }
+}
+
+
+final class SpillPartition {
+    final File innerFile;
+    final int innerCount;
+    final File outerFile;
+    final int outerCount;
+    final int depth;
+
+    SpillPartition(File innerFile, int innerCount, File outerFile, int outerCount, int depth) {
+        this.innerFile = innerFile;
+        this.innerCount = innerCount;
+        this.outerFile = outerFile;
+        this.outerCount = outerCount;
+        this.depth = depth;
+    }
+
+    void delete() {
+        //noinspection ResultOfMethodCallIgnored
+        this.innerFile.delete();
+        //noinspection ResultOfMethodCallIgnored
+        this.outerFile.delete();
+    }
+}
+
+
+final class SpillWriter<T> implements AutoCloseable {
+    private static final int RESET_INTERVAL = 1024;// drops the back references kept by the stream
+    final File file;
+    private final ISerializer<T> serializer;
+    private final ObjectOutputStream output;
+    int count;
+
+    SpillWriter(File file, ISerializer<T> serializer) throws IOException {
+        this.file = file;
+        this.serializer = serializer;
+        this.output = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(file.toPath())));
+    }
+
+    void write(T item) throws IOException {
+        this.serializer.write(item, this.output);
+        if (++this.count % RESET_INTERVAL == 0)
+            this.output.reset();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.output.close();
+    }
+}
+
+
+final class SpillReader<T> implements AutoCloseable {
+    private final ISerializer<T> serializer;
+    private final ObjectInputStream input;
+
+    SpillReader(File file, ISerializer<T> serializer) throws IOException {
+        this.serializer = serializer;
+        this.input = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())));
+    }
+
+    T read() throws IOException {
+        return this.serializer.read(this.input);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.input.close();
+    }
+}
+
+
+// Streams the elements of a spill file.
+final class SpillEnumerable<T> extends AbstractIterator<T> {
+    private final File file;
+    private final int count;
+    private final ISerializer<T> serializer;
+    private SpillReader<T> reader;
+    private int index;
+
+    SpillEnumerable(File file, int count, ISerializer<T> serializer) {
+        this.file = file;
+        this.count = count;
+        this.serializer = serializer;
+    }
+
+    @Override
+    public AbstractIterator<T> clone() {
+        return new SpillEnumerable<>(this.file, this.count, this.serializer);
+    }
+
+    @Override
+    public boolean moveNext() {
+        try {
+            switch (this.state) {
+                case 1:
+                    this.reader = new SpillReader<>(this.file, this.serializer);
+                    this.state = 2;
+                case 2:
+                    if (this.index < this.count) {
+                        this.current = this.reader.read();
+                        this.index++;
+                        return true;
+                    }
+                    this.close();
+                    return false;
+                default:
+                    return false;
+            }
+        } catch (IOException e) {
+            ThrowHelper.throwRuntimeException(e);
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.reader != null) {
+            try {
+                this.reader.close();
+            } catch (IOException e) {
+                ThrowHelper.throwRuntimeException(e);
+            } finally {
+                this.reader = null;
+            }
+        }
+        super.close();
+    }
+}
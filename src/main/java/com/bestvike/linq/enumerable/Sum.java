@@ -1,5 +1,6 @@
 package com.bestvike.linq.enumerable;
 
+import com.bestvike.collections.generic.IArray;
 import com.bestvike.function.DecimalFunc1;
 import com.bestvike.function.DoubleFunc1;
 import com.bestvike.function.FloatFunc1;
@@ -11,7 +12,6 @@ import com.bestvike.function.NullableFloatFunc1;
 import com.bestvike.function.NullableIntFunc1;
 import com.bestvike.function.NullableLongFunc1;
 import com.bestvike.linq.IEnumerable;
-import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
 
@@ -28,135 +28,146 @@ public final class Sum {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
-        int sum = 0;
-        try (IEnumerator<Integer> e = source.enumerator()) {
-            while (e.moveNext())
-                sum = Math.addExact(sum, e.current());
+        if (source instanceof IArray) {
+            IArray<Integer> array = (IArray<Integer>) source;
+            Object items = array.getArray();
+            if (items instanceof int[])
+                return IntEnumerable.sum((int[]) items, array._getStartIndex(), array._getEndIndex());
         }
-        return sum;
+
+        int[] sum = {0};
+        EnumerableHelpers.consume(source, item -> {
+            sum[0] = Math.addExact(sum[0], item);
+            return true;
+        });
+        return sum[0];
     }
 
     public static int sumIntNull(IEnumerable<Integer> source) {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
-        int sum = 0;
-        try (IEnumerator<Integer> e = source.enumerator()) {
-            while (e.moveNext()) {
-                Integer v = e.current();
-                if (v != null)
-                    sum = Math.addExact(sum, v);
-            }
-        }
-        return sum;
+        int[] sum = {0};
+        EnumerableHelpers.consume(source, item -> {
+            if (item != null)
+                sum[0] = Math.addExact(sum[0], item);
+            return true;
+        });
+        return sum[0];
     }
 
     public static long sumLong(IEnumerable<Long> source) {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
-        long sum = 0;
-        try (IEnumerator<Long> e = source.enumerator()) {
-            while (e.moveNext())
-                sum = Math.addExact(sum, e.current());
+        if (source instanceof IArray) {
+            IArray<Long> array = (IArray<Long>) source;
+            Object items = array.getArray();
+            if (items instanceof long[])
+                return LongEnumerable.sum((long[]) items, array._getStartIndex(), array._getEndIndex());
         }
-        return sum;
+
+        long[] sum = {0};
+        EnumerableHelpers.consume(source, item -> {
+            sum[0] = Math.addExact(sum[0], item);
+            return true;
+        });
+        return sum[0];
     }
 
     public static long sumLongNull(IEnumerable<Long> source) {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
-        long sum = 0;
-        try (IEnumerator<Long> e = source.enumerator()) {
-            while (e.moveNext()) {
-                Long v = e.current();
-                if (v != null)
-                    sum = Math.addExact(sum, v);
-            }
-        }
-        return sum;
+        long[] sum = {0};
+        EnumerableHelpers.consume(source, item -> {
+            if (item != null)
+                sum[0] = Math.addExact(sum[0], item);
+            return true;
+        });
+        return sum[0];
     }
 
     public static float sumFloat(IEnumerable<Float> source) {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
-        double sum = 0;
-        try (IEnumerator<Float> e = source.enumerator()) {
-            while (e.moveNext())
-                sum += e.current();
-        }
-        return (float) sum;
+        double[] sum = {0};
+        EnumerableHelpers.consume(source, item -> {
+            sum[0] += item;
+            return true;
+        });
+        return (float) sum[0];
     }
 
     public static float sumFloatNull(IEnumerable<Float> source) {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
-        double sum = 0;
-        try (IEnumerator<Float> e = source.enumerator()) {
-            while (e.moveNext()) {
-                Float v = e.current();
-                if (v != null)
-                    sum += v;
-            }
-        }
-        return (float) sum;
+        double[] sum = {0};
+        EnumerableHelpers.consume(source, item -> {
+            if (item != null)
+                sum[0] += item;
+            return true;
+        });
+        return (float) sum[0];
     }
 
     public static double sumDouble(IEnumerable<Double> source) {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
-        double sum = 0;
-        try (IEnumerator<Double> e = source.enumerator()) {
-            while (e.moveNext())
-                sum += e.current();
+        if (source instanceof IArray) {
+            IArray<Double> array = (IArray<Double>) source;
+            Object items = array.getArray();
+            if (items instanceof double[])
+                return DoubleEnumerable.sum((double[]) items, array._getStartIndex(), array._getEndIndex());
         }
-        return sum;
+
+        double[] sum = {0};
+        EnumerableHelpers.consume(source, item -> {
+            sum[0] += item;
+            return true;
+        });
+        return sum[0];
     }
 
     public static double sumDoubleNull(IEnumerable<Double> source) {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
-        double sum = 0;
-        try (IEnumerator<Double> e = source.enumerator()) {
-            while (e.moveNext()) {
-                Double v = e.current();
-                if (v != null)
-                    sum += v;
-            }
-        }
-        return sum;
+        double[] sum = {0};
+        EnumerableHelpers.consume(source, item -> {
+            if (item != null)
+                sum[0] += item;
+            return true;
+        });
+        return sum[0];
     }
 
     public static BigDecimal sumDecimal(IEnumerable<BigDecimal> source) {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
-        BigDecimal sum = BigDecimal.ZERO;
-        try (IEnumerator<BigDecimal> e = source.enumerator()) {
-            while (e.moveNext())
-                sum = sum.add(e.current());
-        }
-        return sum;
+        BigDecimal[] sum = {BigDecimal.ZERO};
+        EnumerableHelpers.consume(source, item -> {
+            sum[0] = sum[0].add(item);
+            return true;
+        });
+        return sum[0];
     }
 
     public static BigDecimal sumDecimalNull(IEnumerable<BigDecimal> source) {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
-        BigDecimal sum = BigDecimal.ZERO;
-        try (IEnumerator<BigDecimal> e = source.enumerator()) {
-            while (e.moveNext()) {
-                BigDecimal v = e.current();
-                if (v != null)
-                    sum = sum.add(v);
-            }
-        }
-        return sum;
+        BigDecimal[] sum = {BigDecimal.ZERO};
+        EnumerableHelpers.consume(source, item -> {
+            if (item != null)
+                sum[0] = sum[0].add(item);
+            return true;
+        });
+        return sum[0];
     }
 
     public static <TSource> int sumInt(IEnumerable<TSource> source, IntFunc1<TSource> selector) {
@@ -165,12 +176,12 @@ public final class Sum {
         if (selector == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
 
-        int sum = 0;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext())
-                sum = Math.addExact(sum, selector.apply(e.current()));
-        }
-        return sum;
+        int[] sum = {0};
+        EnumerableHelpers.consume(source, item -> {
+            sum[0] = Math.addExact(sum[0], selector.apply(item));
+            return true;
+        });
+        return sum[0];
     }
 
     public static <TSource> int sumIntNull(IEnumerable<TSource> source, NullableIntFunc1<TSource> selector) {
@@ -179,15 +190,14 @@ public final class Sum {
         if (selector == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
 
-        int sum = 0;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext()) {
-                Integer v = selector.apply(e.current());
-                if (v != null)
-                    sum = Math.addExact(sum, v);
-            }
-        }
-        return sum;
+        int[] sum = {0};
+        EnumerableHelpers.consume(source, item -> {
+            Integer v = selector.apply(item);
+            if (v != null)
+                sum[0] = Math.addExact(sum[0], v);
+            return true;
+        });
+        return sum[0];
     }
 
     public static <TSource> long sumLong(IEnumerable<TSource> source, LongFunc1<TSource> selector) {
@@ -196,12 +206,12 @@ public final class Sum {
         if (selector == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
 
-        long sum = 0;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext())
-                sum = Math.addExact(sum, selector.apply(e.current()));
-        }
-        return sum;
+        long[] sum = {0};
+        EnumerableHelpers.consume(source, item -> {
+            sum[0] = Math.addExact(sum[0], selector.apply(item));
+            return true;
+        });
+        return sum[0];
     }
 
     public static <TSource> long sumLongNull(IEnumerable<TSource> source, NullableLongFunc1<TSource> selector) {
@@ -210,15 +220,14 @@ public final class Sum {
         if (selector == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
 
-        long sum = 0;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext()) {
-                Long v = selector.apply(e.current());
-                if (v != null)
-                    sum = Math.addExact(sum, v);
-            }
-        }
-        return sum;
+        long[] sum = {0};
+        EnumerableHelpers.consume(source, item -> {
+            Long v = selector.apply(item);
+            if (v != null)
+                sum[0] = Math.addExact(sum[0], v);
+            return true;
+        });
+        return sum[0];
     }
 
     public static <TSource> float sumFloat(IEnumerable<TSource> source, FloatFunc1<TSource> selector) {
@@ -227,12 +236,12 @@ public final class Sum {
         if (selector == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
 
-        double sum = 0;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext())
-                sum += selector.apply(e.current());
-        }
-        return (float) sum;
+        double[] sum = {0};
+        EnumerableHelpers.consume(source, item -> {
+            sum[0] += selector.apply(item);
+            return true;
+        });
+        return (float) sum[0];
     }
 
     public static <TSource> float sumFloatNull(IEnumerable<TSource> source, NullableFloatFunc1<TSource> selector) {
@@ -241,15 +250,14 @@ public final class Sum {
         if (selector == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
 
-        double sum = 0;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext()) {
-                Float v = selector.apply(e.current());
-                if (v != null)
-                    sum += v;
-            }
-        }
-        return (float) sum;
+        double[] sum = {0};
+        EnumerableHelpers.consume(source, item -> {
+            Float v = selector.apply(item);
+            if (v != null)
+                sum[0] += v;
+            return true;
+        });
+        return (float) sum[0];
     }
 
     public static <TSource> double sumDouble(IEnumerable<TSource> source, DoubleFunc1<TSource> selector) {
@@ -258,12 +266,12 @@ public final class Sum {
         if (selector == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
 
-        double sum = 0;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext())
-                sum += selector.apply(e.current());
-        }
-        return sum;
+        double[] sum = {0};
+        EnumerableHelpers.consume(source, item -> {
+            sum[0] += selector.apply(item);
+            return true;
+        });
+        return sum[0];
     }
 
     public static <TSource> double sumDoubleNull(IEnumerable<TSource> source, NullableDoubleFunc1<TSource> selector) {
@@ -272,15 +280,14 @@ public final class Sum {
         if (selector == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
 
-        double sum = 0;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext()) {
-                Double v = selector.apply(e.current());
-                if (v != null)
-                    sum += v;
-            }
-        }
-        return sum;
+        double[] sum = {0};
+        EnumerableHelpers.consume(source, item -> {
+            Double v = selector.apply(item);
+            if (v != null)
+                sum[0] += v;
+            return true;
+        });
+        return sum[0];
     }
 
     public static <TSource> BigDecimal sumDecimal(IEnumerable<TSource> source, DecimalFunc1<TSource> selector) {
@@ -289,12 +296,12 @@ public final class Sum {
         if (selector == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
 
-        BigDecimal sum = BigDecimal.ZERO;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext())
-                sum = sum.add(selector.apply(e.current()));
-        }
-        return sum;
+        BigDecimal[] sum = {BigDecimal.ZERO};
+        EnumerableHelpers.consume(source, item -> {
+            sum[0] = sum[0].add(selector.apply(item));
+            return true;
+        });
+        return sum[0];
     }
 
     public static <TSource> BigDecimal sumDecimalNull(IEnumerable<TSource> source, NullableDecimalFunc1<TSource> selector) {
@@ -303,14 +310,13 @@ public final class Sum {
         if (selector == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
 
-        BigDecimal sum = BigDecimal.ZERO;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext()) {
-                BigDecimal v = selector.apply(e.current());
-                if (v != null)
-                    sum = sum.add(v);
-            }
-        }
-        return sum;
+        BigDecimal[] sum = {BigDecimal.ZERO};
+        EnumerableHelpers.consume(source, item -> {
+            BigDecimal v = selector.apply(item);
+            if (v != null)
+                sum[0] = sum[0].add(v);
+            return true;
+        });
+        return sum[0];
     }
 }
@@ -31,6 +31,11 @@ public final class Take {
             return partition._take(count);
         }
 
+        if (source instanceof IFusible) {
+            IFusible<TSource> fusible = (IFusible<TSource>) source;
+            return fusible._fuse()._take(count);
+        }
+
         if (source instanceof IList) {
             if (source instanceof IArrayList) {
                 IArrayList<TSource> sourceList = (IArrayList<TSource>) source;
@@ -44,12 +49,31 @@ public final class Take {
         return new EnumerablePartition<>(source, 0, count - 1);
     }
 
+    public static <TSource> IEnumerable<TSource> take(IEnumerable<TSource> source, long count) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (count <= Integer.MAX_VALUE)
+            return take(source, count <= 0 ? 0 : (int) count);
+
+        // a source with a known count holds at most Integer.MAX_VALUE elements
+        if (EnumerableHelpers.tryGetCount(source) >= 0)
+            return take(source, Integer.MAX_VALUE);
+
+        return new LongEnumerablePartition<>(source, 0, count - 1);
+    }
+
     public static <TSource> IEnumerable<TSource> takeWhile(IEnumerable<TSource> source, Predicate1<TSource> predicate) {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
         if (predicate == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.predicate);
 
+        if (source instanceof IFusible) {
+            IFusible<TSource> fusible = (IFusible<TSource>) source;
+            return fusible._fuse()._takeWhile(predicate);
+        }
+
         return new TakeWhileIterator<>(source, predicate);
     }
 
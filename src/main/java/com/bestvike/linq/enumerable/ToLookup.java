@@ -2,6 +2,8 @@ package com.bestvike.linq.enumerable;
 
 import com.bestvike.collections.generic.IEqualityComparer;
 import com.bestvike.function.Func1;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.ILookup;
 import com.bestvike.linq.exception.ExceptionArgument;
@@ -24,7 +26,7 @@ public final class ToLookup {
         if (keySelector == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
 
-        return Lookup.create(source, keySelector, comparer);
+        return CompactLookup.create(source, keySelector, comparer);
     }
 
     public static <TSource, TKey, TElement> ILookup<TKey, TElement> toLookup(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector) {
@@ -39,6 +41,24 @@ public final class ToLookup {
         if (elementSelector == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.elementSelector);
 
-        return Lookup.create(source, keySelector, elementSelector, comparer);
+        return CompactLookup.create(source, keySelector, elementSelector, comparer);
+    }
+
+    public static <TSource> ILookup<Integer, TSource> toLookupInt(IEnumerable<TSource> source, IntFunc1<TSource> keySelector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        return IntLookup.create(source, keySelector);
+    }
+
+    public static <TSource> ILookup<Long, TSource> toLookupLong(IEnumerable<TSource> source, LongFunc1<TSource> keySelector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        return LongLookup.create(source, keySelector);
     }
 }
@@ -3,11 +3,15 @@ package com.bestvike.linq.enumerable;
 import com.bestvike.collections.generic.IArray;
 import com.bestvike.collections.generic.ICollection;
 import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.function.Consumer;
 
 /**
  * Created by 许崇雷 on 2019-04-25.
@@ -44,13 +48,300 @@ public final class ToSpliterator {
             return Spliterators.spliterator(collection.getCollection(), Spliterator.IMMUTABLE);
         }
 
+        if (source instanceof IPartition) {
+            IPartition<TSource> partition = (IPartition<TSource>) source;
+            int count = partition._getCount(true);
+            if (count != -1) {
+                if (PartitionSpliterator.isIndexed(partition))
+                    return new PartitionSpliterator<>(partition, 0, count);
+                // _skip and _take of other partitions sort or read the whole source again for each range, so buffer once
+                return Spliterators.spliterator(partition._toArray(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+            }
+        }
+
+        if (source instanceof ConcatIterator)
+            return new ConcatSpliterator<>((ConcatIterator<TSource>) source);
+
         if (source instanceof IIListProvider) {
             IIListProvider<TSource> listProv = (IIListProvider<TSource>) source;
             int count = listProv._getCount(true);
             if (count != -1)
-                return Spliterators.spliterator(source.enumerator(), count, Spliterator.IMMUTABLE);
+                return new EnumeratorSpliterator<>(source.enumerator(), count, Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE);
+        }
+
+        return new EnumeratorSpliterator<>(source.enumerator(), Long.MAX_VALUE, Spliterator.IMMUTABLE);
+    }
+}
+
+
+// Splits a sized partition by index range, each range is enumerated through _skip and _take of the partition.
+final class PartitionSpliterator<TSource> implements Spliterator<TSource> {
+    private final IPartition<TSource> source;
+    private int index;
+    private final int fence;
+    private IEnumerator<TSource> enumerator;
+
+    PartitionSpliterator(IPartition<TSource> source, int origin, int fence) {
+        assert isIndexed(source);
+        this.source = source;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    // Whether _skip and _take of the partition index into its source, instead of reading or sorting it from the start.
+    static boolean isIndexed(IPartition<?> partition) {
+        return partition instanceof RangeIterator
+                || partition instanceof RepeatIterator
+                || partition instanceof ListPartition
+                || partition instanceof IListPartition
+                || partition instanceof SelectArrayIterator
+                || partition instanceof SelectRangeIterator
+                || partition instanceof SelectRepeatIterator
+                || partition instanceof SelectListIterator
+                || partition instanceof SelectIListIterator
+                || partition instanceof SelectListPartitionIterator
+                || partition instanceof SelectIListPartitionIterator;
+    }
+
+    private IEnumerator<TSource> getEnumerator() {
+        if (this.enumerator == null) {
+            IPartition<TSource> partition = this.source;
+            if (this.index > 0)
+                partition = partition._skip(this.index);
+            if (this.fence < this.source._getCount(true))
+                partition = partition._take(this.fence - this.index);
+            this.enumerator = partition.enumerator();
+        }
+        return this.enumerator;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super TSource> action) {
+        if (action == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.action);
+        if (this.index >= this.fence)
+            return false;
+
+        IEnumerator<TSource> e = this.getEnumerator();
+        if (e.moveNext()) {
+            this.index++;
+            action.accept(e.current());
+            return true;
+        }
+        this.index = this.fence;
+        e.close();
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super TSource> action) {
+        if (action == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.action);
+        if (this.index >= this.fence)
+            return;
+
+        try (IEnumerator<TSource> e = this.getEnumerator()) {
+            this.index = this.fence;
+            while (e.moveNext())
+                action.accept(e.current());
+        }
+    }
+
+    @Override
+    public Spliterator<TSource> trySplit() {
+        int origin = this.index;
+        int mid = (origin + this.fence) >>> 1;
+        if (mid <= origin)
+            return null;
+        if (this.enumerator != null) {
+            // Hand over the rest of the started range, continue from mid with a new enumerator.
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        this.index = mid;
+        return new PartitionSpliterator<>(this.source, origin, mid);
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.fence - this.index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
+    }
+}
+
+
+// Splits a concatenation on the boundaries of its sources, the last source left is split by its own spliterator.
+final class ConcatSpliterator<TSource> implements Spliterator<TSource> {
+    private final List<IEnumerable<TSource>> sources;
+    private int index;
+    private final int fence;
+    private Spliterator<TSource> current;
+
+    ConcatSpliterator(ConcatIterator<TSource> source) {
+        this.sources = new ArrayList<>();
+        for (int i = 0; ; i++) {
+            IEnumerable<TSource> next = source.getEnumerable(i);
+            if (next == null)
+                break;
+            this.sources.add(next);
         }
+        this.index = 0;
+        this.fence = this.sources.size();
+    }
+
+    private ConcatSpliterator(List<IEnumerable<TSource>> sources, int origin, int fence) {
+        this.sources = sources;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super TSource> action) {
+        if (action == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.action);
+
+        while (true) {
+            if (this.current == null) {
+                if (this.index >= this.fence)
+                    return false;
+                this.current = ToSpliterator.spliterator(this.sources.get(this.index++));
+            }
+            if (this.current.tryAdvance(action))
+                return true;
+            this.current = null;
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super TSource> action) {
+        if (action == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.action);
+
+        if (this.current != null) {
+            this.current.forEachRemaining(action);
+            this.current = null;
+        }
+        while (this.index < this.fence)
+            ToSpliterator.spliterator(this.sources.get(this.index++)).forEachRemaining(action);
+    }
+
+    @Override
+    public Spliterator<TSource> trySplit() {
+        if (this.current != null) {
+            if (this.index < this.fence) {
+                Spliterator<TSource> prefix = this.current;
+                this.current = null;
+                return prefix;
+            }
+            return this.current.trySplit();
+        }
+
+        int origin = this.index;
+        int remaining = this.fence - origin;
+        if (remaining > 1) {
+            int mid = (origin + this.fence) >>> 1;
+            this.index = mid;
+            return mid - origin == 1 ? ToSpliterator.spliterator(this.sources.get(origin)) : new ConcatSpliterator<>(this.sources, origin, mid);
+        }
+        if (remaining == 1) {
+            this.current = ToSpliterator.spliterator(this.sources.get(this.index++));
+            return this.current.trySplit();
+        }
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        long size = 0;
+        if (this.current != null) {
+            size = this.current.getExactSizeIfKnown();
+            if (size == -1)
+                return Long.MAX_VALUE;
+        }
+        for (int i = this.index; i < this.fence; i++) {
+            IEnumerable<TSource> source = this.sources.get(i);
+            int count = source instanceof ICollection
+                    ? ((ICollection<TSource>) source)._getCount()
+                    : source instanceof IIListProvider ? ((IIListProvider<TSource>) source)._getCount(true) : -1;
+            if (count == -1)
+                return Long.MAX_VALUE;
+            size += count;
+        }
+        return size;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.IMMUTABLE;
+    }
+}
+
+
+// Reads an enumerator in sequence and splits off a batch of elements moved into an array, like the iterator spliterator
+// of Spliterators, except that the batch is moved by moveNextBatch instead of one hasNext and next per element.
+final class EnumeratorSpliterator<TSource> implements Spliterator<TSource> {
+    private static final int BATCH_UNIT = 1 << 10;
+    private static final int MAX_BATCH = 1 << 25;
+    private final IEnumerator<TSource> enumerator;
+    private final int characteristics;
+    private long size;// Long.MAX_VALUE if unknown
+    private int batch;
+
+    EnumeratorSpliterator(IEnumerator<TSource> enumerator, long size, int characteristics) {
+        this.enumerator = enumerator;
+        this.size = size;
+        this.characteristics = characteristics;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super TSource> action) {
+        if (action == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.action);
+
+        if (this.enumerator.moveNext()) {
+            action.accept(this.enumerator.current());
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super TSource> action) {
+        if (action == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.action);
+
+        while (this.enumerator.moveNext())
+            action.accept(this.enumerator.current());
+    }
+
+    @Override
+    public Spliterator<TSource> trySplit() {
+        if (this.size <= 1)
+            return null;
+
+        int length = (int) Math.min(Math.min(this.size, this.batch + BATCH_UNIT), MAX_BATCH);
+        Object[] array = new Object[length];
+        int count = this.enumerator.moveNextBatch(array, 0, length);
+        if (count == 0)
+            return null;
+
+        this.batch = count;
+        if (this.size != Long.MAX_VALUE)
+            this.size -= count;
+        return Spliterators.spliterator(array, 0, count, this.characteristics);
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.size;
+    }
 
-        return Spliterators.spliteratorUnknownSize(source.enumerator(), Spliterator.IMMUTABLE);
+    @Override
+    public int characteristics() {
+        return this.characteristics;
     }
 }
@@ -134,7 +134,7 @@ abstract class UnionByIterator<TSource, TKey> extends Iterator<TSource> implemen
 
     @Override
     public TSource[] _toArray(Class<TSource> clazz) {
-        LargeArrayBuilder<TSource> builder = new LargeArrayBuilder<>();
+        LargeArrayBuilder<TSource> builder = new LargeArrayBuilder<>(clazz);
         Set<TKey> set = new Set<>(this.comparer);
         for (int index = 0; ; ++index) {
             IEnumerable<TSource> enumerable = this.getEnumerable(index);
@@ -4,11 +4,10 @@ import com.bestvike.collections.generic.Comparer;
 import com.bestvike.collections.generic.ICollection;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
-import com.bestvike.linq.exception.ThrowHelper;
+import com.bestvike.linq.util.FieldAccessor;
 import com.bestvike.linq.util.Formatter;
 import com.bestvike.linq.util.Reflection;
 
-import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Collection;
@@ -81,14 +80,14 @@ public final class Values {
             return x.equals(y);
         if (clazz != y.getClass())
             return false;
-        Field[] fields = Reflection.getFields(clazz);
-        try {
-            for (Field field : fields) {
-                if (!equals(field.get(x), field.get(y)))
-                    return false;
-            }
-        } catch (IllegalAccessException e) {
-            ThrowHelper.throwRuntimeException(e);
+        FieldAccessor[] accessors = Reflection.getAccessors(clazz);
+        for (FieldAccessor accessor : accessors) {
+            if (accessor.isPrimitive() && !accessor.valueEquals(x, y))
+                return false;
+        }
+        for (FieldAccessor accessor : accessors) {
+            if (!accessor.isPrimitive() && !accessor.valueEquals(x, y))
+                return false;
         }
         return true;
     }
@@ -1004,13 +1003,8 @@ public final class Values {
         if (clazz.getName().startsWith(JDK_PREFIX))
             return obj.hashCode();
         int result = HASH_EMPTY;
-        Field[] fields = Reflection.getFields(clazz);
-        try {
-            for (Field field : fields)
-                result = HASH_PRIME * result + hashCode(field.get(obj));
-        } catch (IllegalAccessException e) {
-            ThrowHelper.throwRuntimeException(e);
-        }
+        for (FieldAccessor accessor : Reflection.getAccessors(clazz))
+            result = HASH_PRIME * result + accessor.valueHashCode(obj);
         return result;
     }
 
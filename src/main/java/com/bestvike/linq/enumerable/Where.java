@@ -110,7 +110,7 @@ final class WhereIterator<TSource> extends AbstractIterator<TSource> {
 }
 
 
-final class WhereEnumerableIterator<TSource> extends Iterator<TSource> implements IIListProvider<TSource> {
+final class WhereEnumerableIterator<TSource> extends Iterator<TSource> implements IIListProvider<TSource>, IFusible<TSource> {
     private final IEnumerable<TSource> source;
     private final Predicate1<TSource> predicate;
     private IEnumerator<TSource> enumerator;
@@ -167,9 +167,14 @@ final class WhereEnumerableIterator<TSource> extends Iterator<TSource> implement
         return new WhereEnumerableIterator<>(this.source, Utilities.combinePredicates(this.predicate, predicate));
     }
 
+    @Override
+    public FusedIterator<TSource> _fuse() {
+        return FusedIterator.from(this.source)._where(this.predicate);
+    }
+
     @Override
     public TSource[] _toArray(Class<TSource> clazz) {
-        LargeArrayBuilder<TSource> builder = new LargeArrayBuilder<>();
+        LargeArrayBuilder<TSource> builder = new LargeArrayBuilder<>(clazz);
         try (IEnumerator<TSource> e = this.source.enumerator()) {
             while (e.moveNext()) {
                 TSource item = e.current();
@@ -227,7 +232,7 @@ final class WhereEnumerableIterator<TSource> extends Iterator<TSource> implement
 }
 
 
-final class WhereArrayIterator<TSource> extends Iterator<TSource> implements IIListProvider<TSource> {
+final class WhereArrayIterator<TSource> extends Iterator<TSource> implements IIListProvider<TSource>, IFusible<TSource> {
     private final IArray<TSource> source;
     private final Predicate1<TSource> predicate;
 
@@ -261,6 +266,24 @@ final class WhereArrayIterator<TSource> extends Iterator<TSource> implements IIL
         return false;
     }
 
+    @Override
+    public int moveNextBatch(Object[] buffer, int offset, int max) {
+        if (this.state < 1)
+            return 0;
+        int index = this.state - 1;
+        int count = this.source._getCount();
+        int moved = 0;
+        while (moved < max && index < count) {
+            TSource item = this.source.get(index++);
+            if (this.predicate.apply(item))
+                buffer[offset + moved++] = item;
+        }
+        this.state = index + 1;
+        if (moved < max)
+            this.close();
+        return moved;
+    }
+
     @Override
     public <TResult> IEnumerable<TResult> _select(Func1<TSource, TResult> selector) {
         return new WhereSelectArrayIterator<>(this.source, this.predicate, selector);
@@ -271,10 +294,15 @@ final class WhereArrayIterator<TSource> extends Iterator<TSource> implements IIL
         return new WhereArrayIterator<>(this.source, Utilities.combinePredicates(this.predicate, predicate));
     }
 
+    @Override
+    public FusedIterator<TSource> _fuse() {
+        return FusedIterator.from(this.source)._where(this.predicate);
+    }
+
     @Override
     public TSource[] _toArray(Class<TSource> clazz) {
         int count = this.source._getCount();
-        LargeArrayBuilder<TSource> builder = new LargeArrayBuilder<>(count);
+        LargeArrayBuilder<TSource> builder = new LargeArrayBuilder<>(clazz, count);
         for (int i = 0; i < count; i++) {
             TSource item = this.source.get(i);
             if (this.predicate.apply(item))
@@ -325,7 +353,7 @@ final class WhereArrayIterator<TSource> extends Iterator<TSource> implements IIL
 }
 
 
-final class WhereListIterator<TSource> extends Iterator<TSource> implements IIListProvider<TSource> {
+final class WhereListIterator<TSource> extends Iterator<TSource> implements IIListProvider<TSource>, IFusible<TSource> {
     private final IArrayList<TSource> source;
     private final Predicate1<TSource> predicate;
     private IEnumerator<TSource> enumerator;
@@ -382,10 +410,15 @@ final class WhereListIterator<TSource> extends Iterator<TSource> implements IILi
         return new WhereListIterator<>(this.source, Utilities.combinePredicates(this.predicate, predicate));
     }
 
+    @Override
+    public FusedIterator<TSource> _fuse() {
+        return FusedIterator.from(this.source)._where(this.predicate);
+    }
+
     @Override
     public TSource[] _toArray(Class<TSource> clazz) {
         int count = this.source._getCount();
-        LargeArrayBuilder<TSource> builder = new LargeArrayBuilder<>(count);
+        LargeArrayBuilder<TSource> builder = new LargeArrayBuilder<>(clazz, count);
         for (int i = 0; i < count; i++) {
             TSource item = this.source.get(i);
             if (this.predicate.apply(item))
@@ -436,7 +469,7 @@ final class WhereListIterator<TSource> extends Iterator<TSource> implements IILi
 }
 
 
-final class WhereSelectArrayIterator<TSource, TResult> extends Iterator<TResult> implements IIListProvider<TResult> {
+final class WhereSelectArrayIterator<TSource, TResult> extends Iterator<TResult> implements IIListProvider<TResult>, IFusible<TResult> {
     private final IArray<TSource> source;
     private final Predicate1<TSource> predicate;
     private final Func1<TSource, TResult> selector;
@@ -478,10 +511,20 @@ final class WhereSelectArrayIterator<TSource, TResult> extends Iterator<TResult>
         return new WhereSelectArrayIterator<>(this.source, this.predicate, Utilities.combineSelectors(this.selector, selector));
     }
 
+    @Override
+    public IEnumerable<TResult> _where(Predicate1<TResult> predicate) {
+        return this._fuse()._where(predicate);
+    }
+
+    @Override
+    public FusedIterator<TResult> _fuse() {
+        return FusedIterator.from(this.source)._where(this.predicate)._select(this.selector);
+    }
+
     @Override
     public TResult[] _toArray(Class<TResult> clazz) {
         int count = this.source._getCount();
-        LargeArrayBuilder<TResult> builder = new LargeArrayBuilder<>(count);
+        LargeArrayBuilder<TResult> builder = new LargeArrayBuilder<>(clazz, count);
         for (int i = 0; i < count; i++) {
             TSource item = this.source.get(i);
             if (this.predicate.apply(item))
@@ -537,7 +580,7 @@ final class WhereSelectArrayIterator<TSource, TResult> extends Iterator<TResult>
 }
 
 
-final class WhereSelectListIterator<TSource, TResult> extends Iterator<TResult> implements IIListProvider<TResult> {
+final class WhereSelectListIterator<TSource, TResult> extends Iterator<TResult> implements IIListProvider<TResult>, IFusible<TResult> {
     private final IArrayList<TSource> source;
     private final Predicate1<TSource> predicate;
     private final Func1<TSource, TResult> selector;
@@ -592,10 +635,20 @@ final class WhereSelectListIterator<TSource, TResult> extends Iterator<TResult>
         return new WhereSelectListIterator<>(this.source, this.predicate, Utilities.combineSelectors(this.selector, selector));
     }
 
+    @Override
+    public IEnumerable<TResult> _where(Predicate1<TResult> predicate) {
+        return this._fuse()._where(predicate);
+    }
+
+    @Override
+    public FusedIterator<TResult> _fuse() {
+        return FusedIterator.from(this.source)._where(this.predicate)._select(this.selector);
+    }
+
     @Override
     public TResult[] _toArray(Class<TResult> clazz) {
         int count = this.source._getCount();
-        LargeArrayBuilder<TResult> builder = new LargeArrayBuilder<>(count);
+        LargeArrayBuilder<TResult> builder = new LargeArrayBuilder<>(clazz, count);
         for (int i = 0; i < count; i++) {
             TSource item = this.source.get(i);
             if (this.predicate.apply(item))
@@ -651,7 +704,7 @@ final class WhereSelectListIterator<TSource, TResult> extends Iterator<TResult>
 }
 
 
-final class WhereSelectEnumerableIterator<TSource, TResult> extends Iterator<TResult> implements IIListProvider<TResult> {
+final class WhereSelectEnumerableIterator<TSource, TResult> extends Iterator<TResult> implements IIListProvider<TResult>, IFusible<TResult> {
     private final IEnumerable<TSource> source;
     private final Predicate1<TSource> predicate;
     private final Func1<TSource, TResult> selector;
@@ -706,9 +759,19 @@ final class WhereSelectEnumerableIterator<TSource, TResult> extends Iterator<TRe
         return new WhereSelectEnumerableIterator<>(this.source, this.predicate, Utilities.combineSelectors(this.selector, selector));
     }
 
+    @Override
+    public IEnumerable<TResult> _where(Predicate1<TResult> predicate) {
+        return this._fuse()._where(predicate);
+    }
+
+    @Override
+    public FusedIterator<TResult> _fuse() {
+        return FusedIterator.from(this.source)._where(this.predicate)._select(this.selector);
+    }
+
     @Override
     public TResult[] _toArray(Class<TResult> clazz) {
-        LargeArrayBuilder<TResult> builder = new LargeArrayBuilder<>();
+        LargeArrayBuilder<TResult> builder = new LargeArrayBuilder<>(clazz);
         try (IEnumerator<TSource> e = this.source.enumerator()) {
             while (e.moveNext()) {
                 TSource item = e.current();
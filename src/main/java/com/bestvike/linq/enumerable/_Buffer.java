@@ -1,9 +1,13 @@
 package com.bestvike.linq.enumerable;
 
+import com.bestvike.collections.generic.ICollection;
 import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.util.ArrayUtils;
 import com.bestvike.out;
 
+import java.util.Arrays;
+
 /**
  * Created by 许崇雷 on 2018-05-07.
  */
@@ -23,6 +27,11 @@ final class Buffer<TElement> {//struct
         }
     }
 
+    Buffer(Object[] items, int count) {
+        this.items = items;
+        this.count = count;
+    }
+
     public TElement[] toArray(Class<TElement> clazz) {
         TElement[] array = ArrayUtils.newInstance(clazz, this.count);
         if (this.count > 0)
@@ -31,3 +40,80 @@ final class Buffer<TElement> {//struct
         return array;
     }
 }
+
+
+// A buffer which can hold more than Integer.MAX_VALUE elements. The elements are kept in a first array which grows up
+// to a segment, then in full segments of fixed length, so no element is copied after the first segment is full.
+final class BigBuffer<TElement> {
+    private static final int SEGMENT_SHIFT = 20;
+    private static final int SEGMENT_LENGTH = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_LENGTH - 1;
+    private static final int START_LENGTH = 16;
+    private static final Object[] EMPTY = {};
+    private static final Object[][] NO_SEGMENTS = {};
+    private final Object[] first;
+    private final int firstCount;
+    private final Object[][] segments;// full segments after the first array
+    final long count;
+
+    BigBuffer(IEnumerable<TElement> source) {
+        if (source instanceof ICollection || EnumerableHelpers.tryGetCount(source) >= 0) {
+            // a source whose count is known without enumerating fits in one array
+            Buffer<TElement> buffer = new Buffer<>(source);
+            this.first = buffer.items;
+            this.firstCount = buffer.count;
+            this.segments = NO_SEGMENTS;
+            this.count = buffer.count;
+            return;
+        }
+
+        try (IEnumerator<TElement> e = source.enumerator()) {
+            if (!e.moveNext()) {
+                this.first = EMPTY;
+                this.firstCount = 0;
+                this.segments = NO_SEGMENTS;
+                this.count = 0;
+                return;
+            }
+
+            Object[] first = new Object[START_LENGTH];
+            Object[][] segments = NO_SEGMENTS;
+            int segmentCount = 0;
+            Object[] array = first;
+            array[0] = e.current();
+            int index = 1;
+            long count = 1;
+            while (true) {
+                int copied = e.moveNextBatch(array, index, array.length - index);
+                index += copied;
+                count += copied;
+                if (index < array.length || !e.moveNext())
+                    break;
+
+                if (array == first && first.length < SEGMENT_LENGTH) {
+                    first = array = Arrays.copyOf(first, first.length << 1);
+                } else {
+                    if (segmentCount == segments.length)
+                        segments = Arrays.copyOf(segments, segments.length == 0 ? START_LENGTH : segments.length << 1);
+                    segments[segmentCount++] = array = new Object[SEGMENT_LENGTH];
+                    index = 0;
+                }
+                array[index++] = e.current();
+                count++;
+            }
+
+            this.first = first;
+            this.firstCount = segmentCount == 0 ? index : first.length;
+            this.segments = segments;
+            this.count = count;
+        }
+    }
+
+    Object get(long index) {
+        assert index >= 0 && index < this.count;
+        if (index < this.firstCount)
+            return this.first[(int) index];
+        index -= this.firstCount;
+        return this.segments[(int) (index >>> SEGMENT_SHIFT)][(int) (index & SEGMENT_MASK)];
+    }
+}
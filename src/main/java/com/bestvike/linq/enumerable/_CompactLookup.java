@@ -0,0 +1,453 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.EqualityComparer;
+import com.bestvike.collections.generic.IArray;
+import com.bestvike.collections.generic.IEqualityComparer;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Predicate1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.IGrouping;
+import com.bestvike.linq.ILookup;
+import com.bestvike.linq.adapter.enumerator.ArrayEnumerator;
+import com.bestvike.linq.debug.DebuggerDisplay;
+import com.bestvike.linq.debug.DebuggerTypeProxy;
+import com.bestvike.linq.debug.GroupingDebugView;
+import com.bestvike.linq.debug.LookupDebugView;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+import com.bestvike.linq.util.ArrayUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A lookup which stores all the elements in one contiguous array ordered by key, plus an offset table per key.
+ * It is built in two passes: the first assigns a key index to every element, the second is a counting sort.
+ * No object is allocated per key or per element while building or probing, groupings are views created on demand.
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+final class CompactLookup<TKey, TElement> extends AbstractCompactLookup<TKey, TElement> {
+    private static final int DEFAULT_BUCKETS = 8;
+    private final IEqualityComparer<TKey> comparer;
+    private int[] buckets;// open addressing table of key index plus one, zero means empty
+    private int shift;// 32 - log2(buckets.length)
+    private int[] hashCodes;// hash code of each key in insertion order
+    private Object[] keys;// each key in insertion order
+
+    private CompactLookup(IEqualityComparer<TKey> comparer) {
+        this.comparer = comparer == null ? EqualityComparer.Default() : comparer;
+        this.buckets = new int[DEFAULT_BUCKETS];
+        this.shift = Integer.numberOfLeadingZeros(DEFAULT_BUCKETS) + 1;
+        int capacity = capacityOf(DEFAULT_BUCKETS);
+        this.hashCodes = new int[capacity];
+        this.keys = new Object[capacity];
+    }
+
+    static <TKey, TElement> CompactLookup<TKey, TElement> create(IEnumerable<TElement> source, Func1<TElement, TKey> keySelector, IEqualityComparer<TKey> comparer) {
+        assert source != null;
+        assert keySelector != null;
+
+        CompactLookup<TKey, TElement> lookup = new CompactLookup<>(comparer);
+        Object[] items = new Object[DEFAULT_BUCKETS];
+        int[] indexes = new int[DEFAULT_BUCKETS];
+        int length = 0;
+        try (IEnumerator<TElement> e = source.enumerator()) {
+            while (e.moveNext()) {
+                TElement item = e.current();
+                if (length == items.length) {
+                    items = Arrays.copyOf(items, Math.multiplyExact(length, 2));
+                    indexes = Arrays.copyOf(indexes, items.length);
+                }
+                indexes[length] = lookup.getOrAddKey(keySelector.apply(item));
+                items[length] = item;
+                length++;
+            }
+        }
+        lookup.layout(items, indexes, length);
+        return lookup;
+    }
+
+    static <TSource, TKey, TElement> CompactLookup<TKey, TElement> create(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector, IEqualityComparer<TKey> comparer) {
+        assert source != null;
+        assert keySelector != null;
+        assert elementSelector != null;
+
+        CompactLookup<TKey, TElement> lookup = new CompactLookup<>(comparer);
+        Object[] items = new Object[DEFAULT_BUCKETS];
+        int[] indexes = new int[DEFAULT_BUCKETS];
+        int length = 0;
+        try (IEnumerator<TSource> e = source.enumerator()) {
+            while (e.moveNext()) {
+                TSource item = e.current();
+                if (length == items.length) {
+                    items = Arrays.copyOf(items, Math.multiplyExact(length, 2));
+                    indexes = Arrays.copyOf(indexes, items.length);
+                }
+                indexes[length] = lookup.getOrAddKey(keySelector.apply(item));
+                items[length] = elementSelector.apply(item);
+                length++;
+            }
+        }
+        lookup.layout(items, indexes, length);
+        return lookup;
+    }
+
+    static <TKey, TElement> CompactLookup<TKey, TElement> createForJoin(IEnumerable<TElement> source, Func1<TElement, TKey> keySelector, IEqualityComparer<TKey> comparer) {
+        CompactLookup<TKey, TElement> lookup = new CompactLookup<>(comparer);
+        Object[] items = new Object[DEFAULT_BUCKETS];
+        int[] indexes = new int[DEFAULT_BUCKETS];
+        int length = 0;
+        try (IEnumerator<TElement> e = source.enumerator()) {
+            while (e.moveNext()) {
+                TElement item = e.current();
+                TKey key = keySelector.apply(item);
+                if (key == null)
+                    continue;
+                if (length == items.length) {
+                    items = Arrays.copyOf(items, Math.multiplyExact(length, 2));
+                    indexes = Arrays.copyOf(indexes, items.length);
+                }
+                indexes[length] = lookup.getOrAddKey(key);
+                items[length] = item;
+                length++;
+            }
+        }
+        lookup.layout(items, indexes, length);
+        return lookup;
+    }
+
+    @Override
+    void layout(Object[] items, int[] indexes, int length) {
+        super.layout(items, indexes, length);
+        this.keys = ArrayUtils.resize(this.keys, this.count);
+        this.hashCodes = Arrays.copyOf(this.hashCodes, this.count);
+    }
+
+    @Override
+    int findGroup(TKey key) {
+        int hashCode = this.internalGetHashCode(key);
+        int mask = this.buckets.length - 1;
+        for (int bucket = this.bucketOf(hashCode), i = this.buckets[bucket] - 1; i >= 0; bucket = (bucket + 1) & mask, i = this.buckets[bucket] - 1) {
+            //noinspection unchecked
+            if (this.hashCodes[i] == hashCode && this.comparer.equals((TKey) this.keys[i], key))
+                return i;
+        }
+        return -1;
+    }
+
+    // Gets the index of the key for join, null key never matches.
+    int fetchGroup(TKey key) {
+        return key == null ? -1 : this.findGroup(key);
+    }
+
+    @Override
+    TKey keyOf(int index) {
+        //noinspection unchecked
+        return (TKey) this.keys[index];
+    }
+
+    private int getOrAddKey(TKey key) {
+        int hashCode = this.internalGetHashCode(key);
+        int mask = this.buckets.length - 1;
+        int bucket = this.bucketOf(hashCode);
+        for (int i = this.buckets[bucket] - 1; i >= 0; i = this.buckets[bucket] - 1) {
+            //noinspection unchecked
+            if (this.hashCodes[i] == hashCode && this.comparer.equals((TKey) this.keys[i], key))
+                return i;
+            bucket = (bucket + 1) & mask;
+        }
+
+        if (this.count == this.keys.length) {
+            this.resize();
+            bucket = this.emptyBucketOf(hashCode);
+        }
+
+        int index = this.count;
+        this.count++;
+        this.hashCodes[index] = hashCode;
+        this.keys[index] = key;
+        this.buckets[bucket] = index + 1;
+        return index;
+    }
+
+    private void resize() {
+        int newSize = Math.multiplyExact(this.buckets.length, 2);
+        int capacity = capacityOf(newSize);
+        this.buckets = new int[newSize];
+        this.shift--;
+        this.hashCodes = Arrays.copyOf(this.hashCodes, capacity);
+        this.keys = Arrays.copyOf(this.keys, capacity);
+        for (int i = 0; i < this.count; i++)
+            this.buckets[this.emptyBucketOf(this.hashCodes[i])] = i + 1;
+    }
+
+    private int emptyBucketOf(int hashCode) {
+        int mask = this.buckets.length - 1;
+        int bucket = this.bucketOf(hashCode);
+        while (this.buckets[bucket] != 0)
+            bucket = (bucket + 1) & mask;
+        return bucket;
+    }
+
+    private int bucketOf(int hashCode) {
+        return (hashCode * 0x9E3779B9) >>> this.shift;
+    }
+
+    private static int capacityOf(int buckets) {
+        return buckets - (buckets >> 2);
+    }
+
+    private int internalGetHashCode(TKey key) {
+        // Handle comparer implementations that throw when passed null
+        return key == null ? 0 : this.comparer.hashCode(key);
+    }
+}
+
+
+// Elements laid out by key index in one array with an offset table, shared by the lookups of object and primitive keys.
+@DebuggerDisplay("Count = {getCount()}")
+@DebuggerTypeProxy(LookupDebugView.class)
+abstract class AbstractCompactLookup<TKey, TElement> implements ILookup<TKey, TElement>, IIListProvider<IGrouping<TKey, TElement>> {
+    private int[] offsets;// elements of key i are in [offsets[i], offsets[i + 1])
+    private Object[] elements;
+    private volatile CompactGrouping<TKey, TElement>[] groupings;// views of all keys, published fully built on first enumeration
+    int count;
+
+    // Gets the index of the key, or -1 if the key is not in the lookup.
+    abstract int findGroup(TKey key);
+
+    abstract TKey keyOf(int index);
+
+    // Counting sort of the items by key index, stable so the elements of a key keep the source order.
+    void layout(Object[] items, int[] indexes, int length) {
+        int[] offsets = new int[this.count + 1];
+        for (int i = 0; i < length; i++)
+            offsets[indexes[i] + 1]++;
+        for (int i = 1; i < offsets.length; i++)
+            offsets[i] += offsets[i - 1];
+
+        int[] positions = Arrays.copyOf(offsets, this.count);
+        Object[] elements = new Object[length];
+        for (int i = 0; i < length; i++)
+            elements[positions[indexes[i]]++] = items[i];
+
+        this.offsets = offsets;
+        this.elements = elements;
+    }
+
+    @Override
+    public int getCount() {
+        return this.count;
+    }
+
+    @Override
+    public IEnumerable<TElement> get(TKey key) {
+        int index = this.findGroup(key);
+        if (index == -1)
+            return EmptyPartition.instance();
+        // a probe does not build the views of all keys
+        CompactGrouping<TKey, TElement>[] groupings = this.groupings;
+        return groupings == null ? this.newGrouping(index) : groupings[index];
+    }
+
+    @Override
+    public boolean containsKey(TKey key) {
+        return this.findGroup(key) != -1;
+    }
+
+    // Gets the index of the first element of the key at index.
+    int startOf(int index) {
+        return this.offsets[index];
+    }
+
+    // Gets the index after the last element of the key at index.
+    int endOf(int index) {
+        return this.offsets[index + 1];
+    }
+
+    TElement elementOf(int index) {
+        //noinspection unchecked
+        return (TElement) this.elements[index];
+    }
+
+    private CompactGrouping<TKey, TElement> newGrouping(int index) {
+        return new CompactGrouping<>(this.keyOf(index), this.elements, this.offsets[index], this.offsets[index + 1] - this.offsets[index]);
+    }
+
+    private CompactGrouping<TKey, TElement> grouping(int index) {
+        CompactGrouping<TKey, TElement>[] groupings = this.groupings;
+        if (groupings == null) {
+            // threads racing here each build a whole array, any of them is complete when it is read through the volatile field
+            //noinspection unchecked
+            groupings = new CompactGrouping[this.count];
+            for (int i = 0; i < groupings.length; i++)
+                groupings[i] = this.newGrouping(i);
+            this.groupings = groupings;
+        }
+        return groupings[index];
+    }
+
+    @Override
+    public IEnumerator<IGrouping<TKey, TElement>> enumerator() {
+        return new CompactLookupEnumerator();
+    }
+
+    @Override
+    public IGrouping<TKey, TElement>[] _toArray(Class<IGrouping<TKey, TElement>> clazz) {
+        IGrouping<TKey, TElement>[] array = ArrayUtils.newInstance(clazz, this.count);
+        for (int i = 0; i < array.length; i++)
+            array[i] = this.grouping(i);
+        return array;
+    }
+
+    @Override
+    public Object[] _toArray() {
+        Object[] array = new Object[this.count];
+        for (int i = 0; i < array.length; i++)
+            array[i] = this.grouping(i);
+        return array;
+    }
+
+    @Override
+    public List<IGrouping<TKey, TElement>> _toList() {
+        List<IGrouping<TKey, TElement>> list = new ArrayList<>(this.count);
+        for (int i = 0; i < this.count; i++)
+            list.add(this.grouping(i));
+        return list;
+    }
+
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        return this.count;
+    }
+
+
+    private final class CompactLookupEnumerator extends AbstractEnumerator<IGrouping<TKey, TElement>> {
+        @Override
+        public boolean moveNext() {
+            if (this.state == -1)
+                return false;
+            if (this.state < AbstractCompactLookup.this.count) {
+                this.current = AbstractCompactLookup.this.grouping(this.state);
+                this.state++;
+                return true;
+            }
+            this.close();
+            return false;
+        }
+    }
+}
+
+
+@DebuggerDisplay("Key = {getKey()}")
+@DebuggerTypeProxy(GroupingDebugView.class)
+final class CompactGrouping<TKey, TElement> implements IGrouping<TKey, TElement>, IArray<TElement> {
+    private final TKey key;
+    private final Object[] elements;
+    private final int startIndex;
+    private final int count;
+
+    CompactGrouping(TKey key, Object[] elements, int startIndex, int count) {
+        this.key = key;
+        this.elements = elements;
+        this.startIndex = startIndex;
+        this.count = count;
+    }
+
+    @Override
+    public IEnumerator<TElement> enumerator() {
+        return new ArrayEnumerator<>(this.elements, this.startIndex, this.count);
+    }
+
+    @Override
+    public TKey getKey() {
+        return this.key;
+    }
+
+    @Override
+    public Object[] getArray() {
+        return this.elements;
+    }
+
+    @Override
+    public int _getStartIndex() {
+        return this.startIndex;
+    }
+
+    @Override
+    public TElement get(int index) {
+        if (index < 0 || index >= this.count)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.index);
+        //noinspection unchecked
+        return (TElement) this.elements[this.startIndex + index];
+    }
+
+    @Override
+    public int _indexOf(TElement item) {
+        int index = ArrayUtils.indexOf(this.elements, item, this.startIndex, this.count);
+        return index == -1 ? -1 : index - this.startIndex;
+    }
+
+    @Override
+    public int _lastIndexOf(TElement item) {
+        if (this.count == 0)
+            return -1;
+        int index = ArrayUtils.lastIndexOf(this.elements, item, this.startIndex + this.count - 1, this.count);
+        return index == -1 ? -1 : index - this.startIndex;
+    }
+
+    @Override
+    public int _findIndex(Predicate1<TElement> match) {
+        //noinspection unchecked
+        int index = ArrayUtils.findIndex(this.elements, this.startIndex, this.count, (Predicate1<Object>) match);
+        return index == -1 ? -1 : index - this.startIndex;
+    }
+
+    @Override
+    public int _findLastIndex(Predicate1<TElement> match) {
+        if (this.count == 0)
+            return -1;
+        //noinspection unchecked
+        int index = ArrayUtils.findLastIndex(this.elements, this.startIndex + this.count - 1, this.count, (Predicate1<Object>) match);
+        return index == -1 ? -1 : index - this.startIndex;
+    }
+
+    @Override
+    public Collection<TElement> getCollection() {
+        return ArrayUtils.toCollection(this.elements, this.startIndex, this.count);
+    }
+
+    @Override
+    public int _getCount() {
+        return this.count;
+    }
+
+    @Override
+    public boolean _contains(TElement item) {
+        return ArrayUtils.contains(this.elements, item, this.startIndex, this.count);
+    }
+
+    @Override
+    public void _copyTo(Object[] array, int arrayIndex) {
+        System.arraycopy(this.elements, this.startIndex, array, arrayIndex, this.count);
+    }
+
+    @Override
+    public TElement[] _toArray(Class<TElement> clazz) {
+        return ArrayUtils.toArray(this.elements, clazz, this.startIndex, this.count);
+    }
+
+    @Override
+    public Object[] _toArray() {
+        return Arrays.copyOfRange(this.elements, this.startIndex, this.startIndex + this.count);
+    }
+
+    @Override
+    public List<TElement> _toList() {
+        return ArrayUtils.toList(this.elements, this.startIndex, this.count);
+    }
+}
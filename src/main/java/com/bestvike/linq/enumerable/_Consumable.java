@@ -0,0 +1,13 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.function.Predicate1;
+import com.bestvike.linq.IEnumerable;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+interface IConsumable<TElement> extends IEnumerable<TElement> {
+    // Pushes the elements to the sink from the loop over the source until the sink returns false, the whole chain runs
+    // in that loop without moveNext and current calls. Returns false if the sink stopped the loop.
+    boolean _consume(Predicate1<TElement> sink);
+}
@@ -0,0 +1,314 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.IArray;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Predicate1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.util.ArrayUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+interface IFusible<TElement> extends IEnumerable<TElement> {
+    // Gets a fused pipeline which yields the same elements, so more stages can be appended to it.
+    FusedIterator<TElement> _fuse();
+}
+
+
+// A chain of where, select, ofType, cast, takeWhile, skipWhile, take and skip stages over one source. All the stages
+// run in one loop over one source enumerator, an element goes through the stages until one drops it. Consuming pushes
+// the source elements through the stages instead, from the loop of the source when it is consumable too.
+final class FusedIterator<TResult> extends Iterator<TResult> implements IIListProvider<TResult>, IFusible<TResult>, IConsumable<TResult> {
+    private static final byte WHERE = 0;
+    private static final byte SELECT = 1;
+    private static final byte OF_TYPE = 2;
+    private static final byte CAST = 3;
+    private static final byte TAKE_WHILE = 4;
+    private static final byte SKIP_WHILE = 5;
+    private static final byte TAKE = 6;
+    private static final byte SKIP = 7;
+    private static final byte[] NO_STAGES = {};
+    private static final Object[] NO_ARGUMENTS = {};
+    private static final int[] NO_COUNTS = {};
+    private final IEnumerable<?> source;
+    private final byte[] stages;
+    private final Object[] arguments;// predicate, selector or class of each stage
+    private final int[] counts;// initial counter of each stage, take and skip count, skipWhile starts with 1
+    private int[] remains;
+    private IArray<?> array;
+    private IEnumerator<?> enumerator;
+    private int index;
+    private boolean stopped;
+
+    private FusedIterator(IEnumerable<?> source, byte[] stages, Object[] arguments, int[] counts) {
+        this.source = source;
+        this.stages = stages;
+        this.arguments = arguments;
+        this.counts = counts;
+    }
+
+    static <TSource> FusedIterator<TSource> from(IEnumerable<TSource> source) {
+        assert source != null;
+        return new FusedIterator<>(source, NO_STAGES, NO_ARGUMENTS, NO_COUNTS);
+    }
+
+    private <TNext> FusedIterator<TNext> append(byte stage, Object argument, int count) {
+        int length = this.stages.length;
+        byte[] stages = Arrays.copyOf(this.stages, length + 1);
+        Object[] arguments = Arrays.copyOf(this.arguments, length + 1);
+        int[] counts = Arrays.copyOf(this.counts, length + 1);
+        stages[length] = stage;
+        arguments[length] = argument;
+        counts[length] = count;
+        return new FusedIterator<>(this.source, stages, arguments, counts);
+    }
+
+    @Override
+    public FusedIterator<TResult> _fuse() {
+        return this;
+    }
+
+    @Override
+    public FusedIterator<TResult> _where(Predicate1<TResult> predicate) {
+        return this.append(WHERE, predicate, 0);
+    }
+
+    @Override
+    public <TResult2> FusedIterator<TResult2> _select(Func1<TResult, TResult2> selector) {
+        return this.append(SELECT, selector, 0);
+    }
+
+    <TResult2> FusedIterator<TResult2> _ofType(Class<TResult2> clazz) {
+        return this.append(OF_TYPE, clazz, 0);
+    }
+
+    <TResult2> FusedIterator<TResult2> _cast(Class<TResult2> clazz) {
+        return this.append(CAST, clazz, 0);
+    }
+
+    FusedIterator<TResult> _takeWhile(Predicate1<TResult> predicate) {
+        return this.append(TAKE_WHILE, predicate, 0);
+    }
+
+    FusedIterator<TResult> _skipWhile(Predicate1<TResult> predicate) {
+        return this.append(SKIP_WHILE, predicate, 1);
+    }
+
+    FusedIterator<TResult> _take(int count) {
+        assert count > 0;
+        return this.append(TAKE, null, count);
+    }
+
+    FusedIterator<TResult> _skip(int count) {
+        assert count > 0;
+        return this.append(SKIP, null, count);
+    }
+
+    @Override
+    public Iterator<TResult> clone() {
+        return new FusedIterator<>(this.source, this.stages, this.arguments, this.counts);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                if (this.source instanceof IArray)
+                    this.array = (IArray<?>) this.source;
+                else
+                    this.enumerator = this.source.enumerator();
+                this.remains = this.counts.clone();
+                this.state = 2;
+            case 2:
+                while (!this.stopped) {
+                    Object item;
+                    if (this.array != null) {
+                        if (this.index >= this.array._getCount())
+                            break;
+                        item = this.array.get(this.index++);
+                    } else {
+                        if (!this.enumerator.moveNext())
+                            break;
+                        item = this.enumerator.current();
+                    }
+                    if (this.apply(item))
+                        return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public boolean _consume(Predicate1<TResult> sink) {
+        // a new iterator holds the counters of this pass, its state is set to -1 when the sink stops the loop
+        FusedIterator<TResult> pass = new FusedIterator<>(this.source, this.stages, this.arguments, this.counts);
+        pass.remains = this.counts.clone();
+        EnumerableHelpers.consume(this.source, item -> {
+            if (pass.apply(item) && !sink.apply(pass.current)) {
+                pass.state = -1;
+                return false;
+            }
+            return !pass.stopped;
+        });
+        return pass.state != -1;
+    }
+
+    // Runs the stages on an item, sets current and returns true if no stage drops it.
+    @SuppressWarnings("unchecked")
+    private boolean apply(Object item) {
+        byte[] stages = this.stages;
+        Object[] arguments = this.arguments;
+        int[] remains = this.remains;
+        for (int i = 0; i < stages.length; i++) {
+            switch (stages[i]) {
+                case WHERE:
+                    if (!((Predicate1<Object>) arguments[i]).apply(item))
+                        return false;
+                    break;
+                case SELECT:
+                    item = ((Func1<Object, Object>) arguments[i]).apply(item);
+                    break;
+                case OF_TYPE:
+                    if (!((Class<?>) arguments[i]).isInstance(item))
+                        return false;
+                    break;
+                case CAST:
+                    item = ((Class<?>) arguments[i]).cast(item);
+                    break;
+                case TAKE_WHILE:
+                    if (!((Predicate1<Object>) arguments[i]).apply(item)) {
+                        this.stopped = true;
+                        return false;
+                    }
+                    break;
+                case SKIP_WHILE:
+                    if (remains[i] != 0) {
+                        if (((Predicate1<Object>) arguments[i]).apply(item))
+                            return false;
+                        remains[i] = 0;
+                    }
+                    break;
+                case TAKE:
+                    // the last element taken stops the loop, the source is not read further
+                    if (--remains[i] == 0)
+                        this.stopped = true;
+                    break;
+                case SKIP:
+                    if (remains[i] > 0) {
+                        remains[i]--;
+                        return false;
+                    }
+                    break;
+            }
+        }
+        this.current = (TResult) item;
+        return true;
+    }
+
+    // Gets the count from the count of the source if no stage drops elements by a condition, -1 otherwise.
+    private int getCountIfCheap() {
+        int count = EnumerableHelpers.tryGetCount(this.source);
+        for (int i = 0; i < this.stages.length && count != -1; i++) {
+            switch (this.stages[i]) {
+                case SELECT:
+                case CAST:
+                    break;
+                case TAKE:
+                    count = Math.min(count, this.counts[i]);
+                    break;
+                case SKIP:
+                    count = Math.max(0, count - this.counts[i]);
+                    break;
+                default:
+                    count = -1;
+                    break;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public TResult[] _toArray(Class<TResult> clazz) {
+        int count = this.getCountIfCheap();
+        if (count != -1) {
+            TResult[] array = ArrayUtils.newInstance(clazz, count);
+            int[] index = {0};
+            this._consume(item -> {
+                array[index[0]++] = item;
+                return true;
+            });
+            return array;
+        }
+
+        LargeArrayBuilder<TResult> builder = new LargeArrayBuilder<>(clazz);
+        this._consume(item -> {
+            builder.add(item);
+            return true;
+        });
+        return builder.toArray(clazz);
+    }
+
+    @Override
+    public Object[] _toArray() {
+        int count = this.getCountIfCheap();
+        if (count != -1) {
+            Object[] array = new Object[count];
+            int[] index = {0};
+            this._consume(item -> {
+                array[index[0]++] = item;
+                return true;
+            });
+            return array;
+        }
+
+        LargeArrayBuilder<TResult> builder = new LargeArrayBuilder<>();
+        this._consume(item -> {
+            builder.add(item);
+            return true;
+        });
+        return builder.toArray();
+    }
+
+    @Override
+    public List<TResult> _toList() {
+        int count = this.getCountIfCheap();
+        List<TResult> list = count == -1 ? new ArrayList<>() : new ArrayList<>(count);
+        this._consume(item -> {
+            list.add(item);
+            return true;
+        });
+        return list;
+    }
+
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        if (onlyIfCheap)
+            return this.getCountIfCheap();
+
+        int[] count = {0};
+        this._consume(item -> {
+            count[0] = Math.addExact(count[0], 1);
+            return true;
+        });
+        return count[0];
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        this.array = null;
+        this.remains = null;
+        super.close();
+    }
+}
@@ -0,0 +1,102 @@
+package com.bestvike.linq.enumerable;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash set of int values. Each slot holds a value and its insertion index plus one, zero index means
+ * empty, so every value including zero can be stored and mapped to a dense index.
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+final class IntSet {
+    private static final int DEFAULT_SLOTS = 16;
+    private int[] slots;// value of each slot
+    private int[] indexes;// insertion index plus one of each slot
+    private int shift;// 32 - log2(slots.length)
+    private int[] values;// values in insertion order
+    private int count;
+
+    IntSet() {
+        this.slots = new int[DEFAULT_SLOTS];
+        this.indexes = new int[DEFAULT_SLOTS];
+        this.shift = Integer.numberOfLeadingZeros(DEFAULT_SLOTS) + 1;
+        this.values = new int[capacityOf(DEFAULT_SLOTS)];
+    }
+
+    // Adds a value to the set, returns false if the value is already in the set.
+    boolean add(int value) {
+        int count = this.count;
+        return this.getOrAddIndex(value) == count;
+    }
+
+    // Gets the insertion index of the value, adding it at index getCount() when it is not in the set.
+    int getOrAddIndex(int value) {
+        int mask = this.slots.length - 1;
+        int slot = this.slotOf(value);
+        for (int i = this.indexes[slot]; i != 0; i = this.indexes[slot]) {
+            if (this.slots[slot] == value)
+                return i - 1;
+            slot = (slot + 1) & mask;
+        }
+
+        if (this.count == this.values.length) {
+            this.resize();
+            slot = this.emptySlotOf(value);
+        }
+
+        int index = this.count;
+        this.count++;
+        this.values[index] = value;
+        this.slots[slot] = value;
+        this.indexes[slot] = index + 1;
+        return index;
+    }
+
+    // Gets the insertion index of the value, or -1 if the value is not in the set.
+    int indexOf(int value) {
+        int mask = this.slots.length - 1;
+        for (int slot = this.slotOf(value), i = this.indexes[slot]; i != 0; slot = (slot + 1) & mask, i = this.indexes[slot]) {
+            if (this.slots[slot] == value)
+                return i - 1;
+        }
+        return -1;
+    }
+
+    int valueAt(int index) {
+        return this.values[index];
+    }
+
+    int getCount() {
+        return this.count;
+    }
+
+    private void resize() {
+        int newSize = Math.multiplyExact(this.slots.length, 2);
+        this.slots = new int[newSize];
+        this.indexes = new int[newSize];
+        this.shift--;
+        this.values = Arrays.copyOf(this.values, capacityOf(newSize));
+        for (int i = 0; i < this.count; i++) {
+            int slot = this.emptySlotOf(this.values[i]);
+            this.slots[slot] = this.values[i];
+            this.indexes[slot] = i + 1;
+        }
+    }
+
+    private int emptySlotOf(int value) {
+        int mask = this.slots.length - 1;
+        int slot = this.slotOf(value);
+        while (this.indexes[slot] != 0)
+            slot = (slot + 1) & mask;
+        return slot;
+    }
+
+    private int slotOf(int value) {
+        return (value * 0x9E3779B9) >>> this.shift;
+    }
+
+    // The number of values fit in the slots with a load factor of 0.75.
+    private static int capacityOf(int slots) {
+        return slots - (slots >> 2);
+    }
+}
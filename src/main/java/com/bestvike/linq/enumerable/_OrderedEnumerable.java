@@ -3,6 +3,8 @@ package com.bestvike.linq.enumerable;
 import com.bestvike.collections.generic.Comparer;
 import com.bestvike.collections.generic.ICollection;
 import com.bestvike.function.Func1;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
 import com.bestvike.function.Predicate1;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
@@ -11,24 +13,39 @@ import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
 import com.bestvike.linq.util.ArrayUtils;
 import com.bestvike.linq.util.ListUtils;
-import com.bestvike.out;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Created by 许崇雷 on 2018-05-07.
  */
 abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable<TElement>, IPartition<TElement> {
+    private static final int TOP_K_THRESHOLD = 1 << 12;
     IEnumerable<TElement> source;
+    boolean parallel;
+
+    // Buffers the elements which may be sorted at or before maxIdx. A small range streams the source and keeps only the candidates.
+    private Buffer<TElement> rangeBuffer(int maxIdx) {
+        if (maxIdx < TOP_K_THRESHOLD) {
+            int take = maxIdx + 1;
+            int count = this._getCount(true);
+            if (count == -1 || count > take << 1)
+                return this.getEnumerableSorter().top(this.source, take);
+        }
+        return new Buffer<>(this.source);
+    }
 
-    private Integer[] sortedMap(Buffer<TElement> buffer) {
-        return this.getEnumerableSorter().sort(buffer.items, buffer.count);
+    private int[] sortedMap(Buffer<TElement> buffer) {
+        AbstractEnumerableSorter<TElement> sorter = this.getEnumerableSorter();
+        return this.parallel ? sorter.parallelSort(buffer.items, buffer.count) : sorter.sort(buffer.items, buffer.count);
     }
 
-    private Integer[] sortedMap(Buffer<TElement> buffer, int minIdx, int maxIdx) {
+    private int[] sortedMap(Buffer<TElement> buffer, int minIdx, int maxIdx) {
         return this.getEnumerableSorter().sort(buffer.items, buffer.count, minIdx, maxIdx);
     }
 
@@ -58,15 +75,25 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         return new OrderedEnumerable<>(this.source, keySelector, comparer, descending, this);
     }
 
-    public TElement _tryGetFirst(Predicate1<TElement> predicate, out<Boolean> found) {
+    IOrderedEnumerable<TElement> createParallelOrderedEnumerable() {
+        return this.parallel ? this : new ParallelOrderedEnumerable<>(this);
+    }
+
+    IOrderedEnumerable<TElement> createIntOrderedEnumerable(IntFunc1<TElement> keySelector, boolean descending) {
+        return new IntOrderedEnumerable<>(this.source, keySelector, descending, this);
+    }
+
+    IOrderedEnumerable<TElement> createLongOrderedEnumerable(LongFunc1<TElement> keySelector, boolean descending) {
+        return new LongOrderedEnumerable<>(this.source, keySelector, descending, this);
+    }
+
+    public Object _tryGetFirst(Predicate1<TElement> predicate) {
         AbstractCachingComparer<TElement> comparer = this.getComparer();
         try (IEnumerator<TElement> e = this.source.enumerator()) {
             TElement value;
             do {
-                if (!e.moveNext()) {
-                    found.value = false;
-                    return null;
-                }
+                if (!e.moveNext())
+                    return NOT_FOUND;
                 value = e.current();
             } while (!predicate.apply(value));
 
@@ -77,20 +104,17 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
                     value = x;
             }
 
-            found.value = true;
             return value;
         }
     }
 
-    public TElement _tryGetLast(Predicate1<TElement> predicate, out<Boolean> found) {
+    public Object _tryGetLast(Predicate1<TElement> predicate) {
         AbstractCachingComparer<TElement> comparer = this.getComparer();
         try (IEnumerator<TElement> e = this.source.enumerator()) {
             TElement value;
             do {
-                if (!e.moveNext()) {
-                    found.value = false;
-                    return null;
-                }
+                if (!e.moveNext())
+                    return NOT_FOUND;
                 value = e.current();
             } while (!predicate.apply(value));
 
@@ -101,7 +125,6 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
                     value = x;
             }
 
-            found.value = true;
             return value;
         }
     }
@@ -114,7 +137,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
             return buffer.toArray(clazz);
 
         TElement[] array = ArrayUtils.newInstance(clazz, count);
-        Integer[] map = this.sortedMap(buffer);
+        int[] map = this.sortedMap(buffer);
         for (int i = 0; i != array.length; i++)
             //noinspection unchecked
             array[i] = (TElement) buffer.items[map[i]];
@@ -129,7 +152,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
             return buffer.items;
 
         Object[] array = new Object[count];
-        Integer[] map = this.sortedMap(buffer);
+        int[] map = this.sortedMap(buffer);
         for (int i = 0; i != array.length; i++)
             array[i] = buffer.items[map[i]];
         return array;
@@ -141,7 +164,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         int count = buffer.count;
         List<TElement> list = new ArrayList<>(count);
         if (count > 0) {
-            Integer[] map = this.sortedMap(buffer);
+            int[] map = this.sortedMap(buffer);
             for (int i = 0; i != count; i++)
                 //noinspection unchecked
                 list.add((TElement) buffer.items[map[i]]);
@@ -159,7 +182,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
     }
 
     public TElement[] _toArray(Class<TElement> clazz, int minIdx, int maxIdx) {
-        Buffer<TElement> buffer = new Buffer<>(this.source);
+        Buffer<TElement> buffer = this.rangeBuffer(maxIdx);
         int count = buffer.count;
         if (count <= minIdx)
             return ArrayUtils.empty(clazz);
@@ -170,7 +193,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         if (minIdx == maxIdx)
             return ArrayUtils.singleton(clazz, this.getEnumerableSorter().elementAt(buffer.items, count, minIdx));
 
-        Integer[] map = this.sortedMap(buffer, minIdx, maxIdx);
+        int[] map = this.sortedMap(buffer, minIdx, maxIdx);
         TElement[] array = ArrayUtils.newInstance(clazz, maxIdx - minIdx + 1);
         int idx = 0;
         while (minIdx <= maxIdx) {
@@ -184,7 +207,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
     }
 
     public Object[] _toArray(int minIdx, int maxIdx) {
-        Buffer<TElement> buffer = new Buffer<>(this.source);
+        Buffer<TElement> buffer = this.rangeBuffer(maxIdx);
         int count = buffer.count;
         if (count <= minIdx)
             return ArrayUtils.empty();
@@ -195,7 +218,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         if (minIdx == maxIdx)
             return ArrayUtils.singleton(this.getEnumerableSorter().elementAt(buffer.items, count, minIdx));
 
-        Integer[] map = this.sortedMap(buffer, minIdx, maxIdx);
+        int[] map = this.sortedMap(buffer, minIdx, maxIdx);
         Object[] array = new Object[maxIdx - minIdx + 1];
         int idx = 0;
         while (minIdx <= maxIdx) {
@@ -208,7 +231,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
     }
 
     public List<TElement> _toList(int minIdx, int maxIdx) {
-        Buffer<TElement> buffer = new Buffer<>(this.source);
+        Buffer<TElement> buffer = this.rangeBuffer(maxIdx);
         int count = buffer.count;
         if (count <= minIdx)
             return ListUtils.empty();
@@ -219,7 +242,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         if (minIdx == maxIdx)
             return ListUtils.singleton(this.getEnumerableSorter().elementAt(buffer.items, count, minIdx));
 
-        Integer[] map = this.sortedMap(buffer, minIdx, maxIdx);
+        int[] map = this.sortedMap(buffer, minIdx, maxIdx);
         List<TElement> list = new ArrayList<>(maxIdx - minIdx + 1);
         while (minIdx <= maxIdx) {
             //noinspection unchecked
@@ -252,31 +275,26 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
     }
 
     @Override
-    public TElement _tryGetElementAt(int index, out<Boolean> found) {
+    public Object _tryGetElementAt(int index) {
         if (index == 0)
-            return this._tryGetFirst(found);
+            return this._tryGetFirst();
 
         if (index > 0) {
-            Buffer<TElement> buffer = new Buffer<>(this.source);
+            Buffer<TElement> buffer = this.rangeBuffer(index);
             int count = buffer.count;
-            if (index < count) {
-                found.value = true;
+            if (index < count)
                 return this.getEnumerableSorter().elementAt(buffer.items, count, index);
-            }
         }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TElement _tryGetFirst(out<Boolean> found) {
+    public Object _tryGetFirst() {
         AbstractCachingComparer<TElement> comparer = this.getComparer();
         try (IEnumerator<TElement> e = this.source.enumerator()) {
-            if (!e.moveNext()) {
-                found.value = false;
-                return null;
-            }
+            if (!e.moveNext())
+                return NOT_FOUND;
 
             TElement value = e.current();
             comparer.setElement(value);
@@ -286,18 +304,15 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
                     value = x;
             }
 
-            found.value = true;
             return value;
         }
     }
 
     @Override
-    public TElement _tryGetLast(out<Boolean> found) {
+    public Object _tryGetLast() {
         try (IEnumerator<TElement> e = this.source.enumerator()) {
-            if (!e.moveNext()) {
-                found.value = false;
-                return null;
-            }
+            if (!e.moveNext())
+                return NOT_FOUND;
 
             AbstractCachingComparer<TElement> comparer = this.getComparer();
             TElement value = e.current();
@@ -308,20 +323,16 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
                     value = current;
             }
 
-            found.value = true;
             return value;
         }
     }
 
-    public TElement _tryGetLast(int minIdx, int maxIdx, out<Boolean> found) {
-        Buffer<TElement> buffer = new Buffer<>(this.source);
+    public Object _tryGetLast(int minIdx, int maxIdx) {
+        Buffer<TElement> buffer = this.rangeBuffer(maxIdx);
         int count = buffer.count;
-        if (minIdx >= count) {
-            found.value = false;
-            return null;
-        }
+        if (minIdx >= count)
+            return NOT_FOUND;
 
-        found.value = true;
         return maxIdx < count - 1 ? this.getEnumerableSorter().elementAt(buffer.items, count, maxIdx) : this._last(buffer);
     }
 
@@ -345,7 +356,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
 
     private class OrderedEnumerableEnumerator extends AbstractEnumerator<TElement> {
         private Buffer<TElement> buffer;
-        private Integer[] map;
+        private int[] map;
         private int index;
 
         @Override
@@ -386,7 +397,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         private int minIdx;
         private int maxIdx;
         private Buffer<TElement> buffer;
-        private Integer[] map;
+        private int[] map;
 
         private OrderedEnumerableRangeEnumerator(int minIdx, int maxIdx) {
             this.minIdx = minIdx;
@@ -397,7 +408,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         public boolean moveNext() {
             switch (this.state) {
                 case 0:
-                    this.buffer = new Buffer<>(AbstractOrderedEnumerable.this.source);
+                    this.buffer = AbstractOrderedEnumerable.this.rangeBuffer(this.maxIdx);
                     int count = this.buffer.count;
                     if (count <= this.minIdx) {
                         this.close();
@@ -454,6 +465,7 @@ final class OrderedEnumerable<TElement, TKey> extends AbstractOrderedEnumerable<
 
         this.source = source;
         this.parent = parent;
+        this.parallel = parent != null && parent.parallel;
         this.keySelector = keySelector;
         this.comparer = comparer == null ? Comparer.Default() : comparer;
         this.descending = descending;
@@ -477,6 +489,97 @@ final class OrderedEnumerable<TElement, TKey> extends AbstractOrderedEnumerable<
 }
 
 
+final class ParallelOrderedEnumerable<TElement> extends AbstractOrderedEnumerable<TElement> {
+    private final AbstractOrderedEnumerable<TElement> parent;
+
+    ParallelOrderedEnumerable(AbstractOrderedEnumerable<TElement> parent) {
+        this.source = parent.source;
+        this.parent = parent;
+        this.parallel = true;
+    }
+
+    @Override
+    protected AbstractEnumerableSorter<TElement> getEnumerableSorter(AbstractEnumerableSorter<TElement> next) {
+        return this.parent.getEnumerableSorter(next);
+    }
+
+    @Override
+    protected AbstractCachingComparer<TElement> getComparer(AbstractCachingComparer<TElement> childComparer) {
+        return this.parent.getComparer(childComparer);
+    }
+}
+
+final class IntOrderedEnumerable<TElement> extends AbstractOrderedEnumerable<TElement> {
+    private final AbstractOrderedEnumerable<TElement> parent;
+    private final IntFunc1<TElement> keySelector;
+    private final boolean descending;
+
+    IntOrderedEnumerable(IEnumerable<TElement> source, IntFunc1<TElement> keySelector, boolean descending, AbstractOrderedEnumerable<TElement> parent) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        this.source = source;
+        this.parent = parent;
+        this.parallel = parent != null && parent.parallel;
+        this.keySelector = keySelector;
+        this.descending = descending;
+    }
+
+    @Override
+    protected AbstractEnumerableSorter<TElement> getEnumerableSorter(AbstractEnumerableSorter<TElement> next) {
+        AbstractEnumerableSorter<TElement> sorter = new IntEnumerableSorter<>(this.keySelector, this.descending, next);
+        if (this.parent != null)
+            sorter = this.parent.getEnumerableSorter(sorter);
+        return sorter;
+    }
+
+    @Override
+    protected AbstractCachingComparer<TElement> getComparer(AbstractCachingComparer<TElement> childComparer) {
+        AbstractCachingComparer<TElement> cmp = childComparer == null
+                ? new IntCachingComparer<>(this.keySelector, this.descending)
+                : new IntCachingComparerWithChild<>(this.keySelector, this.descending, childComparer);
+        return this.parent != null ? this.parent.getComparer(cmp) : cmp;
+    }
+}
+
+
+final class LongOrderedEnumerable<TElement> extends AbstractOrderedEnumerable<TElement> {
+    private final AbstractOrderedEnumerable<TElement> parent;
+    private final LongFunc1<TElement> keySelector;
+    private final boolean descending;
+
+    LongOrderedEnumerable(IEnumerable<TElement> source, LongFunc1<TElement> keySelector, boolean descending, AbstractOrderedEnumerable<TElement> parent) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        this.source = source;
+        this.parent = parent;
+        this.parallel = parent != null && parent.parallel;
+        this.keySelector = keySelector;
+        this.descending = descending;
+    }
+
+    @Override
+    protected AbstractEnumerableSorter<TElement> getEnumerableSorter(AbstractEnumerableSorter<TElement> next) {
+        AbstractEnumerableSorter<TElement> sorter = new LongEnumerableSorter<>(this.keySelector, this.descending, next);
+        if (this.parent != null)
+            sorter = this.parent.getEnumerableSorter(sorter);
+        return sorter;
+    }
+
+    @Override
+    protected AbstractCachingComparer<TElement> getComparer(AbstractCachingComparer<TElement> childComparer) {
+        AbstractCachingComparer<TElement> cmp = childComparer == null
+                ? new LongCachingComparer<>(this.keySelector, this.descending)
+                : new LongCachingComparerWithChild<>(this.keySelector, this.descending, childComparer);
+        return this.parent != null ? this.parent.getComparer(cmp) : cmp;
+    }
+}
+
 abstract class AbstractCachingComparer<TElement> {
     abstract int compare(TElement element, boolean cacheLower);
 
@@ -541,108 +644,374 @@ final class CachingComparerWithChild<TElement, TKey> extends CachingComparer<TEl
 }
 
 
+class IntCachingComparer<TElement> extends AbstractCachingComparer<TElement> {
+    protected final IntFunc1<TElement> keySelector;
+    protected final boolean descending;
+    protected int lastKey;
+
+    IntCachingComparer(IntFunc1<TElement> keySelector, boolean descending) {
+        this.keySelector = keySelector;
+        this.descending = descending;
+    }
+
+    @Override
+    int compare(TElement element, boolean cacheLower) {
+        int newKey = this.keySelector.apply(element);
+        int cmp = this.descending ? Integer.compare(this.lastKey, newKey) : Integer.compare(newKey, this.lastKey);
+        if (cacheLower == cmp < 0)
+            this.lastKey = newKey;
+        return cmp;
+    }
+
+    @Override
+    void setElement(TElement element) {
+        this.lastKey = this.keySelector.apply(element);
+    }
+}
+
+
+final class IntCachingComparerWithChild<TElement> extends IntCachingComparer<TElement> {
+    private final AbstractCachingComparer<TElement> child;
+
+    IntCachingComparerWithChild(IntFunc1<TElement> keySelector, boolean descending, AbstractCachingComparer<TElement> child) {
+        super(keySelector, descending);
+        this.child = child;
+    }
+
+    @Override
+    protected int compare(TElement element, boolean cacheLower) {
+        int newKey = this.keySelector.apply(element);
+        int cmp = this.descending ? Integer.compare(this.lastKey, newKey) : Integer.compare(newKey, this.lastKey);
+        if (cmp == 0)
+            return this.child.compare(element, cacheLower);
+        if (cacheLower == cmp < 0) {
+            this.lastKey = newKey;
+            this.child.setElement(element);
+        }
+        return cmp;
+    }
+
+    @Override
+    protected void setElement(TElement element) {
+        super.setElement(element);
+        this.child.setElement(element);
+    }
+}
+
+
+class LongCachingComparer<TElement> extends AbstractCachingComparer<TElement> {
+    protected final LongFunc1<TElement> keySelector;
+    protected final boolean descending;
+    protected long lastKey;
+
+    LongCachingComparer(LongFunc1<TElement> keySelector, boolean descending) {
+        this.keySelector = keySelector;
+        this.descending = descending;
+    }
+
+    @Override
+    int compare(TElement element, boolean cacheLower) {
+        long newKey = this.keySelector.apply(element);
+        int cmp = this.descending ? Long.compare(this.lastKey, newKey) : Long.compare(newKey, this.lastKey);
+        if (cacheLower == cmp < 0)
+            this.lastKey = newKey;
+        return cmp;
+    }
+
+    @Override
+    void setElement(TElement element) {
+        this.lastKey = this.keySelector.apply(element);
+    }
+}
+
+
+final class LongCachingComparerWithChild<TElement> extends LongCachingComparer<TElement> {
+    private final AbstractCachingComparer<TElement> child;
+
+    LongCachingComparerWithChild(LongFunc1<TElement> keySelector, boolean descending, AbstractCachingComparer<TElement> child) {
+        super(keySelector, descending);
+        this.child = child;
+    }
+
+    @Override
+    protected int compare(TElement element, boolean cacheLower) {
+        long newKey = this.keySelector.apply(element);
+        int cmp = this.descending ? Long.compare(this.lastKey, newKey) : Long.compare(newKey, this.lastKey);
+        if (cmp == 0)
+            return this.child.compare(element, cacheLower);
+        if (cacheLower == cmp < 0) {
+            this.lastKey = newKey;
+            this.child.setElement(element);
+        }
+        return cmp;
+    }
+
+    @Override
+    protected void setElement(TElement element) {
+        super.setElement(element);
+        this.child.setElement(element);
+    }
+}
+
 @SuppressWarnings("SameParameterValue")
 abstract class AbstractEnumerableSorter<TElement> {
-    protected abstract void computeKeys(Object[] elements, int count);
+    private static final int INTROSORT_SIZE_THRESHOLD = 16;
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 14;
+    private static final int PARALLEL_SORT_GRANULARITY = 1 << 13;
+    protected static final int RADIX_SORT_THRESHOLD = 256;
+    protected static final int RADIX_BITS = 8;
+    protected static final int RADIX = 1 << RADIX_BITS;
+    protected static final int RADIX_MASK = RADIX - 1;
+
+    protected abstract void initKeys(int count);
+
+    protected abstract void computeKeys(Object[] elements, int from, int to);
+
+    protected abstract void moveKey(int from, int to);
+
+    protected void computeKeys(Object[] elements, int count) {
+        this.initKeys(count);
+        this.computeKeys(elements, 0, count);
+    }
 
     protected abstract int compareAnyKeys(int index1, int index2);
 
-    private Integer[] computeMap(Object[] elements, int count) {
+    private int[] computeMap(Object[] elements, int count) {
         this.computeKeys(elements, count);
-        Integer[] map = new Integer[count];
+        int[] map = new int[count];
         for (int i = 0; i < map.length; i++)
             map[i] = i;
         return map;
     }
 
-    protected Integer[] sort(Object[] elements, int count) {
-        Integer[] map = this.computeMap(elements, count);
+    protected int[] sort(Object[] elements, int count) {
+        int[] map = this.computeMap(elements, count);
         this.quickSort(map, 0, count - 1);
         return map;
     }
 
-    protected Integer[] sort(Object[] elements, int count, int minIdx, int maxIdx) {
-        Integer[] map = this.computeMap(elements, count);
+    protected int[] sort(Object[] elements, int count, int minIdx, int maxIdx) {
+        int[] map = this.computeMap(elements, count);
         this.partialQuickSort(map, 0, count - 1, minIdx, maxIdx);
         return map;
     }
 
+    // Computes the keys by chunks and merge sorts the map on the common fork join pool.
+    // The index tie-break of compareAnyKeys makes the merged result identical to the sequential sort.
+    protected int[] parallelSort(Object[] elements, int count) {
+        if (count < PARALLEL_SORT_THRESHOLD || ForkJoinPool.getCommonPoolParallelism() <= 1)
+            return this.sort(elements, count);
+
+        int granularity = Math.max(count / (ForkJoinPool.getCommonPoolParallelism() << 2), PARALLEL_SORT_GRANULARITY);
+        this.initKeys(count);
+        new ComputeKeysTask(elements, 0, count, granularity).invoke();
+        int[] map = new int[count];
+        for (int i = 0; i < map.length; i++)
+            map[i] = i;
+        new MergeSortTask(map, new int[count], 0, count - 1, granularity).invoke();
+        return map;
+    }
+
+    // Streams the source through a buffer of 2 * take elements. Whenever the buffer fills up it is reduced to the
+    // first take elements in sort order, kept in arrival order so the index tie-break of compareAnyKeys stays valid.
+    // Elements greater than the greatest kept one are rejected as soon as their keys are computed.
+    // Memory: O(take). Time: O(n log take).
+    protected Buffer<TElement> top(IEnumerable<TElement> source, int take) {
+        int capacity = take << 1;
+        Object[] elements = new Object[capacity];
+        int[] map = new int[capacity];
+        this.initKeys(capacity);
+        int count = 0;
+        int last = -1;
+        try (IEnumerator<TElement> e = source.enumerator()) {
+            while (e.moveNext()) {
+                elements[count] = e.current();
+                this.computeKeys(elements, count, count + 1);
+                if (last != -1 && this.compareAnyKeys(count, last) > 0)
+                    continue;
+                if (++count == capacity) {
+                    last = this.reduce(elements, map, count, take);
+                    count = take;
+                }
+            }
+        }
+
+        if (count == 0)
+            return new Buffer<>(ArrayUtils.empty(), 0);
+        Arrays.fill(elements, count, capacity, null);
+        return new Buffer<>(elements, count);
+    }
+
+    private int reduce(Object[] elements, int[] map, int count, int take) {
+        for (int i = 0; i < count; i++)
+            map[i] = i;
+        this.partialQuickSort(map, 0, count - 1, 0, take - 1);
+        int lastSlot = map[take - 1];
+        Arrays.sort(map, 0, take);
+
+        int last = -1;
+        for (int i = 0; i < take; i++) {
+            int slot = map[i];
+            if (slot == lastSlot)
+                last = i;
+            if (slot != i) {
+                elements[i] = elements[slot];
+                this.moveKey(slot, i);
+            }
+        }
+        return last;
+    }
+
     protected TElement elementAt(Object[] elements, int count, int idx) {
-        Integer[] map = this.computeMap(elements, count);
+        int[] map = this.computeMap(elements, count);
         //noinspection unchecked
         return (TElement) (idx == 0 ? elements[this.min(map, count)] : elements[this.quickSelect(map, count - 1, idx)]);
     }
 
-    protected abstract void quickSort(Integer[] map, int left, int right);
+    private void merge(int[] map, int[] buffer, int lo, int mid, int hi) {
+        if (this.compareAnyKeys(map[mid], map[mid + 1]) < 0)
+            return;
 
-    // Sorts the k elements between minIdx and maxIdx without sorting all elements
-    // Time complexity: O(n + k log k) best and average case. O(n^2) worse case.
-    protected abstract void partialQuickSort(Integer[] map, int left, int right, int minIdx, int maxIdx);
+        System.arraycopy(map, lo, buffer, lo, hi - lo + 1);
+        int i = lo;
+        int j = mid + 1;
+        int k = lo;
+        while (i <= mid && j <= hi)
+            map[k++] = this.compareAnyKeys(buffer[j], buffer[i]) < 0 ? buffer[j++] : buffer[i++];
+        while (i <= mid)
+            map[k++] = buffer[i++];
+        while (j <= hi)
+            map[k++] = buffer[j++];
+    }
 
-    // Finds the element that would be at idx if the collection was sorted.
-    // Time complexity: O(n) best and average case. O(n^2) worse case.
-    protected abstract int quickSelect(Integer[] map, int right, int idx);
+    private int compareKeys(int index1, int index2) {
+        return index1 == index2 ? 0 : this.compareAnyKeys(index1, index2);
+    }
 
-    protected abstract int min(Integer[] map, int count);
-}
+    protected void quickSort(int[] keys, int lo, int hi) {
+        if (hi - lo < 1)
+            return;
+        this.introSort(keys, lo, hi, 2 * (log2(hi - lo + 1) + 1));
+    }
 
+    private static int log2(int value) {
+        return 31 - Integer.numberOfLeadingZeros(value);
+    }
 
-final class EnumerableSorter<TElement, TKey> extends AbstractEnumerableSorter<TElement> {
-    private final Func1<TElement, TKey> keySelector;
-    private final Comparator<TKey> comparer;
-    private final boolean descending;
-    private final AbstractEnumerableSorter<TElement> next;
-    private Object[] keys;
+    private void introSort(int[] keys, int lo, int hi, int depthLimit) {
+        while (hi > lo) {
+            int partitionSize = hi - lo + 1;
+            if (partitionSize <= INTROSORT_SIZE_THRESHOLD) {
+                if (partitionSize == 2) {
+                    this.swapIfGreater(keys, lo, hi);
+                    return;
+                }
+                if (partitionSize == 3) {
+                    this.swapIfGreater(keys, lo, hi - 1);
+                    this.swapIfGreater(keys, lo, hi);
+                    this.swapIfGreater(keys, hi - 1, hi);
+                    return;
+                }
+                this.insertionSort(keys, lo, hi);
+                return;
+            }
 
-    EnumerableSorter(Func1<TElement, TKey> keySelector, Comparator<TKey> comparer, boolean descending, AbstractEnumerableSorter<TElement> next) {
-        this.keySelector = keySelector;
-        this.comparer = comparer;
-        this.descending = descending;
-        this.next = next;
+            if (depthLimit == 0) {
+                this.heapSort(keys, lo, hi);
+                return;
+            }
+            depthLimit--;
+
+            int p = this.pickPivotAndPartition(keys, lo, hi);
+            this.introSort(keys, p + 1, hi, depthLimit);
+            hi = p - 1;
+        }
     }
 
-    @Override
-    protected void computeKeys(Object[] elements, int count) {
-        this.keys = new Object[count];
-        for (int i = 0; i < count; i++)
-            //noinspection unchecked
-            this.keys[i] = this.keySelector.apply((TElement) elements[i]);
-        if (this.next == null)
-            return;
-        this.next.computeKeys(elements, count);
+    private int pickPivotAndPartition(int[] keys, int lo, int hi) {
+        // Compute median-of-three. But also partition them, since we've done the comparison.
+        int middle = lo + ((hi - lo) >> 1);
+        this.swapIfGreater(keys, lo, middle);
+        this.swapIfGreater(keys, lo, hi);
+        this.swapIfGreater(keys, middle, hi);
+
+        int pivot = keys[middle];
+        swap(keys, middle, hi - 1);
+        int left = lo;
+        int right = hi - 1; // We already partitioned lo and hi and put the pivot in hi - 1. And we pre-increment & decrement below.
+        while (left < right) {
+            //noinspection StatementWithEmptyBody
+            while (this.compareAnyKeys(keys[++left], pivot) < 0) {
+            }
+            //noinspection StatementWithEmptyBody
+            while (this.compareAnyKeys(pivot, keys[--right]) < 0) {
+            }
+
+            if (left >= right)
+                break;
+
+            swap(keys, left, right);
+        }
+
+        // Put pivot in the right location.
+        if (left != hi - 1)
+            swap(keys, left, hi - 1);
+        return left;
     }
 
-    @Override
-    protected int compareAnyKeys(int index1, int index2) {
-        assert this.keys != null;
+    private void heapSort(int[] keys, int lo, int hi) {
+        int n = hi - lo + 1;
+        for (int i = n >> 1; i >= 1; i--)
+            this.downHeap(keys, i, n, lo);
 
-        //noinspection unchecked
-        int c = this.comparer.compare((TKey) this.keys[index1], (TKey) this.keys[index2]);
-        if (c == 0) {
-            if (this.next == null)
-                return index1 - index2; // ensure stability of sort
-            return this.next.compareAnyKeys(index1, index2);
+        for (int i = n; i > 1; i--) {
+            swap(keys, lo, lo + i - 1);
+            this.downHeap(keys, 1, i - 1, lo);
         }
+    }
 
-        // -c will result in a negative value for int.MinValue (-int.MinValue == int.MinValue).
-        // Flipping keys earlier is more likely to trigger something strange in a comparer,
-        // particularly as it comes to the sort being stable.
-        return this.descending != (c > 0) ? 1 : -1;
+    private void downHeap(int[] keys, int i, int n, int lo) {
+        int d = keys[lo + i - 1];
+        while (i <= n >> 1) {
+            int child = 2 * i;
+            if (child < n && this.compareAnyKeys(keys[lo + child - 1], keys[lo + child]) < 0)
+                child++;
+
+            if (this.compareAnyKeys(d, keys[lo + child - 1]) >= 0)
+                break;
+
+            keys[lo + i - 1] = keys[lo + child - 1];
+            i = child;
+        }
+        keys[lo + i - 1] = d;
     }
 
-    private int compareKeys(int index1, int index2) {
-        return index1 == index2 ? 0 : this.compareAnyKeys(index1, index2);
+    private void insertionSort(int[] keys, int lo, int hi) {
+        for (int i = lo; i < hi; i++) {
+            int j = i;
+            int t = keys[i + 1];
+            while (j >= lo && this.compareAnyKeys(t, keys[j]) < 0) {
+                keys[j + 1] = keys[j];
+                j--;
+            }
+            keys[j + 1] = t;
+        }
     }
 
-    @Override
-    protected void quickSort(Integer[] keys, int lo, int hi) {
-        Arrays.sort(keys, lo, hi - lo + 1, Comparer.create(this::compareAnyKeys));
+    private void swapIfGreater(int[] keys, int i, int j) {
+        if (i != j && this.compareAnyKeys(keys[i], keys[j]) > 0)
+            swap(keys, i, j);
+    }
+
+    private static void swap(int[] keys, int i, int j) {
+        int temp = keys[i];
+        keys[i] = keys[j];
+        keys[j] = temp;
     }
 
     // Sorts the k elements between minIdx and maxIdx without sorting all elements
     // Time complexity: O(n + k log k) best and average case. O(n^2) worse case.
-    @Override
-    protected void partialQuickSort(Integer[] map, int left, int right, int minIdx, int maxIdx) {
+    protected void partialQuickSort(int[] map, int left, int right, int minIdx, int maxIdx) {
         do {
             int i = left;
             int j = right;
@@ -688,8 +1057,7 @@ final class EnumerableSorter<TElement, TKey> extends AbstractEnumerableSorter<TE
 
     // Finds the element that would be at idx if the collection was sorted.
     // Time complexity: O(n) best and average case. O(n^2) worse case.
-    @Override
-    protected int quickSelect(Integer[] map, int right, int idx) {
+    protected int quickSelect(int[] map, int right, int idx) {
         int left = 0;
         do {
             int i = left;
@@ -736,8 +1104,7 @@ final class EnumerableSorter<TElement, TKey> extends AbstractEnumerableSorter<TE
         return map[idx];
     }
 
-    @Override
-    protected int min(Integer[] map, int count) {
+    protected int min(int[] map, int count) {
         int index = 0;
         for (int i = 1; i < count; i++) {
             if (this.compareKeys(map[i], map[index]) < 0)
@@ -745,4 +1112,309 @@ final class EnumerableSorter<TElement, TKey> extends AbstractEnumerableSorter<TE
         }
         return map[index];
     }
+
+
+    private final class ComputeKeysTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final Object[] elements;
+        private final int from;
+        private final int to;
+        private final int granularity;
+
+        private ComputeKeysTask(Object[] elements, int from, int to, int granularity) {
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+            this.granularity = granularity;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= this.granularity) {
+                AbstractEnumerableSorter.this.computeKeys(this.elements, this.from, this.to);
+                return;
+            }
+
+            int mid = (this.from + this.to) >>> 1;
+            invokeAll(new ComputeKeysTask(this.elements, this.from, mid, this.granularity),
+                    new ComputeKeysTask(this.elements, mid, this.to, this.granularity));
+        }
+    }
+
+
+    private final class MergeSortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int[] map;
+        private final int[] buffer;
+        private final int lo;
+        private final int hi;
+        private final int granularity;
+
+        private MergeSortTask(int[] map, int[] buffer, int lo, int hi, int granularity) {
+            this.map = map;
+            this.buffer = buffer;
+            this.lo = lo;
+            this.hi = hi;
+            this.granularity = granularity;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.hi - this.lo < this.granularity) {
+                AbstractEnumerableSorter.this.quickSort(this.map, this.lo, this.hi);
+                return;
+            }
+
+            int mid = (this.lo + this.hi) >>> 1;
+            invokeAll(new MergeSortTask(this.map, this.buffer, this.lo, mid, this.granularity),
+                    new MergeSortTask(this.map, this.buffer, mid + 1, this.hi, this.granularity));
+            AbstractEnumerableSorter.this.merge(this.map, this.buffer, this.lo, mid, this.hi);
+        }
+    }
+}
+
+
+final class EnumerableSorter<TElement, TKey> extends AbstractEnumerableSorter<TElement> {
+    private final Func1<TElement, TKey> keySelector;
+    private final Comparator<TKey> comparer;
+    private final boolean descending;
+    private final AbstractEnumerableSorter<TElement> next;
+    private Object[] keys;
+
+    EnumerableSorter(Func1<TElement, TKey> keySelector, Comparator<TKey> comparer, boolean descending, AbstractEnumerableSorter<TElement> next) {
+        this.keySelector = keySelector;
+        this.comparer = comparer;
+        this.descending = descending;
+        this.next = next;
+    }
+
+    @Override
+    protected void initKeys(int count) {
+        this.keys = new Object[count];
+        if (this.next == null)
+            return;
+        this.next.initKeys(count);
+    }
+
+    @Override
+    protected void computeKeys(Object[] elements, int from, int to) {
+        for (int i = from; i < to; i++)
+            //noinspection unchecked
+            this.keys[i] = this.keySelector.apply((TElement) elements[i]);
+        if (this.next == null)
+            return;
+        this.next.computeKeys(elements, from, to);
+    }
+
+    @Override
+    protected void moveKey(int from, int to) {
+        this.keys[to] = this.keys[from];
+        if (this.next == null)
+            return;
+        this.next.moveKey(from, to);
+    }
+
+    @Override
+    protected int compareAnyKeys(int index1, int index2) {
+        assert this.keys != null;
+
+        //noinspection unchecked
+        int c = this.comparer.compare((TKey) this.keys[index1], (TKey) this.keys[index2]);
+        if (c == 0) {
+            if (this.next == null)
+                return index1 - index2; // ensure stability of sort
+            return this.next.compareAnyKeys(index1, index2);
+        }
+
+        // -c will result in a negative value for int.MinValue (-int.MinValue == int.MinValue).
+        // Flipping keys earlier is more likely to trigger something strange in a comparer,
+        // particularly as it comes to the sort being stable.
+        return this.descending != (c > 0) ? 1 : -1;
+    }
+}
+
+
+final class IntEnumerableSorter<TElement> extends AbstractEnumerableSorter<TElement> {
+    private final IntFunc1<TElement> keySelector;
+    private final boolean descending;
+    private final AbstractEnumerableSorter<TElement> next;
+    private int[] keys;
+
+    IntEnumerableSorter(IntFunc1<TElement> keySelector, boolean descending, AbstractEnumerableSorter<TElement> next) {
+        this.keySelector = keySelector;
+        this.descending = descending;
+        this.next = next;
+    }
+
+    @Override
+    protected void initKeys(int count) {
+        this.keys = new int[count];
+        if (this.next == null)
+            return;
+        this.next.initKeys(count);
+    }
+
+    @Override
+    protected void computeKeys(Object[] elements, int from, int to) {
+        for (int i = from; i < to; i++)
+            //noinspection unchecked
+            this.keys[i] = this.keySelector.apply((TElement) elements[i]);
+        if (this.next == null)
+            return;
+        this.next.computeKeys(elements, from, to);
+    }
+
+    @Override
+    protected void moveKey(int from, int to) {
+        this.keys[to] = this.keys[from];
+        if (this.next == null)
+            return;
+        this.next.moveKey(from, to);
+    }
+
+    @Override
+    protected int compareAnyKeys(int index1, int index2) {
+        assert this.keys != null;
+
+        int c = Integer.compare(this.keys[index1], this.keys[index2]);
+        if (c == 0) {
+            if (this.next == null)
+                return index1 - index2; // ensure stability of sort
+            return this.next.compareAnyKeys(index1, index2);
+        }
+
+        return this.descending != (c > 0) ? 1 : -1;
+    }
+
+    @Override
+    protected int[] sort(Object[] elements, int count) {
+        if (this.next != null || count < RADIX_SORT_THRESHOLD)
+            return super.sort(elements, count);
+
+        this.computeKeys(elements, count);
+        return radixSort(this.keys, count, this.descending);
+    }
+
+    // Stable LSD radix sort of the index map, one byte per pass. Passes where every key shares the same digit are skipped.
+    // Time complexity: O(n) for any input.
+    private static int[] radixSort(int[] keys, int count, boolean descending) {
+        // flip the sign bit to order signed keys as unsigned, flip all the other bits too for descending
+        int flip = descending ? Integer.MAX_VALUE : Integer.MIN_VALUE;
+        int[] map = new int[count];
+        for (int i = 0; i < count; i++)
+            map[i] = i;
+        int[] buffer = new int[count];
+        int[] offsets = new int[RADIX + 1];
+        for (int shift = 0; shift < Integer.SIZE; shift += RADIX_BITS) {
+            Arrays.fill(offsets, 0);
+            for (int i = 0; i < count; i++)
+                offsets[(((keys[i] ^ flip) >>> shift) & RADIX_MASK) + 1]++;
+            if (offsets[(((keys[0] ^ flip) >>> shift) & RADIX_MASK) + 1] == count)
+                continue;
+
+            for (int i = 1; i < offsets.length; i++)
+                offsets[i] += offsets[i - 1];
+            for (int i = 0; i < count; i++) {
+                int index = map[i];
+                buffer[offsets[((keys[index] ^ flip) >>> shift) & RADIX_MASK]++] = index;
+            }
+            int[] temp = map;
+            map = buffer;
+            buffer = temp;
+        }
+        return map;
+    }
+}
+
+
+final class LongEnumerableSorter<TElement> extends AbstractEnumerableSorter<TElement> {
+    private final LongFunc1<TElement> keySelector;
+    private final boolean descending;
+    private final AbstractEnumerableSorter<TElement> next;
+    private long[] keys;
+
+    LongEnumerableSorter(LongFunc1<TElement> keySelector, boolean descending, AbstractEnumerableSorter<TElement> next) {
+        this.keySelector = keySelector;
+        this.descending = descending;
+        this.next = next;
+    }
+
+    @Override
+    protected void initKeys(int count) {
+        this.keys = new long[count];
+        if (this.next == null)
+            return;
+        this.next.initKeys(count);
+    }
+
+    @Override
+    protected void computeKeys(Object[] elements, int from, int to) {
+        for (int i = from; i < to; i++)
+            //noinspection unchecked
+            this.keys[i] = this.keySelector.apply((TElement) elements[i]);
+        if (this.next == null)
+            return;
+        this.next.computeKeys(elements, from, to);
+    }
+
+    @Override
+    protected void moveKey(int from, int to) {
+        this.keys[to] = this.keys[from];
+        if (this.next == null)
+            return;
+        this.next.moveKey(from, to);
+    }
+
+    @Override
+    protected int compareAnyKeys(int index1, int index2) {
+        assert this.keys != null;
+
+        int c = Long.compare(this.keys[index1], this.keys[index2]);
+        if (c == 0) {
+            if (this.next == null)
+                return index1 - index2; // ensure stability of sort
+            return this.next.compareAnyKeys(index1, index2);
+        }
+
+        return this.descending != (c > 0) ? 1 : -1;
+    }
+
+    @Override
+    protected int[] sort(Object[] elements, int count) {
+        if (this.next != null || count < RADIX_SORT_THRESHOLD)
+            return super.sort(elements, count);
+
+        this.computeKeys(elements, count);
+        return radixSort(this.keys, count, this.descending);
+    }
+
+    // Stable LSD radix sort of the index map, one byte per pass. Passes where every key shares the same digit are skipped.
+    // Time complexity: O(n) for any input.
+    private static int[] radixSort(long[] keys, int count, boolean descending) {
+        // flip the sign bit to order signed keys as unsigned, flip all the other bits too for descending
+        long flip = descending ? Long.MAX_VALUE : Long.MIN_VALUE;
+        int[] map = new int[count];
+        for (int i = 0; i < count; i++)
+            map[i] = i;
+        int[] buffer = new int[count];
+        int[] offsets = new int[RADIX + 1];
+        for (int shift = 0; shift < Long.SIZE; shift += RADIX_BITS) {
+            Arrays.fill(offsets, 0);
+            for (int i = 0; i < count; i++)
+                offsets[(int) (((keys[i] ^ flip) >>> shift) & RADIX_MASK) + 1]++;
+            if (offsets[(int) (((keys[0] ^ flip) >>> shift) & RADIX_MASK) + 1] == count)
+                continue;
+
+            for (int i = 1; i < offsets.length; i++)
+                offsets[i] += offsets[i - 1];
+            for (int i = 0; i < count; i++) {
+                int index = map[i];
+                buffer[offsets[(int) (((keys[index] ^ flip) >>> shift) & RADIX_MASK)]++] = index;
+            }
+            int[] temp = map;
+            map = buffer;
+            buffer = temp;
+        }
+        return map;
+    }
 }
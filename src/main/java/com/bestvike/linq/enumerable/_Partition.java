@@ -9,7 +9,6 @@ import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.debug.DebuggerDisplay;
 import com.bestvike.linq.util.ArrayUtils;
 import com.bestvike.linq.util.ListUtils;
-import com.bestvike.out;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -33,11 +32,17 @@ interface IPartition<TElement> extends IIListProvider<TElement> {
 
     IPartition<TElement> _take(int count);
 
-    TElement _tryGetElementAt(int index, out<Boolean> found);
+    // Returned by the try get methods when there is no such element, a null element is a found element.
+    Object NOT_FOUND = new Object();
 
-    TElement _tryGetFirst(out<Boolean> found);
+    // Gets the element at the index, or NOT_FOUND.
+    Object _tryGetElementAt(int index);
 
-    TElement _tryGetLast(out<Boolean> found);
+    // Gets the first element, or NOT_FOUND.
+    Object _tryGetFirst();
+
+    // Gets the last element, or NOT_FOUND.
+    Object _tryGetLast();
 }
 
 
@@ -85,21 +90,18 @@ final class EmptyPartition<TElement> extends Iterator<TElement> implements IPart
     }
 
     @Override
-    public TElement _tryGetElementAt(int index, out<Boolean> found) {
-        found.value = false;
-        return null;
+    public Object _tryGetElementAt(int index) {
+        return NOT_FOUND;
     }
 
     @Override
-    public TElement _tryGetFirst(out<Boolean> found) {
-        found.value = false;
-        return null;
+    public Object _tryGetFirst() {
+        return NOT_FOUND;
     }
 
     @Override
-    public TElement _tryGetLast(out<Boolean> found) {
-        found.value = false;
-        return null;
+    public Object _tryGetLast() {
+        return NOT_FOUND;
     }
 
     @Override
@@ -155,22 +157,21 @@ final class OrderedPartition<TElement> implements IPartition<TElement> {
     }
 
     @Override
-    public TElement _tryGetElementAt(int index, out<Boolean> found) {
+    public Object _tryGetElementAt(int index) {
         if (Integer.compareUnsigned(index, this.maxIndexInclusive - this.minIndexInclusive) <= 0)
-            return this.source._tryGetElementAt(index + this.minIndexInclusive, found);
+            return this.source._tryGetElementAt(index + this.minIndexInclusive);
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TElement _tryGetFirst(out<Boolean> found) {
-        return this.source._tryGetElementAt(this.minIndexInclusive, found);
+    public Object _tryGetFirst() {
+        return this.source._tryGetElementAt(this.minIndexInclusive);
     }
 
     @Override
-    public TElement _tryGetLast(out<Boolean> found) {
-        return this.source._tryGetLast(this.minIndexInclusive, this.maxIndexInclusive, found);
+    public Object _tryGetLast() {
+        return this.source._tryGetLast(this.minIndexInclusive, this.maxIndexInclusive);
     }
 
     @Override
@@ -251,37 +252,28 @@ final class ListPartition<TSource> extends Iterator<TSource> implements IPartiti
     }
 
     @Override
-    public TSource _tryGetElementAt(int index, out<Boolean> found) {
-        if (Integer.compareUnsigned(index, this.maxIndexInclusive - this.minIndexInclusive) <= 0 && index < this.source._getCount() - this.minIndexInclusive) {
-            found.value = true;
+    public Object _tryGetElementAt(int index) {
+        if (Integer.compareUnsigned(index, this.maxIndexInclusive - this.minIndexInclusive) <= 0 && index < this.source._getCount() - this.minIndexInclusive)
             return this.source.get(this.minIndexInclusive + index);
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TSource _tryGetFirst(out<Boolean> found) {
-        if (this.source._getCount() > this.minIndexInclusive) {
-            found.value = true;
+    public Object _tryGetFirst() {
+        if (this.source._getCount() > this.minIndexInclusive)
             return this.source.get(this.minIndexInclusive);
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TSource _tryGetLast(out<Boolean> found) {
+    public Object _tryGetLast() {
         int lastIndex = this.source._getCount() - 1;
-        if (lastIndex >= this.minIndexInclusive) {
-            found.value = true;
+        if (lastIndex >= this.minIndexInclusive)
             return this.source.get(Math.min(lastIndex, this.maxIndexInclusive));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     private int _getCount() {
@@ -462,39 +454,30 @@ final class IListPartition<TSource> extends Iterator<TSource> implements IPartit
 
     //see ListPartition
     @Override
-    public TSource _tryGetElementAt(int index, out<Boolean> found) {
-        if (Integer.compareUnsigned(index, this.maxIndexInclusive - this.minIndexInclusive) <= 0 && index < this.source._getCount() - this.minIndexInclusive) {
-            found.value = true;
+    public Object _tryGetElementAt(int index) {
+        if (Integer.compareUnsigned(index, this.maxIndexInclusive - this.minIndexInclusive) <= 0 && index < this.source._getCount() - this.minIndexInclusive)
             return this.source.get(this.minIndexInclusive + index);
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     //see ListPartition
     @Override
-    public TSource _tryGetFirst(out<Boolean> found) {
-        if (this.source._getCount() > this.minIndexInclusive) {
-            found.value = true;
+    public Object _tryGetFirst() {
+        if (this.source._getCount() > this.minIndexInclusive)
             return this.source.get(this.minIndexInclusive);
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     //see ListPartition
     @Override
-    public TSource _tryGetLast(out<Boolean> found) {
+    public Object _tryGetLast() {
         int lastIndex = this.source._getCount() - 1;
-        if (lastIndex >= this.minIndexInclusive) {
-            found.value = true;
+        if (lastIndex >= this.minIndexInclusive)
             return this.source.get(Math.min(lastIndex, this.maxIndexInclusive));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     //see ListPartition
@@ -513,7 +496,7 @@ final class IListPartition<TSource> extends Iterator<TSource> implements IPartit
             if (this.skipBeforeFirst(en) && en.moveNext()) {
                 int limit = this.getLimit();
                 int remaining = limit - 1; // Max number of items left, not counting the current element.
-                LargeArrayBuilder<TSource> builder = new LargeArrayBuilder<>(limit);
+                LargeArrayBuilder<TSource> builder = new LargeArrayBuilder<>(clazz, limit);
 
                 do {
                     remaining--;
@@ -759,38 +742,32 @@ final class EnumerablePartition<TSource> extends Iterator<TSource> implements IP
     }
 
     @Override
-    public TSource _tryGetElementAt(int index, out<Boolean> found) {
+    public Object _tryGetElementAt(int index) {
         // If the index is negative or >= our max count, return early.
         if (index >= 0 && (!this.hasLimit() || index < this.getLimit())) {
             try (IEnumerator<TSource> en = this.source.enumerator()) {
                 assert this.minIndexInclusive + index >= 0 : String.format("Adding %s caused %s to overflow.", "index", "minIndexInclusive");
 
-                if (skipBefore(this.minIndexInclusive + index, en) && en.moveNext()) {
-                    found.value = true;
+                if (skipBefore(this.minIndexInclusive + index, en) && en.moveNext())
                     return en.current();
-                }
             }
         }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TSource _tryGetFirst(out<Boolean> found) {
+    public Object _tryGetFirst() {
         try (IEnumerator<TSource> en = this.source.enumerator()) {
-            if (this.skipBeforeFirst(en) && en.moveNext()) {
-                found.value = true;
+            if (this.skipBeforeFirst(en) && en.moveNext())
                 return en.current();
-            }
         }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TSource _tryGetLast(out<Boolean> found) {
+    public Object _tryGetLast() {
         try (IEnumerator<TSource> en = this.source.enumerator()) {
             if (this.skipBeforeFirst(en) && en.moveNext()) {
                 int remaining = this.getLimit() - 1; // Max number of items left, not counting the current element.
@@ -802,13 +779,11 @@ final class EnumerablePartition<TSource> extends Iterator<TSource> implements IP
                     result = en.current();
                 } while (remaining >= comparand && en.moveNext());
 
-                found.value = true;
                 return result;
             }
         }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
@@ -819,7 +794,7 @@ final class EnumerablePartition<TSource> extends Iterator<TSource> implements IP
                 int comparand = this.hasLimit() ? 0 : Integer.MIN_VALUE; // If we don't have an upper bound, have the comparison always return true.
 
                 int maxCapacity = this.hasLimit() ? this.getLimit() : Integer.MAX_VALUE;
-                LargeArrayBuilder<TSource> builder = new LargeArrayBuilder<>(maxCapacity);
+                LargeArrayBuilder<TSource> builder = new LargeArrayBuilder<>(clazz, maxCapacity);
 
                 do {
                     remaining--;
@@ -876,3 +851,73 @@ final class EnumerablePartition<TSource> extends Iterator<TSource> implements IP
         return skipBefore(this.minIndexInclusive, en);
     }
 }
+
+
+// Skips or takes a long count of elements, which is out of the int range of EnumerablePartition.
+final class LongEnumerablePartition<TSource> extends Iterator<TSource> implements IConsumable<TSource> {
+    private final IEnumerable<TSource> source;
+    private final long minIndexInclusive;
+    private final long maxIndexInclusive;// If this is -1, it's impossible to set a limit on the count.
+    private IEnumerator<TSource> enumerator;
+    private long index;
+
+    LongEnumerablePartition(IEnumerable<TSource> source, long minIndexInclusive, long maxIndexInclusive) {
+        assert source != null;
+        assert minIndexInclusive >= 0;
+        assert maxIndexInclusive == -1 || minIndexInclusive <= maxIndexInclusive;
+        this.source = source;
+        this.minIndexInclusive = minIndexInclusive;
+        this.maxIndexInclusive = maxIndexInclusive;
+    }
+
+    @Override
+    public Iterator<TSource> clone() {
+        return new LongEnumerablePartition<>(this.source, this.minIndexInclusive, this.maxIndexInclusive);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                while ((this.maxIndexInclusive == -1 || this.index <= this.maxIndexInclusive) && this.enumerator.moveNext()) {
+                    if (this.index++ < this.minIndexInclusive)
+                        continue;
+                    this.current = this.enumerator.current();
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public boolean _consume(Predicate1<TSource> sink) {
+        long[] index = {0};
+        boolean[] stopped = {false};
+        EnumerableHelpers.consume(this.source, item -> {
+            long cur = index[0]++;
+            if (cur < this.minIndexInclusive)
+                return true;
+            if (!sink.apply(item)) {
+                stopped[0] = true;
+                return false;
+            }
+            return cur != this.maxIndexInclusive;
+        });
+        return !stopped[0];
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
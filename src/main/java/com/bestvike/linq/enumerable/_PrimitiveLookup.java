@@ -0,0 +1,104 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+
+import java.util.Arrays;
+
+/**
+ * A compact lookup keyed by a primitive. Keys are hashed without boxing or comparer calls, the elements are laid out
+ * like {@link CompactLookup}, and only the key of each grouping is boxed.
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+abstract class PrimitiveLookup<TKey, TElement> extends AbstractCompactLookup<TKey, TElement> {
+    static final int DEFAULT_CAPACITY = 8;
+}
+
+
+final class IntLookup<TElement> extends PrimitiveLookup<Integer, TElement> {
+    private final IntSet keys = new IntSet();
+
+    private IntLookup() {
+    }
+
+    static <TElement> IntLookup<TElement> create(IEnumerable<TElement> source, IntFunc1<TElement> keySelector) {
+        assert source != null;
+        assert keySelector != null;
+
+        IntLookup<TElement> lookup = new IntLookup<>();
+        Object[] items = new Object[DEFAULT_CAPACITY];
+        int[] indexes = new int[DEFAULT_CAPACITY];
+        int length = 0;
+        try (IEnumerator<TElement> e = source.enumerator()) {
+            while (e.moveNext()) {
+                TElement item = e.current();
+                if (length == items.length) {
+                    items = Arrays.copyOf(items, Math.multiplyExact(length, 2));
+                    indexes = Arrays.copyOf(indexes, items.length);
+                }
+                indexes[length] = lookup.keys.getOrAddIndex(keySelector.apply(item));
+                items[length] = item;
+                length++;
+            }
+        }
+        lookup.count = lookup.keys.getCount();
+        lookup.layout(items, indexes, length);
+        return lookup;
+    }
+
+    @Override
+    int findGroup(Integer key) {
+        return key == null ? -1 : this.keys.indexOf(key);
+    }
+
+    @Override
+    Integer keyOf(int index) {
+        return this.keys.valueAt(index);
+    }
+}
+
+
+final class LongLookup<TElement> extends PrimitiveLookup<Long, TElement> {
+    private final LongSet keys = new LongSet();
+
+    private LongLookup() {
+    }
+
+    static <TElement> LongLookup<TElement> create(IEnumerable<TElement> source, LongFunc1<TElement> keySelector) {
+        assert source != null;
+        assert keySelector != null;
+
+        LongLookup<TElement> lookup = new LongLookup<>();
+        Object[] items = new Object[DEFAULT_CAPACITY];
+        int[] indexes = new int[DEFAULT_CAPACITY];
+        int length = 0;
+        try (IEnumerator<TElement> e = source.enumerator()) {
+            while (e.moveNext()) {
+                TElement item = e.current();
+                if (length == items.length) {
+                    items = Arrays.copyOf(items, Math.multiplyExact(length, 2));
+                    indexes = Arrays.copyOf(indexes, items.length);
+                }
+                indexes[length] = lookup.keys.getOrAddIndex(keySelector.apply(item));
+                items[length] = item;
+                length++;
+            }
+        }
+        lookup.count = lookup.keys.getCount();
+        lookup.layout(items, indexes, length);
+        return lookup;
+    }
+
+    @Override
+    int findGroup(Long key) {
+        return key == null ? -1 : this.keys.indexOf(key);
+    }
+
+    @Override
+    Long keyOf(int index) {
+        return this.keys.valueAt(index);
+    }
+}
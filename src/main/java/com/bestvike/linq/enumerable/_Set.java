@@ -8,102 +8,153 @@ import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.util.ArrayUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * Created by 许崇雷 on 2018-05-07.
  */
 final class Set<TElement> {
+    private static final int DEFAULT_BUCKETS = 8;
     private final IEqualityComparer<TElement> comparer;
-    private int[] buckets;
-    private Slot[] slots;
+    private int[] buckets;// open addressing table of entry index plus one, zero means empty
+    private int shift;// 32 - log2(buckets.length)
+    private int[] hashCodes;// hash code of each entry in insertion order, -1 means removed
+    private Object[] values;// value of each entry in insertion order
     private int count;
 
     // Constructs a set that compares items with the specified comparer.
     Set(IEqualityComparer<TElement> comparer) {
         this.comparer = comparer == null ? EqualityComparer.Default() : comparer;
-        this.buckets = new int[7];
-        //noinspection unchecked
-        this.slots = new Set.Slot[7];
-        for (int i = 0; i < 7; i++)
-            this.slots[i] = new Slot();
+        this.buckets = new int[DEFAULT_BUCKETS];
+        this.shift = Integer.numberOfLeadingZeros(DEFAULT_BUCKETS) + 1;
+        int capacity = capacityOf(DEFAULT_BUCKETS);
+        this.hashCodes = new int[capacity];
+        this.values = new Object[capacity];
     }
 
     // If value is not in set, add it and return true; otherwise return false
     public boolean add(TElement value) {
+        int count = this.count;
+        return this.getOrAddIndex(value) == count;
+    }
+
+    // Gets the insertion index of the value, adding it at index getCount() when it is not in set.
+    public int getOrAddIndex(TElement value) {
         int hashCode = this.internalGetHashCode(value);
-        for (int i = this.buckets[hashCode % this.buckets.length] - 1; i >= 0; i = this.slots[i].next) {
-            if (this.slots[i].hashCode == hashCode && this.comparer.equals(this.slots[i].value, value))
-                return false;
+        int mask = this.buckets.length - 1;
+        int bucket = this.bucketOf(hashCode);
+        for (int i = this.buckets[bucket] - 1; i >= 0; i = this.buckets[bucket] - 1) {
+            //noinspection unchecked
+            if (this.hashCodes[i] == hashCode && this.comparer.equals((TElement) this.values[i], value))
+                return i;
+            bucket = (bucket + 1) & mask;
         }
 
-        if (this.count == this.slots.length)
+        if (this.count == this.values.length) {
             this.resize();
+            bucket = this.emptyBucketOf(hashCode);
+        }
 
         int index = this.count;
         this.count++;
-        int bucket = hashCode % this.buckets.length;
-        this.slots[index].hashCode = hashCode;
-        this.slots[index].value = value;
-        this.slots[index].next = this.buckets[bucket] - 1;
+        this.hashCodes[index] = hashCode;
+        this.values[index] = value;
         this.buckets[bucket] = index + 1;
-        return true;
+        return index;
+    }
+
+    // Checks if the value is in set.
+    public boolean contains(TElement value) {
+        int hashCode = this.internalGetHashCode(value);
+        int mask = this.buckets.length - 1;
+        int bucket = this.bucketOf(hashCode);
+        for (int i = this.buckets[bucket] - 1; i >= 0; i = this.buckets[bucket] - 1) {
+            //noinspection unchecked
+            if (this.hashCodes[i] == hashCode && this.comparer.equals((TElement) this.values[i], value))
+                return true;
+            bucket = (bucket + 1) & mask;
+        }
+        return false;
     }
 
-    // Attempts to remove an item from this set.
+    // Attempts to remove an item from this set. The entry is left as a hole so the insertion order of the others is kept.
     public boolean remove(TElement value) {
         int hashCode = this.internalGetHashCode(value);
-        int bucket = hashCode % this.buckets.length;
-        int last = -1;
-        for (int i = this.buckets[bucket] - 1; i >= 0; last = i, i = this.slots[i].next) {
-            if (this.slots[i].hashCode == hashCode && this.comparer.equals(this.slots[i].value, value)) {
-                if (last < 0)
-                    this.buckets[bucket] = this.slots[i].next + 1;
-                else
-                    this.slots[last].next = this.slots[i].next;
-
-                this.slots[i].hashCode = -1;
-                this.slots[i].value = null;
-                this.slots[i].next = -1;
+        int mask = this.buckets.length - 1;
+        int bucket = this.bucketOf(hashCode);
+        for (int i = this.buckets[bucket] - 1; i >= 0; i = this.buckets[bucket] - 1) {
+            //noinspection unchecked
+            if (this.hashCodes[i] == hashCode && this.comparer.equals((TElement) this.values[i], value)) {
+                this.hashCodes[i] = -1;
+                this.values[i] = null;
+                this.removeBucket(bucket);
                 return true;
             }
+            bucket = (bucket + 1) & mask;
         }
 
         return false;
     }
 
-    // Expands the capacity of this set to double the current capacity, plus one.
+    // Clears a bucket by shifting back the following entries of its probe sequence, so no tombstone is needed.
+    private void removeBucket(int hole) {
+        int mask = this.buckets.length - 1;
+        for (int bucket = (hole + 1) & mask; this.buckets[bucket] != 0; bucket = (bucket + 1) & mask) {
+            int ideal = this.bucketOf(this.hashCodes[this.buckets[bucket] - 1]);
+            if (((bucket - ideal) & mask) >= ((bucket - hole) & mask)) {
+                this.buckets[hole] = this.buckets[bucket];
+                hole = bucket;
+            }
+        }
+        this.buckets[hole] = 0;
+    }
+
+    // Expands the capacity of this set to double the current capacity.
     private void resize() {
-        int newSize = Math.addExact(Math.multiplyExact(this.count, 2), 1);
-        int[] newBuckets = new int[newSize];
-        //noinspection unchecked
-        Slot[] newSlots = new Set.Slot[newSize];
-        System.arraycopy(this.slots, 0, newSlots, 0, this.count);
-        for (int i = this.count; i < newSize; i++)
-            newSlots[i] = new Slot();
+        int newSize = Math.multiplyExact(this.buckets.length, 2);
+        int capacity = capacityOf(newSize);
+        this.buckets = new int[newSize];
+        this.shift--;
+        this.hashCodes = Arrays.copyOf(this.hashCodes, capacity);
+        this.values = Arrays.copyOf(this.values, capacity);
         for (int i = 0; i < this.count; i++) {
-            int bucket = newSlots[i].hashCode % newSize;
-            newSlots[i].next = newBuckets[bucket] - 1;
-            newBuckets[bucket] = i + 1;
+            int hashCode = this.hashCodes[i];
+            if (hashCode >= 0)
+                this.buckets[this.emptyBucketOf(hashCode)] = i + 1;
         }
-        this.buckets = newBuckets;
-        this.slots = newSlots;
+    }
+
+    // Gets the first empty bucket of the probe sequence of the hash code.
+    private int emptyBucketOf(int hashCode) {
+        int mask = this.buckets.length - 1;
+        int bucket = this.bucketOf(hashCode);
+        while (this.buckets[bucket] != 0)
+            bucket = (bucket + 1) & mask;
+        return bucket;
+    }
+
+    // Fibonacci hashing, takes the high bits of the product so poor low bits of the hash code still spread.
+    private int bucketOf(int hashCode) {
+        return (hashCode * 0x9E3779B9) >>> this.shift;
+    }
+
+    // The number of entries fit in the buckets with a load factor of 0.75.
+    private static int capacityOf(int buckets) {
+        return buckets - (buckets >> 2);
     }
 
     // Creates an array from the items in this set.
     public TElement[] toArray(Class<TElement> clazz) {
         TElement[] array = ArrayUtils.newInstance(clazz, this.count);
-        for (int i = 0; i != array.length; ++i)
-            array[i] = this.slots[i].value;
+        //noinspection SuspiciousSystemArraycopy
+        System.arraycopy(this.values, 0, array, 0, this.count);
         return array;
     }
 
     // Creates an array from the items in this set.
     public Object[] toArray() {
-        Object[] array = new Object[this.count];
-        for (int i = 0; i != array.length; ++i)
-            array[i] = this.slots[i].value;
-        return array;
+        return Arrays.copyOf(this.values, this.count);
     }
 
     // Creates a list from the items in this set.
@@ -111,7 +162,8 @@ final class Set<TElement> {
         int count = this.count;
         List<TElement> list = new ArrayList<>(count);
         for (int i = 0; i != count; ++i)
-            list.add(this.slots[i].value);
+            //noinspection unchecked
+            list.add((TElement) this.values[i]);
         return list;
     }
 
@@ -141,16 +193,8 @@ final class Set<TElement> {
         }
     }
 
-    // Gets the hash code of the provided value with its sign bit zeroed out, so that modulo has a positive result.
+    // Gets the hash code of the provided value with its sign bit zeroed out, so that -1 can mark a removed entry.
     private int internalGetHashCode(TElement value) {
         return value == null ? 0 : this.comparer.hashCode(value) & 0x7FFFFFFF;
     }
-
-
-    // An entry in the hash set.
-    private final class Slot {//struct
-        private int hashCode;
-        private int next;
-        private TElement value;
-    }
 }
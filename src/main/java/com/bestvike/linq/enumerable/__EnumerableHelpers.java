@@ -1,6 +1,8 @@
 package com.bestvike.linq.enumerable;
 
+import com.bestvike.collections.generic.IArray;
 import com.bestvike.collections.generic.ICollection;
+import com.bestvike.function.Predicate1;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.util.ArrayUtils;
@@ -17,23 +19,54 @@ final class EnumerableHelpers {
     private EnumerableHelpers() {
     }
 
-    // Tries to get the count of the enumerable cheaply.
-    public static <T> boolean tryGetCount(IEnumerable<T> source, out<Integer> count) {
+    // Tries to get the count of the enumerable cheaply, returns -1 if the count can not be got cheaply.
+    public static <T> int tryGetCount(IEnumerable<T> source) {
         assert source != null;
 
         if (source instanceof ICollection) {
             ICollection collection = (ICollection<T>) source;
-            count.value = collection._getCount();
-            return true;
+            return collection._getCount();
         }
 
         if (source instanceof IIListProvider) {
             IIListProvider<T> provider = (IIListProvider<T>) source;
-            return (count.value = provider._getCount(true)) >= 0;
+            return provider._getCount(true);
+        }
+
+        return -1;
+    }
+
+    // Pushes the elements of the source to the sink until the sink returns false, returns false if the sink stopped.
+    public static <T> boolean consume(IEnumerable<T> source, Predicate1<T> sink) {
+        assert source != null;
+        assert sink != null;
+
+        if (source instanceof IConsumable) {
+            IConsumable<T> consumable = (IConsumable<T>) source;
+            return consumable._consume(sink);
+        }
+
+        if (source instanceof IFusible) {
+            IFusible<T> fusible = (IFusible<T>) source;
+            return fusible._fuse()._consume(sink);
+        }
+
+        if (source instanceof IArray) {
+            IArray<T> array = (IArray<T>) source;
+            for (int i = 0, count = array._getCount(); i < count; i++) {
+                if (!sink.apply(array.get(i)))
+                    return false;
+            }
+            return true;
         }
 
-        count.value = -1;
-        return false;
+        try (IEnumerator<T> e = source.enumerator()) {
+            while (e.moveNext()) {
+                if (!sink.apply(e.current()))
+                    return false;
+            }
+        }
+        return true;
     }
 
     //Copies items from an enumerable to an array.
@@ -79,7 +112,7 @@ final class EnumerableHelpers {
             return count == 0 ? ArrayUtils.empty(clazz) : collection._toArray(clazz);
         }
 
-        LargeArrayBuilder<T> builder = new LargeArrayBuilder<>();
+        LargeArrayBuilder<T> builder = new LargeArrayBuilder<>(clazz);
         builder.addRange(source);
         return builder.toArray(clazz);
     }
@@ -122,29 +155,34 @@ final class EnumerableHelpers {
                     arr[0] = en.current();
                     int count = 1;
 
-                    while (en.moveNext()) {
-                        if (count == arr.length) {
-                            // MaxArrayLength is defined in Array.MaxArrayLength and in gchelpers in CoreCLR.
-                            // It represents the maximum number of elements that can be in an array where
-                            // the size of the element is greater than one byte; a separate, slightly larger constant,
-                            // is used when the size of the element is one.
-                            final int MaxArrayLength = 0x7FEFFFFF;
-                            // This is the same growth logic as in List<T>:
-                            // If the array is currently empty, we make it a default size.  Otherwise, we attempt to
-                            // double the size of the array.  Doubling will overflow once the size of the array reaches
-                            // 2^30, since doubling to 2^31 is 1 larger than Int32.MaxValue.  In that case, we instead
-                            // constrain the length to be MaxArrayLength (this overflow check works because of the
-                            // cast to uint).  Because a slightly larger constant is used when T is one byte in size, we
-                            // could then end up in a situation where arr.Length is MaxArrayLength or slightly larger, such
-                            // that we constrain newLength to be MaxArrayLength but the needed number of elements is actually
-                            // larger than that.  For that case, we then ensure that the newLength is large enough to hold
-                            // the desired capacity.  This does mean that in the very rare case where we've grown to such a
-                            // large size, each new element added after MaxArrayLength will end up doing a resize.
-                            int newLength = count << 1;
-                            if (Integer.compareUnsigned(newLength, MaxArrayLength) > 0)
-                                newLength = MaxArrayLength <= count ? count + 1 : MaxArrayLength;
-                            arr = ArrayUtils.resize(arr, newLength);
-                        }
+                    // Fill the free space in batches, the array only grows once an item is known to be left.
+                    while (true) {
+                        int space = arr.length - count;
+                        int moved = en.moveNextBatch(arr, count, space);
+                        count += moved;
+                        if (moved < space || !en.moveNext())
+                            break;
+
+                        // MaxArrayLength is defined in Array.MaxArrayLength and in gchelpers in CoreCLR.
+                        // It represents the maximum number of elements that can be in an array where
+                        // the size of the element is greater than one byte; a separate, slightly larger constant,
+                        // is used when the size of the element is one.
+                        final int MaxArrayLength = 0x7FEFFFFF;
+                        // This is the same growth logic as in List<T>:
+                        // If the array is currently empty, we make it a default size.  Otherwise, we attempt to
+                        // double the size of the array.  Doubling will overflow once the size of the array reaches
+                        // 2^30, since doubling to 2^31 is 1 larger than Int32.MaxValue.  In that case, we instead
+                        // constrain the length to be MaxArrayLength (this overflow check works because of the
+                        // cast to uint).  Because a slightly larger constant is used when T is one byte in size, we
+                        // could then end up in a situation where arr.Length is MaxArrayLength or slightly larger, such
+                        // that we constrain newLength to be MaxArrayLength but the needed number of elements is actually
+                        // larger than that.  For that case, we then ensure that the newLength is large enough to hold
+                        // the desired capacity.  This does mean that in the very rare case where we've grown to such a
+                        // large size, each new element added after MaxArrayLength will end up doing a resize.
+                        int newLength = count << 1;
+                        if (Integer.compareUnsigned(newLength, MaxArrayLength) > 0)
+                            newLength = MaxArrayLength <= count ? count + 1 : MaxArrayLength;
+                        arr = ArrayUtils.resize(arr, newLength);
                         arr[count++] = en.current();
                     }
                     length.value = count;
@@ -168,10 +206,7 @@ final class EnumerableHelpers {
         }
 
         List<T> list = new ArrayList<>();
-        try (IEnumerator<T> e = source.enumerator()) {
-            while (e.moveNext())
-                list.add(e.current());
-        }
+        consume(source, list::add);
         return list;
     }
 }
@@ -4,8 +4,6 @@ import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.debug.DebuggerDisplay;
 import com.bestvike.linq.util.ArrayUtils;
-import com.bestvike.out;
-import com.bestvike.ref;
 
 import java.util.Objects;
 
@@ -77,6 +75,7 @@ final class LargeArrayBuilder<T> {//struct
 
     private final ArrayBuilder<Object[]> buffers = new ArrayBuilder<>();    // After ResizeLimit * 2, we store previous buffers we've filled out here.
     private final int maxCapacity;                                          // The maximum capacity this builder can have.
+    private final Class<T> clazz;                                           // Element class of typed buffers, null for Object[] buffers.
     private Object[] first;                                                 // The first buffer we store items in. Resized until ResizeLimit.
     private Object[] current;                                               // Current buffer we're reading into. If count <= ResizeLimit, this is first.
     private int index;                                                      // Index into the current buffer.
@@ -87,9 +86,20 @@ final class LargeArrayBuilder<T> {//struct
     }
 
     LargeArrayBuilder(int maxCapacity) {
+        this(null, maxCapacity);
+    }
+
+    // A builder with typed buffers, toArray(Class) of it copies the buffers without a store check per element and
+    // returns the first buffer as is when it holds exactly all the items.
+    LargeArrayBuilder(Class<T> clazz) {
+        this(clazz, Integer.MAX_VALUE);
+    }
+
+    LargeArrayBuilder(Class<T> clazz, int maxCapacity) {
         assert maxCapacity >= 0;
-        this.first = this.current = ArrayUtils.empty();
+        this.first = this.current = clazz == null ? ArrayUtils.empty() : ArrayUtils.empty(clazz);
         this.maxCapacity = maxCapacity;
+        this.clazz = clazz;
     }
 
     public int getCount() {
@@ -113,35 +123,34 @@ final class LargeArrayBuilder<T> {//struct
     public void addRange(IEnumerable<T> items) {
         assert items != null;
         try (IEnumerator<T> enumerator = items.enumerator()) {
-            ref<Object[]> destinationRef = ref.init(this.current);
-            ref<Integer> indexRef = ref.init(this.index);
+            Object[] destination = this.current;
+            int index = this.index;
+
+            // Continuously read in batches from the enumerator straight into the
+            // current buffer, updating count and index when we run out of space.
+            // A buffer is only allocated once an item is known to be left.
+            while (true) {
+                int space = destination.length - index;
+                int moved = space > 0 ? enumerator.moveNextBatch(destination, index, space) : 0;
+                index += moved;
+                if (moved < space || !enumerator.moveNext())
+                    break;
 
-            // Continuously read in items from the enumerator, updating count
-            // and index when we run out of space.
-            while (enumerator.moveNext()) {
                 T item = enumerator.current();
-                if (Integer.compareUnsigned(indexRef.value, destinationRef.value.length) >= 0)
-                    this.addWithBufferAllocation(item, destinationRef, indexRef);
-                else
-                    destinationRef.value[indexRef.value] = item;
-                indexRef.value++;
+                this.count += index - this.index;
+                this.index = index;
+                this.allocateBuffer();
+                destination = this.current;
+                index = this.index;
+                destination[index++] = item;
             }
 
             // Final update to count and index.
-            this.count += indexRef.value - this.index;
-            this.index = indexRef.value;
+            this.count += index - this.index;
+            this.index = index;
         }
     }
 
-    private void addWithBufferAllocation(T item, ref<Object[]> destination, ref<Integer> index) {
-        this.count += index.value - this.index;
-        this.index = index.value;
-        this.allocateBuffer();
-        destination.value = this.current;
-        index.value = this.index;
-        this.current[index.value] = item;
-    }
-
     private void copyTo(Object[] array, int arrayIndex, int count) {
         assert arrayIndex >= 0;
         assert count >= 0 && count <= this.getCount();
@@ -179,30 +188,31 @@ final class LargeArrayBuilder<T> {//struct
          */
         int row = position.getRow();
         int column = position.getColumn();
-        ref<Integer> arrayIndexRef = ref.init(arrayIndex);
-        ref<Integer> countRef = ref.init(count);
 
         Object[] buffer = this.getBuffer(row);
-        int copied = this.copyToCore(buffer, column, array, arrayIndexRef, countRef);
+        int copied = copyToCore(buffer, column, array, arrayIndex, count);
+        arrayIndex += copied;
+        count -= copied;
 
-        if (countRef.value == 0)
+        if (count == 0)
             return new CopyPosition(row, column + copied).normalize(buffer.length);
 
         do {
             buffer = this.getBuffer(++row);
-            copied = this.copyToCore(buffer, 0, array, arrayIndexRef, countRef);
-        } while (countRef.value > 0);
+            copied = copyToCore(buffer, 0, array, arrayIndex, count);
+            arrayIndex += copied;
+            count -= copied;
+        } while (count > 0);
 
         return new CopyPosition(row, copied).normalize(buffer.length);
     }
 
-    private int copyToCore(Object[] sourceBuffer, int sourceIndex, Object[] array, ref<Integer> arrayIndex, ref<Integer> count) {
+    // Returns the number of items copied, the caller advances arrayIndex and count by it.
+    private static int copyToCore(Object[] sourceBuffer, int sourceIndex, Object[] array, int arrayIndex, int count) {
         assert sourceBuffer.length > sourceIndex;
         // Copy until we satisfy `count` or reach the end of the current buffer.
-        int copyCount = Math.min(sourceBuffer.length - sourceIndex, count.value);
-        System.arraycopy(sourceBuffer, sourceIndex, array, arrayIndex.value, copyCount);
-        arrayIndex.value += copyCount;
-        count.value -= copyCount;
+        int copyCount = Math.min(sourceBuffer.length - sourceIndex, count);
+        System.arraycopy(sourceBuffer, sourceIndex, array, arrayIndex, copyCount);
         return copyCount;
     }
 
@@ -219,9 +229,10 @@ final class LargeArrayBuilder<T> {//struct
     }
 
     public T[] toArray(Class<T> clazz) {
-        out<Object[]> arrayRef = out.init();
-        if (this.tryMove(arrayRef))
-            return ArrayUtils.toArray(arrayRef.value, clazz);
+        Object[] moved = this.tryMove();
+        if (moved != null)
+            //noinspection unchecked
+            return clazz == this.clazz ? (T[]) moved : ArrayUtils.toArray(moved, clazz);
 
         T[] array = ArrayUtils.newInstance(clazz, this.count);
         this.copyTo(array, 0, this.count);
@@ -229,18 +240,18 @@ final class LargeArrayBuilder<T> {//struct
     }
 
     public Object[] toArray() {
-        out<Object[]> arrayRef = out.init();
-        if (this.tryMove(arrayRef))
-            return arrayRef.value;
+        Object[] moved = this.tryMove();
+        if (moved != null && this.clazz == null)
+            return moved;
 
         Object[] array = new Object[this.count];
         this.copyTo(array, 0, this.count);
         return array;
     }
 
-    public boolean tryMove(out<Object[]> array) {
-        array.value = this.first;
-        return this.count == this.first.length;
+    // Gets the first buffer if it holds all the items, or null.
+    public Object[] tryMove() {
+        return this.count == this.first.length ? this.first : null;
     }
 
     private void allocateBuffer() {
@@ -257,7 +268,7 @@ final class LargeArrayBuilder<T> {//struct
             // We haven't passed ResizeLimit. Resize first, copying over the previous items.
             assert this.current == this.first && this.count == this.first.length;
             int nextCapacity = Math.min(this.count == 0 ? StartingCapacity : this.count * 2, this.maxCapacity);
-            this.current = new Object[nextCapacity];
+            this.current = this.newBuffer(nextCapacity);
             System.arraycopy(this.first, 0, this.current, 0, this.count);
             this.first = this.current;
         } else {
@@ -278,8 +289,12 @@ final class LargeArrayBuilder<T> {//struct
                 this.buffers.add(this.current);
                 nextCapacity = Math.min(this.count, this.maxCapacity - this.count);
             }
-            this.current = new Object[nextCapacity];
+            this.current = this.newBuffer(nextCapacity);
             this.index = 0;
         }
     }
+
+    private Object[] newBuffer(int length) {
+        return this.clazz == null ? new Object[length] : ArrayUtils.newInstance(this.clazz, length);
+    }
 }
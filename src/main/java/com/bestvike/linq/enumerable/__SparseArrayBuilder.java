@@ -3,7 +3,6 @@ package com.bestvike.linq.enumerable;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.debug.DebuggerDisplay;
 import com.bestvike.linq.util.ArrayUtils;
-import com.bestvike.out;
 
 import java.util.Objects;
 
@@ -129,9 +128,8 @@ final class SparseArrayBuilder<T> {//struct
     }
 
     public boolean reserveOrAdd(IEnumerable<T> items) {
-        out<Integer> itemCountRef = out.init();
-        if (EnumerableHelpers.tryGetCount(items, itemCountRef)) {
-            int itemCount = itemCountRef.value;
+        int itemCount = EnumerableHelpers.tryGetCount(items);
+        if (itemCount >= 0) {
             if (itemCount > 0) {
                 this.reserve(itemCount);
                 return true;
@@ -24,23 +24,30 @@ public enum ExceptionArgument {
     //extension
     action,
     array,
+    buildSide,
     clazz,
     collator,
     collection,
+    combine,
     comparison,
     condition,
     current,
+    degreeOfParallelism,
     elements,
     formatter,
     hasNext,
+    innerSerializer,
     iterable,
     locale,
     match,
+    memoryBudget,
     moveNext,
     newSize,
     next,
     obj,
     options,
     other,
+    outerSerializer,
+    seedFactory,
     startIndex,
 }
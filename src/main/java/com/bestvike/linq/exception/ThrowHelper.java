@@ -36,6 +36,10 @@ public final class ThrowHelper {
         throw new InvalidOperationException(SR.NoMatch);
     }
 
+    public static void throwNotSortedByKeyException(ExceptionArgument argument) {
+        throw new InvalidOperationException(String.format(SR.NotSortedByKey, getArgumentString(argument)));
+    }
+
     public static void throwNotSupportedException() {
         throw new NotSupportedException();
     }
@@ -20,6 +20,7 @@ public final class SR {
     public static final String NoElements = "Sequence contains no elements.";
     public static final String NoMatch = "Sequence contains no matching element.";
     public static final String NoSuchElement = "Sequence contains no such element.";
+    public static final String NotSortedByKey = "The %s sequence is not sorted by key.";
     public static final String Arg_IndexOutOfRangeException = "Index was outside the bounds of the array.";
     public static final String Argument_ImplementComparable = "At least one object must implement Comparable.";
     public static final String ArgumentException_TupleIncorrectType = "Argument must be of type %s.";
@@ -0,0 +1,343 @@
+package com.bestvike.linq.util;
+
+import com.bestvike.linq.enumerable.Values;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * Compiled getter of an instance field. Primitive fields are read, compared and hashed without boxing.
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public abstract class FieldAccessor {
+    private final Field field;
+    private final boolean primitive;
+    final MethodHandle getter;
+
+    private FieldAccessor(Field field, Class<?> type) {
+        MethodHandle getter = null;
+        try {
+            getter = MethodHandles.lookup().unreflectGetter(field).asType(MethodType.methodType(type, Object.class));
+        } catch (IllegalAccessException e) {
+            ThrowHelper.throwRuntimeException(e);
+        }
+        this.field = field;
+        this.primitive = type.isPrimitive();
+        this.getter = getter;
+    }
+
+    static FieldAccessor create(Field field) {
+        Class<?> type = field.getType();
+        if (type == boolean.class)
+            return new BooleanAccessor(field);
+        if (type == byte.class)
+            return new ByteAccessor(field);
+        if (type == short.class)
+            return new ShortAccessor(field);
+        if (type == char.class)
+            return new CharAccessor(field);
+        if (type == int.class)
+            return new IntAccessor(field);
+        if (type == long.class)
+            return new LongAccessor(field);
+        if (type == float.class)
+            return new FloatAccessor(field);
+        if (type == double.class)
+            return new DoubleAccessor(field);
+        return new ObjectAccessor(field);
+    }
+
+    public Field getField() {
+        return this.field;
+    }
+
+    public String getName() {
+        return this.field.getName();
+    }
+
+    public boolean isPrimitive() {
+        return this.primitive;
+    }
+
+    // boxed value of the field
+    public abstract Object get(Object obj);
+
+    // same as Values.equals on the field values
+    public abstract boolean valueEquals(Object x, Object y);
+
+    // same as Values.hashCode on the field value
+    public abstract int valueHashCode(Object obj);
+
+
+    private static final class BooleanAccessor extends FieldAccessor {
+        private BooleanAccessor(Field field) {
+            super(field, boolean.class);
+        }
+
+        private boolean getBoolean(Object obj) {
+            try {
+                return (boolean) this.getter.invokeExact(obj);
+            } catch (Throwable e) {
+                ThrowHelper.throwRuntimeException(e);
+                return false;
+            }
+        }
+
+        @Override
+        public Object get(Object obj) {
+            return this.getBoolean(obj);
+        }
+
+        @Override
+        public boolean valueEquals(Object x, Object y) {
+            return this.getBoolean(x) == this.getBoolean(y);
+        }
+
+        @Override
+        public int valueHashCode(Object obj) {
+            return Boolean.hashCode(this.getBoolean(obj));
+        }
+    }
+
+    private static final class ByteAccessor extends FieldAccessor {
+        private ByteAccessor(Field field) {
+            super(field, byte.class);
+        }
+
+        private byte getByte(Object obj) {
+            try {
+                return (byte) this.getter.invokeExact(obj);
+            } catch (Throwable e) {
+                ThrowHelper.throwRuntimeException(e);
+                return 0;
+            }
+        }
+
+        @Override
+        public Object get(Object obj) {
+            return this.getByte(obj);
+        }
+
+        @Override
+        public boolean valueEquals(Object x, Object y) {
+            return this.getByte(x) == this.getByte(y);
+        }
+
+        @Override
+        public int valueHashCode(Object obj) {
+            return Byte.hashCode(this.getByte(obj));
+        }
+    }
+
+    private static final class ShortAccessor extends FieldAccessor {
+        private ShortAccessor(Field field) {
+            super(field, short.class);
+        }
+
+        private short getShort(Object obj) {
+            try {
+                return (short) this.getter.invokeExact(obj);
+            } catch (Throwable e) {
+                ThrowHelper.throwRuntimeException(e);
+                return 0;
+            }
+        }
+
+        @Override
+        public Object get(Object obj) {
+            return this.getShort(obj);
+        }
+
+        @Override
+        public boolean valueEquals(Object x, Object y) {
+            return this.getShort(x) == this.getShort(y);
+        }
+
+        @Override
+        public int valueHashCode(Object obj) {
+            return Short.hashCode(this.getShort(obj));
+        }
+    }
+
+    private static final class CharAccessor extends FieldAccessor {
+        private CharAccessor(Field field) {
+            super(field, char.class);
+        }
+
+        private char getChar(Object obj) {
+            try {
+                return (char) this.getter.invokeExact(obj);
+            } catch (Throwable e) {
+                ThrowHelper.throwRuntimeException(e);
+                return 0;
+            }
+        }
+
+        @Override
+        public Object get(Object obj) {
+            return this.getChar(obj);
+        }
+
+        @Override
+        public boolean valueEquals(Object x, Object y) {
+            return this.getChar(x) == this.getChar(y);
+        }
+
+        @Override
+        public int valueHashCode(Object obj) {
+            return Character.hashCode(this.getChar(obj));
+        }
+    }
+
+    private static final class IntAccessor extends FieldAccessor {
+        private IntAccessor(Field field) {
+            super(field, int.class);
+        }
+
+        private int getInt(Object obj) {
+            try {
+                return (int) this.getter.invokeExact(obj);
+            } catch (Throwable e) {
+                ThrowHelper.throwRuntimeException(e);
+                return 0;
+            }
+        }
+
+        @Override
+        public Object get(Object obj) {
+            return this.getInt(obj);
+        }
+
+        @Override
+        public boolean valueEquals(Object x, Object y) {
+            return this.getInt(x) == this.getInt(y);
+        }
+
+        @Override
+        public int valueHashCode(Object obj) {
+            return Integer.hashCode(this.getInt(obj));
+        }
+    }
+
+    private static final class LongAccessor extends FieldAccessor {
+        private LongAccessor(Field field) {
+            super(field, long.class);
+        }
+
+        private long getLong(Object obj) {
+            try {
+                return (long) this.getter.invokeExact(obj);
+            } catch (Throwable e) {
+                ThrowHelper.throwRuntimeException(e);
+                return 0;
+            }
+        }
+
+        @Override
+        public Object get(Object obj) {
+            return this.getLong(obj);
+        }
+
+        @Override
+        public boolean valueEquals(Object x, Object y) {
+            return this.getLong(x) == this.getLong(y);
+        }
+
+        @Override
+        public int valueHashCode(Object obj) {
+            return Long.hashCode(this.getLong(obj));
+        }
+    }
+
+    // compares bits like Float.equals
+    private static final class FloatAccessor extends FieldAccessor {
+        private FloatAccessor(Field field) {
+            super(field, float.class);
+        }
+
+        private float getFloat(Object obj) {
+            try {
+                return (float) this.getter.invokeExact(obj);
+            } catch (Throwable e) {
+                ThrowHelper.throwRuntimeException(e);
+                return 0;
+            }
+        }
+
+        @Override
+        public Object get(Object obj) {
+            return this.getFloat(obj);
+        }
+
+        @Override
+        public boolean valueEquals(Object x, Object y) {
+            return Float.floatToIntBits(this.getFloat(x)) == Float.floatToIntBits(this.getFloat(y));
+        }
+
+        @Override
+        public int valueHashCode(Object obj) {
+            return Float.hashCode(this.getFloat(obj));
+        }
+    }
+
+    // compares bits like Double.equals
+    private static final class DoubleAccessor extends FieldAccessor {
+        private DoubleAccessor(Field field) {
+            super(field, double.class);
+        }
+
+        private double getDouble(Object obj) {
+            try {
+                return (double) this.getter.invokeExact(obj);
+            } catch (Throwable e) {
+                ThrowHelper.throwRuntimeException(e);
+                return 0;
+            }
+        }
+
+        @Override
+        public Object get(Object obj) {
+            return this.getDouble(obj);
+        }
+
+        @Override
+        public boolean valueEquals(Object x, Object y) {
+            return Double.doubleToLongBits(this.getDouble(x)) == Double.doubleToLongBits(this.getDouble(y));
+        }
+
+        @Override
+        public int valueHashCode(Object obj) {
+            return Double.hashCode(this.getDouble(obj));
+        }
+    }
+
+    private static final class ObjectAccessor extends FieldAccessor {
+        private ObjectAccessor(Field field) {
+            super(field, Object.class);
+        }
+
+        @Override
+        public Object get(Object obj) {
+            try {
+                return (Object) this.getter.invokeExact(obj);
+            } catch (Throwable e) {
+                ThrowHelper.throwRuntimeException(e);
+                return null;
+            }
+        }
+
+        @Override
+        public boolean valueEquals(Object x, Object y) {
+            return Values.equals(this.get(x), this.get(y));
+        }
+
+        @Override
+        public int valueHashCode(Object obj) {
+            return Values.hashCode(this.get(obj));
+        }
+    }
+}
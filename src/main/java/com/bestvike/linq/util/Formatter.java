@@ -3,9 +3,7 @@ package com.bestvike.linq.util;
 import com.bestvike.collections.generic.Comparer;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
-import com.bestvike.linq.exception.ThrowHelper;
 
-import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Iterator;
@@ -296,23 +294,19 @@ public final class Formatter {
         }
         if (this.objectTypeStyle != null)
             this.objectTypeStyle.appendType(clazz, sb);
-        Field[] fields = Reflection.getFields(clazz);
-        if (fields.length <= 0) {
+        FieldAccessor[] accessors = Reflection.getAccessors(clazz);
+        if (accessors.length <= 0) {
             sb.append(this.objectEmpty);
             return;
         }
         sb.append(this.objectPrefix);
-        try {
-            Field field = fields[0];
-            sb.append(field.getName()).append(this.objectFieldValueSeparator);
-            this.format(field.get(obj), sb);
-            for (int i = 1; i < fields.length; i++) {
-                field = fields[i];
-                sb.append(this.objectFieldSeparator).append(field.getName()).append(this.objectFieldValueSeparator);
-                this.format(field.get(obj), sb);
-            }
-        } catch (IllegalAccessException e) {
-            ThrowHelper.throwRuntimeException(e);
+        FieldAccessor accessor = accessors[0];
+        sb.append(accessor.getName()).append(this.objectFieldValueSeparator);
+        this.format(accessor.get(obj), sb);
+        for (int i = 1; i < accessors.length; i++) {
+            accessor = accessors[i];
+            sb.append(this.objectFieldSeparator).append(accessor.getName()).append(this.objectFieldValueSeparator);
+            this.format(accessor.get(obj), sb);
         }
         sb.append(this.objectSuffix);
     }
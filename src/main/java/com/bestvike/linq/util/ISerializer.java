@@ -0,0 +1,16 @@
+package com.bestvike.linq.util;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * Writes and reads the elements spilled to disk.
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public interface ISerializer<T> {
+    void write(T value, ObjectOutput output) throws IOException;
+
+    T read(ObjectInput input) throws IOException;
+}
@@ -0,0 +1,26 @@
+package com.bestvike.linq.util;
+
+/**
+ * The side of an inner join to build the hash lookup on.
+ * <p>
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public enum JoinBuildSide {
+    /**
+     * Hash the inner sequence, results in outer order.
+     */
+    Inner,
+    /**
+     * Hash the smaller sequence by cheap count, results in inner order when the outer sequence is hashed.
+     */
+    Smaller,
+    /**
+     * Hash the smaller sequence by cheap count, results in outer order.
+     * <p>
+     * When the outer sequence is hashed, the inner elements matching an outer key are held until the inner sequence is
+     * read through, since the first outer element may match the last inner one. So when most of the inner sequence
+     * matches, nearly all of it is held in memory, the price of the outer order. Use {@link #Smaller} if the order does
+     * not matter.
+     */
+    SmallerOrdered
+}
@@ -15,6 +15,7 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public final class Reflection {
     private static final Map<Class<?>, Field[]> CLASS_FIELDS_MAP = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, FieldAccessor[]> CLASS_ACCESSORS_MAP = new ConcurrentHashMap<>();
 
     private Reflection() {
     }
@@ -39,4 +40,18 @@ public final class Reflection {
             return fields.toArray(new Field[0]);
         });
     }
+
+    // get accessors of all instance fields include super class, same order as getFields.
+    public static FieldAccessor[] getAccessors(Class<?> clazz) {
+        if (clazz == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.clazz);
+
+        return CLASS_ACCESSORS_MAP.computeIfAbsent(clazz, cls -> {
+            Field[] fields = getFields(cls);
+            FieldAccessor[] accessors = new FieldAccessor[fields.length];
+            for (int i = 0; i < fields.length; i++)
+                accessors[i] = FieldAccessor.create(fields[i]);
+            return accessors;
+        });
+    }
 }
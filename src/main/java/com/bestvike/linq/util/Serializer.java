@@ -0,0 +1,36 @@
+package com.bestvike.linq.util;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+public final class Serializer<T> implements ISerializer<T> {
+    private static final Serializer<Object> DEFAULT = new Serializer<>();
+
+    private Serializer() {
+    }
+
+    // java serialization, the elements must be Serializable
+    public static <T> ISerializer<T> Default() {
+        //noinspection unchecked
+        return (ISerializer<T>) DEFAULT;
+    }
+
+    @Override
+    public void write(T value, ObjectOutput output) throws IOException {
+        output.writeObject(value);
+    }
+
+    @Override
+    public T read(ObjectInput input) throws IOException {
+        try {
+            //noinspection unchecked
+            return (T) input.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException(e);
+        }
+    }
+}
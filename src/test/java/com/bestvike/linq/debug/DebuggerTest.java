@@ -4,6 +4,8 @@ import com.bestvike.TestCase;
 import com.bestvike.linq.exception.InvalidOperationException;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Created by 许崇雷 on 2019-12-07.
@@ -41,6 +43,34 @@ class DebuggerTest extends TestCase {
 
         Apple apple = new Apple("fuji", "red");
         assertEquals("Style = fuji, Color = \"red\"", Debugger.getDebuggerDisplayText(apple));
+        assertEquals("Style = gala, Color = \"green\"", Debugger.getDebuggerDisplayText(new Apple("gala", "green")));
+
+        Basket basket = new Basket(apple, 3);
+        assertEquals("{Style = fuji, Color = \"red\"} x 3", Debugger.getDebuggerDisplayText(basket));
+        assertEquals("{Style = fuji, Color = \"red\"} x 3", Debugger.getDebuggerDisplayText(basket));
+    }
+
+    @Test
+    void testDebugViewCache() {
+        DebugViewCache cache = new DebugViewCache(2);
+        List<Integer> first = Arrays.asList(1, 2);
+        List<Integer> equal = Arrays.asList(1, 2);
+        List<Integer> second = Arrays.asList(3, 4);
+        IDebugView view = cache.get(first);
+        assertSame(view, cache.get(first));
+        assertNotSame(view, cache.get(equal));
+        assertEquals(2, cache.getStatistics().getSize());
+        assertEquals(1, cache.getStatistics().getHitCount());
+        assertEquals(2, cache.getStatistics().getMissCount());
+
+        cache.get(second);
+        DebugViewCacheStatistics statistics = cache.getStatistics();
+        assertEquals(2, statistics.getSize());
+        assertEquals(1, statistics.getEvictionCount());
+        assertNotSame(view, cache.get(first));
+
+        cache.clear();
+        assertEquals(0, cache.getStatistics().getSize());
     }
 
     @Test
@@ -120,6 +150,22 @@ class DebuggerTest extends TestCase {
         }
     }
 
+    @DebuggerDisplay("{apple} x {count}")
+    private static class Basket {
+        private final Object apple;
+        private final int count;
+
+        private Basket(Apple apple, int count) {
+            this.apple = new Object() {
+                @Override
+                public String toString() {
+                    return Debugger.getDebuggerDisplayText(apple);
+                }
+            };
+            this.count = count;
+        }
+    }
+
     private static class PenDebugView implements IDebugView {
         private final Pen pen;
 
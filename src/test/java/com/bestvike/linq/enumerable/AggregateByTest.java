@@ -0,0 +1,48 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.collections.generic.StringComparer;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.tuple.Tuple;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+class AggregateByTest extends TestCase {
+    @Test
+    void testAggregateBy() {
+        IEnumerable<Integer> source = Linq.range(0, 100);
+        assertEquals(source.groupBy(x -> x % 7, (k, g) -> Tuple.create(k, g.sumLong(x -> (long) x))),
+                source.aggregateBy(x -> x % 7, () -> 0L, (acc, x) -> acc + x));
+        assertEquals(source.groupBy(x -> x % 7, (k, g) -> k + ":" + g.count()),
+                source.aggregateBy(x -> x % 7, () -> 0, (acc, x) -> acc + 1, (k, acc) -> k + ":" + acc));
+
+        // the seed factory is called once per key, so mutable accumulators are not shared
+        assertEquals(Linq.of("a:aA", "b:b"), Linq.of("a", "b", "A").aggregateBy(x -> x, StringBuilder::new, StringBuilder::append, (k, sb) -> k + ":" + sb, StringComparer.OrdinalIgnoreCase));
+        assertEquals(Linq.of(Tuple.create(null, 2), Tuple.create(1, 1)), Linq.of(null, 1, null).aggregateBy(x -> x, () -> 0, (acc, x) -> acc + 1));
+        assertEmpty(Linq.<Integer>empty().aggregateBy(x -> x, () -> 0, (acc, x) -> acc + 1));
+    }
+
+    @Test
+    void testCountBy() {
+        IEnumerable<String> source = Linq.of("a", "b", "A", "c", "b", "b");
+        assertEquals(Linq.of(Tuple.create("a", 1), Tuple.create("b", 3), Tuple.create("A", 1), Tuple.create("c", 1)), source.countBy(x -> x));
+        assertEquals(Linq.of(Tuple.create("a", 2), Tuple.create("b", 3), Tuple.create("c", 1)), source.countBy(x -> x, StringComparer.OrdinalIgnoreCase));
+        assertEquals(Linq.range(0, 100).groupBy(x -> x % 13, (k, g) -> Tuple.create(k, g.count())), Linq.range(0, 100).countBy(x -> x % 13));
+        assertEmpty(Linq.<Integer>empty().countBy(x -> x));
+    }
+
+    @Test
+    void testArgumentNull() {
+        IEnumerable<Integer> source = Linq.of(1, 2, 3);
+        assertThrows(ArgumentNullException.class, () -> AggregateBy.aggregateBy((IEnumerable<Integer>) null, x -> x, () -> 0, (Integer acc, Integer x) -> acc + x));
+        assertThrows(ArgumentNullException.class, () -> AggregateBy.aggregateBy(source, null, () -> 0, (acc, x) -> acc + x));
+        assertThrows(ArgumentNullException.class, () -> AggregateBy.aggregateBy(source, x -> x, null, (Integer acc, Integer x) -> acc + x));
+        assertThrows(ArgumentNullException.class, () -> AggregateBy.aggregateBy(source, x -> x, () -> 0, null));
+        assertThrows(ArgumentNullException.class, () -> AggregateBy.countBy(null, x -> x));
+        assertThrows(ArgumentNullException.class, () -> AggregateBy.countBy(source, null));
+    }
+}
@@ -0,0 +1,142 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.function.Func0;
+import com.bestvike.function.Func2;
+import com.bestvike.function.Predicate1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IParallelEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.ArgumentOutOfRangeException;
+import com.bestvike.linq.exception.InvalidOperationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+class AsParallelTest extends TestCase {
+    @Test
+    void testOrdered() {
+        IEnumerable<Integer> expected = Linq.range(0, 10_000).where(x -> x % 3 == 0).select(x -> x * 2);
+        for (int degree = 1; degree <= 4; degree++) {
+            assertEquals(expected, Linq.range(0, 10_000).asParallel().withDegreeOfParallelism(degree).asOrdered().where(x -> x % 3 == 0).select(x -> x * 2));
+            assertEquals(expected, Linq.range(0, 10_000).select(x -> x).asParallel().withDegreeOfParallelism(degree).asOrdered().where(x -> x % 3 == 0).select(x -> x * 2).asSequential());
+            assertEquals(expected, Linq.of(Linq.range(0, 10_000).toList()).asParallel().withDegreeOfParallelism(degree).asOrdered().where(x -> x % 3 == 0).select(x -> x * 2));
+            assertEquals(expected, Linq.of(Linq.range(0, 10_000).toArray(Integer.class)).asParallel().withDegreeOfParallelism(degree).asOrdered().where(x -> x % 3 == 0).select(x -> x * 2));
+        }
+        assertEquals(Linq.range(0, 100).selectMany(x -> Linq.repeat(x, 3)), Linq.range(0, 100).asParallel().asOrdered().selectMany(x -> Linq.repeat(x, 3)));
+        assertEquals(Linq.range(0, 100).toList(), Linq.range(0, 100).asParallel().asOrdered().toList());
+    }
+
+    @Test
+    void testUnordered() {
+        IEnumerable<Integer> expected = Linq.range(0, 10_000).where(x -> x % 3 == 0).select(x -> x * 2);
+        for (int degree = 1; degree <= 4; degree++) {
+            IParallelEnumerable<Integer> query = Linq.range(0, 10_000).select(x -> x).asParallel().withDegreeOfParallelism(degree).where(x -> x % 3 == 0).select(x -> x * 2);
+            assertEquals(expected, query.orderBy(x -> x));
+            assertEquals(expected.count(), query.count());
+            assertEquals(expected, Linq.of(query.toArray(Integer.class)).orderBy(x -> x));
+        }
+    }
+
+    @Test
+    void testAggregate() {
+        IEnumerable<Integer> source = Linq.range(1, 10_000).select(x -> x);
+        assertEquals(source.sumLong(x -> (long) x), source.asParallel().aggregate(() -> 0L, (acc, x) -> acc + x, Long::sum));
+        assertEquals(0L, Linq.<Integer>empty().asParallel().aggregate(() -> 0L, (acc, x) -> acc + x, Long::sum));
+        assertEquals(source.toList(), source.asParallel().asOrdered().aggregate(Linq::<Integer>empty, IEnumerable::append, IEnumerable::concat).toList());
+        // a mutable seed of each chunk is not shared with the other chunks
+        assertEquals(source.toList(), source.asParallel().withDegreeOfParallelism(4).asOrdered().aggregate(ArrayList<Integer>::new, (list, x) -> {
+            list.add(x);
+            return list;
+        }, (x, y) -> {
+            x.addAll(y);
+            return x;
+        }));
+        assertEquals(5000, source.asParallel().count(x -> x % 2 == 0));
+        assertEquals(10_000, source.asParallel().count());
+
+        assertEquals(50_005_000, Linq.range(1, 10_000).asParallel().sumInt());
+        assertEquals(50_005_000L, Linq.range(1, 10_000).asParallel().select(x -> (long) x).sumLong());
+        assertEquals(50_005_000d, Linq.range(1, 10_000).asParallel().select(x -> (double) x).sumDouble());
+        assertThrows(ArithmeticException.class, () -> Linq.repeat(Integer.MAX_VALUE, 2).asParallel().sumInt());
+        assertEquals(0, Linq.<Integer>empty().asParallel().sumInt());
+
+        assertEquals(-5000, Linq.range(-5000, 10_000).asParallel().minInt());
+        assertEquals(4999, Linq.range(-5000, 10_000).asParallel().maxInt());
+        assertEquals(-5000L, Linq.range(-5000, 10_000).asParallel().select(x -> (long) x).minLong());
+        assertEquals(4999L, Linq.range(-5000, 10_000).asParallel().select(x -> (long) x).maxLong());
+        assertEquals(Double.NaN, Linq.range(0, 10_000).asParallel().select(x -> x == 7777 ? Double.NaN : x).minDouble());
+        assertEquals(9999d, Linq.range(0, 10_000).asParallel().select(x -> x == 7777 ? Double.NaN : x).maxDouble());
+        assertEquals(Double.NaN, Linq.repeat(Double.NaN, 100).asParallel().maxDouble());
+        assertThrows(InvalidOperationException.class, () -> Linq.<Integer>empty().asParallel().minInt());
+        assertThrows(InvalidOperationException.class, () -> Linq.range(0, 100).asParallel().where(x -> x < 0).maxInt());
+    }
+
+    @Test
+    void testDegreeOfParallelism() {
+        for (int degree : new int[]{1, 2, 8}) {
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            Set<Thread> threads = ConcurrentHashMap.newKeySet();
+            List<Integer> result = Linq.range(0, 64).asParallel().withDegreeOfParallelism(degree).asOrdered().select(x -> {
+                threads.add(Thread.currentThread());
+                int current = running.incrementAndGet();
+                maxRunning.accumulateAndGet(current, Math::max);
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                return x;
+            }).toList();
+            assertEquals(Linq.range(0, 64), Linq.of(result));
+            assertTrue(maxRunning.get() <= degree);
+            assertTrue(threads.size() <= degree);
+        }
+    }
+
+    @Test
+    void testLargeUnindexedSource() {
+        int count = 200_000;
+        IEnumerable<Integer> source = Linq.range(0, count).where(x -> true);
+        assertEquals(count, source.asParallel().count(x -> true));
+        assertEquals(count, source.asParallel().toList().size());
+        assertEquals(Linq.range(0, count), source.asParallel().withDegreeOfParallelism(8).asOrdered().select(x -> x));
+    }
+
+    @Test
+    void testOrderedSourceSortsOnce() {
+        AtomicInteger keys = new AtomicInteger();
+        IEnumerable<Integer> ordered = Linq.range(0, 10_000).orderByDescending(x -> {
+            keys.incrementAndGet();
+            return x;
+        });
+        assertEquals(Linq.range(0, 10_000).reverse(), ordered.asParallel().withDegreeOfParallelism(4).asOrdered().select(x -> x));
+        assertEquals(10_000, keys.get());
+    }
+
+    @Test
+    void testException() {
+        IEnumerable<Integer> source = Linq.range(0, 10_000).select(x -> x);
+        assertThrows(IllegalStateException.class, () -> source.asParallel().withDegreeOfParallelism(4).select(x -> {
+            if (x == 5000)
+                throw new IllegalStateException();
+            return x;
+        }).toList());
+
+        assertThrows(ArgumentNullException.class, () -> AsParallel.asParallel(null));
+        assertThrows(ArgumentNullException.class, () -> Linq.range(0, 1).asParallel().where((Predicate1<Integer>) null));
+        assertThrows(ArgumentNullException.class, () -> Linq.range(0, 1).asParallel().aggregate(() -> 0, (x, y) -> x + y, (Func2<Integer, Integer, Integer>) null));
+        assertThrows(ArgumentNullException.class, () -> Linq.range(0, 1).asParallel().aggregate((Func0<Integer>) null, (x, y) -> x + y, Integer::sum));
+        assertThrows(ArgumentOutOfRangeException.class, () -> Linq.range(0, 1).asParallel().withDegreeOfParallelism(0));
+    }
+}
@@ -0,0 +1,63 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.IDoubleEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.InvalidOperationException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+class DoubleEnumerableTest extends TestCase {
+    @Test
+    void testOperators() {
+        double[] array = {5.5, -10, 15, 40, 28, 15, 0.0, -0.0};
+        IDoubleEnumerable source = Linq.of(array).asDoubleEnumerable();
+        assertEquals(Linq.of(array), source.boxed());
+        assertEquals(Linq.of(array), Linq.of(array).select(x -> x).asDoubleEnumerable().boxed());
+        assertEquals(Linq.of(-10d, 40d, 28d, 0.0, -0.0), source.where(x -> x % 2 == 0).boxed());
+        assertEquals(Linq.of(11d, -20d, 30d, 80d, 56d, 30d, 0d, -0d), source.select(x -> x * 2).boxed());
+        assertEquals(Linq.of("5.5", "-10.0"), source.selectToObj(String::valueOf).take(2));
+        assertEquals(Linq.of(array).distinct(), source.distinct().boxed());
+        assertEquals(Linq.of(array).orderBy(x -> x), source.orderBy().boxed());
+        assertEquals(Linq.of(array).orderByDescending(x -> x), source.orderByDescending().boxed());
+        assertEquals(Linq.of(array), Linq.of(source.where(x -> true).toArray()));
+        assertEquals(93.5, source.sum());
+        assertEquals(-10d, source.min());
+        assertEquals(40d, source.max());
+        assertEquals(93.5 / 8, source.average());
+        assertEquals(93.5, source.where(x -> true).sum());
+        assertEquals(-10d, source.where(x -> true).min());
+        assertEquals(40d, source.where(x -> true).max());
+        assertEquals(93.5 / 8, source.where(x -> true).average());
+    }
+
+    @Test
+    void testNaN() {
+        double[] array = {Double.NaN, 5, Double.NaN, -3};
+        IDoubleEnumerable source = Linq.of(array).asDoubleEnumerable();
+        assertEquals(Linq.of(array).minDouble(), source.min());
+        assertEquals(Linq.of(array).maxDouble(), source.max());
+        assertEquals(Linq.of(array).minDouble(), source.where(x -> true).min());
+        assertEquals(Linq.of(array).maxDouble(), source.where(x -> true).max());
+        assertEquals(Linq.of(array).distinct(), source.distinct().boxed());
+        assertEquals(Linq.of(array).orderBy(x -> x), source.orderBy().boxed());
+        assertEquals(Double.NaN, Linq.of(new double[]{Double.NaN}).asDoubleEnumerable().max());
+        assertEquals(1d, Linq.of(new double[]{Double.NaN, 1}).asDoubleEnumerable().where(x -> true).max());
+        assertEquals(Double.NaN, Linq.of(new double[]{1, Double.NaN}).asDoubleEnumerable().min());
+        assertEquals(Double.NaN, Linq.of(new double[]{1, Double.NaN}).asDoubleEnumerable().where(x -> true).min());
+    }
+
+    @Test
+    void testEmpty() {
+        IDoubleEnumerable empty = Linq.of(new double[0]).asDoubleEnumerable();
+        assertEquals(0d, empty.sum());
+        assertThrows(InvalidOperationException.class, () -> empty.min());
+        assertThrows(InvalidOperationException.class, () -> empty.max());
+        assertThrows(InvalidOperationException.class, () -> empty.average());
+        assertThrows(InvalidOperationException.class, () -> empty.orderBy().average());
+        assertThrows(ArgumentNullException.class, () -> empty.select(null));
+    }
+}
@@ -0,0 +1,78 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.InvalidOperationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+class ForEachTest extends TestCase {
+    @Test
+    void testForEach() {
+        List<Integer> list = new ArrayList<>();
+        Linq.range(0, 10).where(x -> x % 2 == 0).select(x -> x * 10).forEach(list::add);
+        assertEquals(Linq.of(0, 20, 40, 60, 80), Linq.of(list));
+
+        list.clear();
+        Linq.repeat(7, 3).forEach(list::add);
+        assertEquals(Linq.of(7, 7, 7), Linq.of(list));
+
+        List<String> strings = new ArrayList<>();
+        Linq.of("a", null, "b").where(x -> true).forEach(strings::add);
+        assertEquals(Linq.of("a", null, "b"), Linq.of(strings));
+    }
+
+    @Test
+    void testTerminals() {
+        IEnumerable<Integer> query = Linq.range(1, 100).where(x -> x % 3 == 0).skip(2).take(10);
+        assertEquals(10, query.count());
+        assertEquals(10L, query.longCount());
+        assertEquals(5, query.count(x -> x % 2 == 0));
+        assertEquals(225, query.sumInt());
+        assertEquals(450L, query.sumLong(x -> (long) x * 2));
+        assertEquals(9, (int) query.aggregate(Math::min));
+        assertEquals(225, (int) query.aggregate(0, (a, b) -> a + b));
+        assertEquals("225", query.aggregate(0, (a, b) -> a + b, String::valueOf));
+        assertTrue(query.any(x -> x == 12));
+        assertFalse(query.any(x -> x == 3));
+        assertTrue(query.all(x -> x % 3 == 0));
+        assertFalse(query.all(x -> x < 30));
+        assertEquals(Linq.of(9, 12, 15, 18, 21, 24, 27, 30, 33, 36), Linq.of(query.toList()));
+    }
+
+    @Test
+    void testShortCircuit() {
+        List<Integer> read = new ArrayList<>();
+        IEnumerable<Integer> source = Linq.range(0, 100).select(x -> {
+            read.add(x);
+            return x;
+        });
+        assertTrue(source.where(x -> x > 0).any(x -> x % 5 == 0));
+        assertEquals(Linq.of(0, 1, 2, 3, 4, 5), Linq.of(read));
+
+        read.clear();
+        assertEquals(6, source.where(x -> x % 2 == 0).take(3).sumInt());
+        assertEquals(Linq.of(0, 1, 2, 3, 4), Linq.of(read));
+    }
+
+    @Test
+    void testEmpty() {
+        assertThrows(InvalidOperationException.class, () -> Linq.range(0, 10).where(x -> x > 10).aggregate((a, b) -> a + b));
+        assertEquals(0, Linq.range(0, 10).where(x -> x > 10).sumInt());
+        assertTrue(Linq.<Integer>empty().all(x -> false));
+    }
+
+    @Test
+    void testArgumentNull() {
+        assertThrows(ArgumentNullException.class, () -> ForEach.forEach((IEnumerable<Integer>) null, x -> {
+        }));
+        assertThrows(ArgumentNullException.class, () -> Linq.of(1, 2).forEach(null));
+    }
+}
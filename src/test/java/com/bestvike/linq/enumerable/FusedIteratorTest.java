@@ -0,0 +1,78 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.Linq;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+class FusedIteratorTest extends TestCase {
+    @Test
+    void testFuse() {
+        Integer[] array = Linq.range(0, 100).toArray(Integer.class);
+        List<Integer> list = Linq.of(array).toList();
+        IEnumerable<Integer> enumerable = Linq.range(0, 100).select(x -> x);
+        for (IEnumerable<Integer> source : Linq.of(Linq.of(array), Linq.of(list), enumerable)) {
+            IEnumerable<String> query = source.select(x -> x * 3).where(x -> x % 2 == 0).skip(2).take(10).select(String::valueOf);
+            assertIsAssignableFrom(FusedIterator.class, query);
+            assertEquals(Linq.of("12", "18", "24", "30", "36", "42", "48", "54", "60", "66"), query);
+
+            query = source.where(x -> x > 10).skipWhile(x -> x < 50).takeWhile(x -> x < 55).select(String::valueOf);
+            assertIsAssignableFrom(FusedIterator.class, query);
+            assertEquals(Linq.of("50", "51", "52", "53", "54"), query);
+
+            IEnumerable<Number> numbers = source.where(x -> x < 3).cast(Number.class);
+            assertIsAssignableFrom(FusedIterator.class, numbers);
+            assertEquals(Linq.of(0, 1, 2), numbers);
+        }
+
+        IEnumerable<Object> objects = Linq.<Object>of(1, "a", 2, "b", 3).where(x -> !"b".equals(x));
+        assertEquals(Linq.of("a"), objects.ofType(String.class));
+        assertEquals(Linq.of(1, 2), objects.ofType(Integer.class).take(2));
+    }
+
+    @Test
+    void testTakeStopsReading() {
+        List<Integer> read = new ArrayList<>();
+        IEnumerable<Integer> source = Linq.range(0, 100).select(x -> {
+            read.add(x);
+            return x;
+        });
+        assertEquals(Linq.of(0, 2, 4), source.where(x -> x % 2 == 0).take(3));
+        assertEquals(Linq.of(0, 1, 2, 3, 4), Linq.of(read));
+    }
+
+    @Test
+    void testListProvider() {
+        IEnumerable<Integer> query = Linq.range(0, 100).select(x -> x).where(x -> x % 2 == 0).take(3);
+        assertIsAssignableFrom(IIListProvider.class, query);
+        assertEquals(-1, ((IIListProvider<Integer>) query)._getCount(true));
+        assertEquals(3, ((IIListProvider<Integer>) query)._getCount(false));
+        assertEquals(Linq.of(0, 2, 4), Linq.of(query.toArray(Integer.class)));
+        assertEquals(Linq.of(0, 2, 4), Linq.of(query.toList()));
+
+        // no stage drops elements by a condition, so the count comes from the source
+        IEnumerable<String> sized = Linq.of(new LinkedHashSet<>(Arrays.asList(1, 2, 3, 4, 5))).select(String::valueOf).skip(1).take(3);
+        assertIsAssignableFrom(FusedIterator.class, sized);
+        assertEquals(3, ((IIListProvider<String>) sized)._getCount(true));
+        assertEquals(Linq.of("2", "3", "4"), Linq.of(sized.toArray(String.class)));
+        assertEquals(Linq.of("2", "3", "4"), Linq.of(sized.toArray()));
+        assertEquals(Linq.of("2", "3", "4"), Linq.of(sized.toList()));
+        assertEmpty(Linq.of(new LinkedHashSet<>(Arrays.asList(1, 2))).select(x -> x).skip(5));
+    }
+
+    @Test
+    void testRepeatable() {
+        IEnumerable<Integer> query = Linq.of(1, 2, 3, 4, 5).where(x -> x != 3).skipWhile(x -> x < 2).skip(1).take(1);
+        assertEquals(Linq.of(4), query);
+        assertEquals(Linq.of(4), query);
+        assertEquals(1, query.count());
+    }
+}
@@ -0,0 +1,56 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.collections.generic.IArray;
+import com.bestvike.collections.generic.StringComparer;
+import com.bestvike.function.Func1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.IGrouping;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+class GroupAdjacentTest extends TestCase {
+    @Test
+    void testGroupAdjacent() {
+        IEnumerable<Integer> source = Linq.of(1, 1, 2, null, null, 1, 3, 3, 3);
+        IEnumerable<IGrouping<Integer, Integer>> groups = source.groupAdjacent(x -> x);
+        assertEquals(Linq.of(1, 2, null, 1, 3), groups.select(IGrouping::getKey));
+        assertEquals(Linq.of(2, 1, 2, 1, 3), groups.select(g -> g.count()));
+        assertEquals(Linq.of(3, 3, 3), groups.last());
+        assertEquals(3, ((Object[]) ((IArray<Integer>) groups.last()).getArray()).length);
+        assertEmpty(Linq.<Integer>empty().groupAdjacent(x -> x));
+
+        assertEquals(Linq.of("1:a,b", "2:c", "1:d"), Linq.of("a", "b", "c", "d").groupAdjacent(x -> x.equals("c") ? 2 : 1, x -> x.toUpperCase())
+                .select(g -> g.getKey() + ":" + g.select(x -> x.toLowerCase()).joining(",")));
+        assertEquals(Linq.of("a", "B"), Linq.of("a", "A", "B", "b").groupAdjacent(x -> x, StringComparer.OrdinalIgnoreCase).select(IGrouping::getKey));
+        assertEquals(Linq.of(2, 2), Linq.of("a", "A", "B", "b").groupAdjacent(x -> x, x -> x, StringComparer.OrdinalIgnoreCase).select(g -> g.count()));
+    }
+
+    @Test
+    void testStreaming() {
+        // a group is returned as soon as the key changes
+        IEnumerable<Integer> source = Linq.of(1, 1, 2, 0).select(x -> {
+            if (x == 0)
+                throw new IllegalStateException();
+            return x;
+        });
+        try (IEnumerator<IGrouping<Integer, Integer>> e = source.groupAdjacent(x -> x).enumerator()) {
+            assertTrue(e.moveNext());
+            assertEquals(Linq.of(1, 1), e.current());
+            assertThrows(IllegalStateException.class, e::moveNext);
+        }
+    }
+
+    @Test
+    void testArgumentNull() {
+        IEnumerable<Integer> source = Linq.of(1, 2, 3);
+        assertThrows(ArgumentNullException.class, () -> GroupAdjacent.groupAdjacent(null, x -> x));
+        assertThrows(ArgumentNullException.class, () -> GroupAdjacent.groupAdjacent(source, null));
+        assertThrows(ArgumentNullException.class, () -> GroupAdjacent.groupAdjacent(source, x -> x, (Func1<Integer, Integer>) null));
+    }
+}
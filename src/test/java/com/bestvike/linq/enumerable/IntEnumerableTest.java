@@ -0,0 +1,102 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IIntEnumerable;
+import com.bestvike.linq.IIntEnumerator;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.InvalidOperationException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+class IntEnumerableTest extends TestCase {
+    @Test
+    void testBridge() {
+        int[] array = {5, -10, 15, 40, 28, 15};
+        assertEquals(Linq.of(array), Linq.of(array).asIntEnumerable().boxed());
+        assertEquals(Linq.of(array), Linq.of(array).select(x -> x).asIntEnumerable().boxed());
+        assertEquals(Linq.of(array), IntEnumerable.of(array).boxed());
+        assertEquals(Linq.range(3, 5), Linq.range(3, 5).asIntEnumerable().boxed());
+        assertEquals(0, Linq.<Integer>empty().asIntEnumerable().count());
+        assertEquals(0, Linq.range(3, 0).asIntEnumerable().count());
+        assertEquals(Linq.range(0, 10), Linq.range(0, 10).asIntEnumerable().boxed());
+
+        IIntEnumerable source = Linq.of(array).asIntEnumerable();
+        try (IIntEnumerator e = source.enumerator()) {
+            for (int item : array) {
+                assertTrue(e.moveNext());
+                assertEquals(item, e.currentInt());
+            }
+            assertFalse(e.moveNext());
+            assertFalse(e.moveNext());
+        }
+        assertEquals(6, source.count());
+    }
+
+    @Test
+    void testOperators() {
+        IIntEnumerable source = Linq.of(new int[]{5, -10, 15, 40, 28, 15, 0, 0}).asIntEnumerable();
+        assertEquals(Linq.of(-10, 40, 28, 0, 0), source.where(x -> x % 2 == 0).boxed());
+        assertEquals(Linq.of(10, -20, 30, 80, 56, 30, 0, 0), source.select(x -> x * 2).boxed());
+        assertEquals(Linq.of("5", "-10", "15", "40", "28", "15", "0", "0"), source.selectToObj(String::valueOf));
+        assertEquals(Linq.of(5, -10, 15, 40, 28, 0), source.distinct().boxed());
+        assertEquals(Linq.of(-10, 0, 0, 5, 15, 15, 28, 40), source.orderBy().boxed());
+        assertEquals(Linq.of(40, 28, 15, 15, 5, 0, 0, -10), source.orderByDescending().boxed());
+        assertEquals(Linq.of(-10, 40, 28, 0, 0), Linq.of(source.where(x -> x % 2 == 0).toArray()));
+        assertEquals(93, source.sum());
+        assertEquals(-10, source.min());
+        assertEquals(40, source.max());
+        assertEquals(11.625, source.average());
+        assertEquals(93, source.where(x -> true).sum());
+        assertEquals(-10, source.where(x -> true).min());
+        assertEquals(40, source.where(x -> true).max());
+        assertEquals(11.625, source.where(x -> true).average());
+        assertEquals(8, source.where(x -> true).count());
+
+        IIntEnumerable range = Linq.range(0, 10_000).asIntEnumerable();
+        assertEquals(Linq.range(0, 10_000).distinct(), range.select(x -> x % 1000).distinct().orderBy().boxed().concat(Linq.range(1000, 9000)));
+        assertEquals(1000, range.select(x -> x * 31 % 1000).distinct().count());
+
+        IEnumerable<Integer> boxed = range.where(x -> x < 3).boxed();
+        assertEquals(Linq.of(0, 1, 2), boxed);
+        assertEquals(Linq.of(0, 1, 2), boxed);
+    }
+
+    @Test
+    void testOverflow() {
+        assertThrows(ArithmeticException.class, () -> IntEnumerable.of(new int[]{Integer.MAX_VALUE, 1}).sum());
+        assertThrows(ArithmeticException.class, () -> IntEnumerable.of(new int[]{Integer.MAX_VALUE, 1}).where(x -> true).sum());
+        // an intermediate overflow throws on the indexed and the enumerated path alike, even if a later element cancels it
+        assertThrows(ArithmeticException.class, () -> IntEnumerable.of(new int[]{Integer.MAX_VALUE, 1, -1}).sum());
+        assertThrows(ArithmeticException.class, () -> IntEnumerable.of(new int[]{Integer.MAX_VALUE, 1, -1}).where(x -> true).sum());
+        assertThrows(ArithmeticException.class, () -> Linq.of(Integer.MAX_VALUE, 1, -1).sumInt());
+        assertEquals(Integer.MAX_VALUE, IntEnumerable.of(new int[]{Integer.MAX_VALUE, Integer.MAX_VALUE}).average());
+        assertEquals(Integer.MAX_VALUE, IntEnumerable.of(new int[]{Integer.MAX_VALUE, Integer.MAX_VALUE}).where(x -> true).average());
+    }
+
+    @Test
+    void testEmpty() {
+        IIntEnumerable source = IntEnumerable.of(new int[0]);
+        assertEquals(0, source.sum());
+        assertEquals(0, source.toArray().length);
+        assertThrows(InvalidOperationException.class, () -> source.min());
+        assertThrows(InvalidOperationException.class, () -> source.max());
+        assertThrows(InvalidOperationException.class, () -> source.average());
+        assertThrows(InvalidOperationException.class, () -> source.where(x -> true).min());
+        assertThrows(InvalidOperationException.class, () -> source.where(x -> true).max());
+        assertThrows(InvalidOperationException.class, () -> source.where(x -> true).average());
+    }
+
+    @Test
+    void testNull() {
+        assertThrows(ArgumentNullException.class, () -> IntEnumerable.of(null));
+        assertThrows(ArgumentNullException.class, () -> IntEnumerable.asIntEnumerable(null));
+        assertThrows(ArgumentNullException.class, () -> IntEnumerable.of(new int[0]).where(null));
+        assertThrows(ArgumentNullException.class, () -> IntEnumerable.of(new int[0]).select(null));
+        assertThrows(ArgumentNullException.class, () -> IntEnumerable.of(new int[0]).selectToObj(null));
+        assertThrows(NullPointerException.class, () -> Linq.of(1, null).asIntEnumerable().sum());
+    }
+}
@@ -11,11 +11,14 @@ import com.bestvike.linq.Linq;
 import com.bestvike.linq.entity.Department;
 import com.bestvike.linq.entity.Employee;
 import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.util.JoinBuildSide;
 import com.bestvike.tuple.Tuple;
 import com.bestvike.tuple.Tuple2;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Created by 许崇雷 on 2018-05-10.
@@ -813,6 +816,48 @@ class JoinTest extends TestCase {
         assertEquals("[Fred works in Sales, Bill works in Sales, Eric works in Sales, Janet works in Sales, Cedric works in Sales, Fred works in HR, Bill works in HR, Eric works in HR, Janet works in HR, Cedric works in HR, Fred works in Marketing, Bill works in Marketing, Eric works in Marketing, Janet works in Marketing, Cedric works in Marketing, defaultEmp works in Manager, Gates works in defaultDept]", ss);
     }
 
+    @Test
+    void testJoinBuildSide() {
+        IEnumerable<Integer> small = Linq.of(3, null, 1, 3, 7);
+        IEnumerable<Integer> large = Linq.of(Linq.range(0, 100).select(x -> x % 10).append(null).toList());
+        IEnumerable<String> expected = small.join(large, x -> x, y -> y, (x, y) -> x + ":" + y);
+        assertEquals(expected, small.join(large, x -> x, y -> y, (x, y) -> x + ":" + y, null, JoinBuildSide.Inner));
+        assertEquals(expected, small.join(large, x -> x, y -> y, (x, y) -> x + ":" + y, null, JoinBuildSide.SmallerOrdered));
+        assertEquals(expected.orderBy(x -> x), small.join(large, x -> x, y -> y, (x, y) -> x + ":" + y, null, JoinBuildSide.Smaller).orderBy(x -> x));
+        assertEquals(large.join(small, x -> x, y -> y, (x, y) -> x + ":" + y), large.join(small, x -> x, y -> y, (x, y) -> x + ":" + y, null, JoinBuildSide.Smaller));
+
+        IEnumerable<Integer> unknownCount = large.where(x -> true);
+        assertEquals(small.join(unknownCount, x -> x, y -> y, (x, y) -> x + ":" + y), small.join(unknownCount, x -> x, y -> y, (x, y) -> x + ":" + y, null, JoinBuildSide.Smaller));
+        assertEmpty(Linq.<Integer>empty().join(large, x -> x, y -> y, (x, y) -> x + ":" + y, null, JoinBuildSide.Smaller));
+        assertEmpty(Linq.<Integer>empty().join(large, x -> x, y -> y, (x, y) -> x + ":" + y, null, JoinBuildSide.SmallerOrdered));
+
+        IEnumerable<String> ordered = small.join(large, x -> x, y -> y, (x, y) -> x + ":" + y, null, JoinBuildSide.SmallerOrdered);
+        assertEquals(expected, ordered);
+        try (IEnumerator<String> e = ordered.enumerator()) {
+            assertTrue(e.moveNext());
+            assertEquals("3:3", e.current());
+        }
+        assertThrows(ArgumentNullException.class, () -> small.join(large, x -> x, y -> y, (x, y) -> x + ":" + y, null, null));
+    }
+
+    @Test
+    void testJoinBuildSideSmallerOrderedBuffersMatches() {
+        // outer order needs the whole inner sequence read before the first result, the matched inner elements are kept till then
+        List<Integer> read = new ArrayList<>();
+        IEnumerable<Integer> small = Linq.of(7, 2, 7);
+        IEnumerable<Integer> large = Linq.of(Linq.range(0, 10).toList());
+        IEnumerable<String> ordered = small.join(large, x -> x, y -> {
+            read.add(y);
+            return y % 5 + 5;
+        }, (x, y) -> x + ":" + y, null, JoinBuildSide.SmallerOrdered);
+        try (IEnumerator<String> e = ordered.enumerator()) {
+            assertTrue(e.moveNext());
+            assertEquals("7:2", e.current());
+            assertEquals(Linq.range(0, 10), Linq.of(read));
+        }
+        assertEquals(Linq.of("7:2", "7:7", "7:2", "7:7"), ordered);
+    }
+
     @Test
     void testCrossJoin() {
         //交叉关联,不理会 key 是否为 null
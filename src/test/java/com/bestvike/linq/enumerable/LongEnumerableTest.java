@@ -0,0 +1,54 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.ILongEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.InvalidOperationException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+class LongEnumerableTest extends TestCase {
+    @Test
+    void testOperators() {
+        long[] array = {5L, -10L, 15L, 40L, 28L, 15L, 0L, 0L, Long.MIN_VALUE};
+        ILongEnumerable source = Linq.of(array).asLongEnumerable();
+        assertEquals(Linq.of(array), source.boxed());
+        assertEquals(Linq.of(array), Linq.of(array).select(x -> x).asLongEnumerable().boxed());
+        assertEquals(Linq.of(-10L, 40L, 28L, 0L, 0L, Long.MIN_VALUE), source.where(x -> x % 2 == 0).boxed());
+        assertEquals(Linq.of(6L, -9L, 16L, 41L, 29L, 16L, 1L, 1L, Long.MIN_VALUE + 1), source.select(x -> x + 1).boxed());
+        assertEquals(Linq.of("5", "-10"), source.selectToObj(String::valueOf).take(2));
+        assertEquals(Linq.of(5L, -10L, 15L, 40L, 28L, 0L, Long.MIN_VALUE), source.distinct().boxed());
+        assertEquals(Linq.of(Long.MIN_VALUE, -10L, 0L, 0L, 5L, 15L, 15L, 28L, 40L), source.orderBy().boxed());
+        assertEquals(Linq.of(40L, 28L, 15L, 15L, 5L, 0L, 0L, -10L, Long.MIN_VALUE), source.orderByDescending().boxed());
+        assertEquals(Linq.of(array), Linq.of(source.where(x -> true).toArray()));
+        assertEquals(Long.MIN_VALUE, source.min());
+        assertEquals(40L, source.max());
+        assertEquals(Long.MIN_VALUE, source.where(x -> true).min());
+        assertEquals(40L, source.where(x -> true).max());
+        assertEquals(9, source.count());
+
+        ILongEnumerable positive = source.where(x -> x >= 0);
+        assertEquals(103L, positive.sum());
+        assertEquals(103L / 7.0, positive.average());
+        assertEquals(103L, Linq.of(positive.toArray()).asLongEnumerable().sum());
+        assertEquals(103L / 7.0, Linq.of(positive.toArray()).asLongEnumerable().average());
+    }
+
+    @Test
+    void testOverflowAndEmpty() {
+        assertThrows(ArithmeticException.class, () -> Linq.of(new long[]{Long.MAX_VALUE, 1L}).asLongEnumerable().sum());
+        assertThrows(ArithmeticException.class, () -> Linq.of(new long[]{Long.MAX_VALUE, 1L}).asLongEnumerable().average());
+        assertThrows(ArithmeticException.class, () -> Linq.of(new long[]{Long.MAX_VALUE, 1L}).asLongEnumerable().where(x -> true).average());
+
+        ILongEnumerable empty = Linq.of(new long[0]).asLongEnumerable();
+        assertEquals(0L, empty.sum());
+        assertThrows(InvalidOperationException.class, () -> empty.min());
+        assertThrows(InvalidOperationException.class, () -> empty.max());
+        assertThrows(InvalidOperationException.class, () -> empty.average());
+        assertThrows(InvalidOperationException.class, () -> empty.distinct().average());
+        assertThrows(ArgumentNullException.class, () -> empty.where(null));
+    }
+}
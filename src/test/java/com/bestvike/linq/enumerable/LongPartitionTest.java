@@ -0,0 +1,85 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.ArgumentOutOfRangeException;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+class LongPartitionTest extends TestCase {
+    private static final long BIG = 5_000_000_000L;
+
+    @Test
+    void testLongRange() {
+        assertEquals(Linq.of(3L, 4L, 5L), Linq.range(3L, 3));
+        assertEquals(Linq.of(Long.MAX_VALUE - 1, Long.MAX_VALUE), Linq.range(Long.MAX_VALUE - 1, 2));
+        assertEquals(2, Linq.range(Long.MAX_VALUE - 1, 2).count());
+        assertEquals(Linq.of(BIG, BIG + 1), Linq.range(BIG, 2).where(x -> true));
+        assertEquals(Linq.of(BIG, BIG + 1), Linq.range(BIG, BIG).take(2L));
+        assertEmpty(Linq.range(BIG, 0));
+        assertThrows(ArgumentOutOfRangeException.class, () -> Linq.range(0L, -1));
+        assertThrows(ArgumentOutOfRangeException.class, () -> Linq.range(Long.MAX_VALUE, 2));
+    }
+
+    @Test
+    void testSkipTake() {
+        IEnumerable<Integer> lazy = Linq.range(0, 10).select(x -> x).where(x -> true);
+        IEnumerable<Integer> list = Linq.of(Linq.range(0, 10).toList());
+        for (IEnumerable<Integer> source : Linq.of(lazy, list, Linq.range(0, 10))) {
+            assertEquals(source.skip(3), source.skip(3L));
+            assertEquals(source.take(3), source.take(3L));
+            assertEquals(source, source.skip(-BIG));
+            assertEmpty(source.take(-BIG));
+            assertEmpty(source.skip(BIG));
+            assertEquals(source, source.take(BIG));
+            assertEquals(Linq.of(8, 9), source.skip(8L).take(BIG));
+            assertEquals(10, source.take(BIG).count());
+            assertEquals(45, source.take(BIG).sumInt());
+        }
+
+        IEnumerable<Long> longs = Linq.range(0L, 10).select(x -> x);
+        assertIsAssignableFrom(LongEnumerablePartition.class, longs.take(BIG));
+        assertIsAssignableFrom(LongEnumerablePartition.class, longs.skip(BIG));
+        assertEquals(Linq.range(0L, 10), longs.take(BIG).take(BIG));
+        assertEquals(Linq.of(3L, 4L), longs.take(BIG).skip(3).take(2));
+
+        assertThrows(ArgumentNullException.class, () -> Skip.skip((IEnumerable<Integer>) null, BIG));
+        assertThrows(ArgumentNullException.class, () -> Take.take((IEnumerable<Integer>) null, BIG));
+    }
+
+    @Test
+    void testElementAt() {
+        IEnumerable<Integer> lazy = Linq.range(0, 10).select(x -> x).where(x -> true);
+        assertEquals(4, lazy.elementAt(4L));
+        assertEquals(4, lazy.elementAtOrDefault(4L));
+        assertNull(lazy.elementAtOrDefault(BIG));
+        assertNull(lazy.elementAtOrDefault(-BIG));
+        assertThrows(ArgumentOutOfRangeException.class, () -> lazy.elementAt(BIG));
+        assertThrows(ArgumentOutOfRangeException.class, () -> Linq.range(0, 10).elementAt(BIG));
+        assertThrows(ArgumentOutOfRangeException.class, () -> Linq.of(1, 2).elementAt(-BIG));
+        assertNull(Linq.of(1, 2).elementAtOrDefault(BIG));
+        assertThrows(ArgumentNullException.class, () -> ElementAt.elementAt((IEnumerable<Integer>) null, BIG));
+    }
+
+    @Test
+    void testReverseSegments() {
+        int count = 3_000_000;
+        // a plain iterable has no count, so the buffer is filled in segments
+        IEnumerable<Integer> source = Linq.of(() -> IntStream.range(0, count).iterator());
+        BigBuffer<Integer> buffer = new BigBuffer<>(source);
+        assertEquals(count, buffer.count);
+        assertEquals(0, (int) buffer.get(0));
+        assertEquals(count - 1, (int) buffer.get(count - 1));
+        int[] expected = {count - 1};
+        source.reverse().forEach(x -> assertEquals(expected[0]--, (int) x));
+        assertEquals(-1, expected[0]);
+        assertEquals(Linq.of(2, 1, 0), Linq.range(0, 3).where(x -> true).reverse());
+        assertEmpty(Linq.range(0, 3).where(x -> false).reverse());
+    }
+}
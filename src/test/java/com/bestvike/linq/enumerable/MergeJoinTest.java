@@ -0,0 +1,78 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.InvalidOperationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+class MergeJoinTest extends TestCase {
+    @Test
+    void testMergeJoin() {
+        IEnumerable<Integer> outer = Linq.of(null, null, 1, 2, 2, 4, 5, 5, 7);
+        IEnumerable<Integer> inner = Linq.of(null, 0, 2, 2, 3, 5, 7, 7, 8);
+        assertEquals(outer.join(inner, x -> x, y -> y, (x, y) -> x + ":" + y), outer.mergeJoin(inner, x -> x, y -> y, (x, y) -> x + ":" + y));
+        assertEquals(outer.leftJoin(inner, x -> x, y -> y, (x, y) -> x + ":" + y), outer.mergeLeftJoin(inner, x -> x, y -> y, (x, y) -> x + ":" + y));
+        assertEquals(outer.leftJoin(inner, x -> x, y -> y, -1, (x, y) -> x + ":" + y), outer.mergeLeftJoin(inner, x -> x, y -> y, -1, (x, y) -> x + ":" + y));
+        assertEquals(Linq.of("null:null", "null:null", "null:null", "null:0", "1:null", "2:2", "2:2", "2:2", "2:2", "null:3", "4:null", "5:5", "5:5", "7:7", "7:7", "null:8"),
+                outer.mergeFullJoin(inner, x -> x, y -> y, (x, y) -> x + ":" + y));
+
+        Comparator<Integer> descending = Comparator.reverseOrder();
+        IEnumerable<Integer> outerDesc = Linq.of(9, 6, 6, 3);
+        IEnumerable<Integer> innerDesc = Linq.of(8, 6, 3, 3, 1);
+        assertEquals(Linq.of("6:6", "6:6", "3:3", "3:3"), outerDesc.mergeJoin(innerDesc, x -> x, y -> y, (x, y) -> x + ":" + y, descending));
+        assertEquals(Linq.of("9:0", "6:6", "6:6", "3:3", "3:3"), outerDesc.mergeLeftJoin(innerDesc, x -> x, y -> y, 0, (x, y) -> x + ":" + y, descending));
+        assertEquals(Linq.of("9:0", "0:8", "6:6", "6:6", "3:3", "3:3", "0:1"), outerDesc.mergeFullJoin(innerDesc, x -> x, y -> y, 0, 0, (x, y) -> x + ":" + y, descending));
+
+        assertEmpty(Linq.<Integer>empty().mergeJoin(inner, x -> x, y -> y, (x, y) -> x + ":" + y));
+        assertEmpty(Linq.<Integer>empty().mergeLeftJoin(inner, x -> x, y -> y, (x, y) -> x + ":" + y));
+        assertEquals(inner.select(y -> "null:" + y), Linq.<Integer>empty().mergeFullJoin(inner, x -> x, y -> y, (x, y) -> x + ":" + y));
+    }
+
+    @Test
+    void testMergeJoinRandom() {
+        Random random = new Random(42);
+        for (int i = 0; i < 50; i++) {
+            IEnumerable<Integer> outer = Linq.of(Linq.range(0, random.nextInt(100)).select(x -> random.nextInt(30)).orderBy(x -> x).toList());
+            IEnumerable<Integer> inner = Linq.of(Linq.range(0, random.nextInt(100)).select(x -> random.nextInt(30)).orderBy(x -> x).toList());
+            assertEquals(outer.join(inner, x -> x, y -> y, (x, y) -> x * 100 + y), outer.mergeJoin(inner, x -> x, y -> y, (x, y) -> x * 100 + y));
+            assertEquals(outer.leftJoin(inner, x -> x, y -> y, -1, (x, y) -> x * 100 + y), outer.mergeLeftJoin(inner, x -> x, y -> y, -1, (x, y) -> x * 100 + y));
+            assertEquals(outer.fullJoin(inner, x -> x, y -> y, -1, -1, (x, y) -> x * 100 + y).orderBy(x -> x), outer.mergeFullJoin(inner, x -> x, y -> y, -1, -1, (x, y) -> x * 100 + y).orderBy(x -> x));
+        }
+    }
+
+    @Test
+    void testNotSorted() {
+        IEnumerable<Integer> sorted = Linq.of(1, 2, 3);
+        IEnumerable<Integer> unsorted = Linq.of(1, 3, 2);
+        IEnumerable<String> outerUnsorted = unsorted.mergeJoin(sorted, x -> x, y -> y, (x, y) -> x + ":" + y);
+        try (IEnumerator<String> e = outerUnsorted.enumerator()) {
+            assertTrue(e.moveNext());
+            assertEquals("1:1", e.current());
+            assertTrue(e.moveNext());
+            assertEquals("3:3", e.current());
+            assertThrows(InvalidOperationException.class, e::moveNext);
+        }
+        assertThrows(InvalidOperationException.class, () -> sorted.mergeJoin(unsorted, x -> x, y -> y, (x, y) -> x + ":" + y).toList());
+        assertThrows(InvalidOperationException.class, () -> sorted.mergeLeftJoin(unsorted, x -> x, y -> y, (x, y) -> x + ":" + y).toList());
+        assertThrows(InvalidOperationException.class, () -> unsorted.mergeFullJoin(sorted, x -> x, y -> y, (x, y) -> x + ":" + y).toList());
+    }
+
+    @Test
+    void testArgumentNull() {
+        IEnumerable<Integer> source = Linq.of(1, 2, 3);
+        assertThrows(ArgumentNullException.class, () -> MergeJoin.mergeJoin(null, source, x -> x, y -> y, (x, y) -> x));
+        assertThrows(ArgumentNullException.class, () -> MergeJoin.mergeJoin(source, null, x -> x, y -> y, (x, y) -> x));
+        assertThrows(ArgumentNullException.class, () -> MergeJoin.mergeLeftJoin(source, source, null, y -> y, (x, y) -> x));
+        assertThrows(ArgumentNullException.class, () -> MergeJoin.mergeFullJoin(source, source, x -> x, null, (x, y) -> x));
+        assertThrows(ArgumentNullException.class, () -> MergeJoin.mergeFullJoin(source, source, x -> x, y -> y, null));
+    }
+}
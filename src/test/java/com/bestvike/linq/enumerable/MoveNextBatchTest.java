@@ -0,0 +1,63 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.Linq;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+class MoveNextBatchTest extends TestCase {
+    @Test
+    void testMoveNextBatch() {
+        Integer[] array = Linq.range(0, 10).toArray(Integer.class);
+        this.assertBatches(Linq.of(array));
+        this.assertBatches(Linq.of(array).select(x -> x));
+        this.assertBatches(Linq.of(array).where(x -> true));
+        this.assertBatches(Linq.range(0, 10));
+        this.assertBatches(Linq.range(0, 10).groupBy(x -> 0).first());
+        this.assertBatches(Linq.of(array).select(x -> x).where(x -> true));
+    }
+
+    private void assertBatches(IEnumerable<Integer> source) {
+        Object[] buffer = new Object[12];
+        try (IEnumerator<Integer> e = source.enumerator()) {
+            assertTrue(e.moveNext());
+            assertEquals(0, e.current());
+            assertEquals(4, e.moveNextBatch(buffer, 1, 4));
+            assertEquals(Arrays.asList(null, 1, 2, 3, 4, null), Arrays.asList(buffer).subList(0, 6));
+            assertTrue(e.moveNext());
+            assertEquals(5, e.current());
+            assertEquals(0, e.moveNextBatch(buffer, 0, 0));
+            assertEquals(4, e.moveNextBatch(buffer, 6, 8));
+            assertEquals(Arrays.asList(6, 7, 8, 9), Arrays.asList(buffer).subList(6, 10));
+            assertEquals(0, e.moveNextBatch(buffer, 0, 8));
+            assertFalse(e.moveNext());
+        }
+    }
+
+    @Test
+    void testMaterialize() {
+        IEnumerable<Integer> source = Linq.range(0, 1000).select(x -> x).where(x -> x % 3 != 0);
+        assertEquals(source.toList(), Arrays.asList(source.toArray(Integer.class)));
+        assertEquals(source.toList(), Arrays.asList(source.toArray().toArray(Integer.class)));
+        assertEquals(Linq.of(source.toList()).orderByDescending(x -> x), source.orderByDescending(x -> x));
+
+        Integer[] array = Linq.range(0, 5000).toArray(Integer.class);
+        assertEquals(Linq.of(array).where(x -> x % 2 == 0).toList(), Arrays.asList(Linq.of(array).where(x -> x % 2 == 0).toArray(Integer.class)));
+        assertEquals(Linq.of(array).select(x -> -x).toList(), Arrays.asList(Linq.of(array).select(x -> -x).where(x -> true).toArray(Integer.class)));
+    }
+
+    @Test
+    void testSpliterator() {
+        IEnumerable<Integer> source = Linq.range(0, 5000).where(x -> x % 2 == 0);
+        assertEquals(source.toList(), source.stream(true).collect(Collectors.toList()));
+        assertEquals(source.sumInt(), (int) source.stream(true).mapToInt(x -> x).sum());
+        assertEquals(Linq.range(0, 3000).toList(), Linq.range(0, 3000).select(x -> x).stream(true).collect(Collectors.toList()));
+    }
+}
@@ -207,6 +207,26 @@ class OrderByDescendingTest extends TestCase {
         assertEquals(Linq.of(randomized), Linq.of(ordered));
     }
 
+    @ParameterizedTest
+    @MethodSource("SortsRandomizedEnumerableCorrectly_TestData")
+    void testOrderByDescendingPrimitive(int items) {
+        Random r = new Random(42);
+        Integer[] randomized = Linq.range(0, items).select(i -> r.nextInt(items + 1) - items / 2).toArray(Integer.class);
+        IEnumerable<Integer> source = ForceNotCollection(Linq.of(randomized));
+
+        assertEquals(source.orderByDescending(i -> i), source.orderByDescendingInt(i -> i));
+        assertEquals(source.orderByDescending(i -> i % 7), source.orderByDescendingInt(i -> i % 7));
+        assertEquals(source.orderByDescending(i -> (long) i << 32), source.orderByDescendingLong(i -> (long) i << 32));
+        assertEquals(source.orderByDescending(i -> i % 7L), source.orderByDescendingLong(i -> i % 7L));
+        assertEquals(source.orderByDescending(i -> i / 3.0), source.orderByDescendingDouble(i -> i / 3.0));
+        assertEquals(source.orderByDescending(i -> i % 7 / 2.0), source.orderByDescendingDouble(i -> i % 7 / 2.0));
+        if (items > 0) {
+            assertEquals(source.orderByDescending(i -> i).first(), source.orderByDescendingInt(i -> i).first());
+            assertEquals(source.orderByDescending(i -> i).last(), source.orderByDescendingInt(i -> i).last());
+            assertEquals(source.orderByDescending(i -> i).elementAt(items / 2), source.orderByDescendingLong(i -> i).elementAt(items / 2));
+        }
+    }
+
     @Test
     void testOrderByDesc() {
         //null 在后,值相等的按原始顺序,同 testOrderByWithComparer()
@@ -388,6 +388,25 @@ class OrderByTest extends TestCase {
         assertEquals(Linq.of(randomized), Linq.of(ordered));
     }
 
+    @ParameterizedTest
+    @MethodSource("SortsRandomizedEnumerableCorrectly_TestData")
+    void SortsRandomizedEnumerableWithDuplicateKeysStably(int items) {
+        Random r = new Random(42);
+        int[] keys = new int[items];
+        for (int i = 0; i < items; i++)
+            keys[i] = r.nextInt(8);
+
+        Integer[] indexes = Linq.range(0, items).toArray(Integer.class);
+        Integer[] ordered = ForceNotCollection(Linq.of(indexes)).orderBy(i -> keys[i]).toArray(Integer.class);
+        Integer[] orderedDescending = ForceNotCollection(Linq.of(indexes)).orderByDescending(i -> keys[i]).toArray(Integer.class);
+
+        Integer[] expected = indexes.clone();
+        Arrays.sort(expected, Comparator.comparingInt(i -> keys[i]));
+        assertEquals(Linq.of(expected), Linq.of(ordered));
+        Arrays.sort(expected, Comparator.comparingInt(i -> -keys[i]));
+        assertEquals(Linq.of(expected), Linq.of(orderedDescending));
+    }
+
     @ParameterizedTest
     @MethodSource("TakeOne_TestData")
     void TakeOne(IEnumerable<Integer> source) {
@@ -562,6 +581,74 @@ class OrderByTest extends TestCase {
     }
 
 
+    @ParameterizedTest
+    @MethodSource("SortsRandomizedEnumerableCorrectly_TestData")
+    void testOrderByPrimitive(int items) {
+        Random r = new Random(42);
+        Integer[] randomized = Linq.range(0, items).select(i -> r.nextInt(items + 1) - items / 2).toArray(Integer.class);
+        IEnumerable<Integer> source = ForceNotCollection(Linq.of(randomized));
+
+        assertEquals(source.orderBy(i -> i), source.orderByInt(i -> i));
+        assertEquals(source.orderBy(i -> i % 7), source.orderByInt(i -> i % 7));
+        assertEquals(source.orderBy(i -> (long) i << 32), source.orderByLong(i -> (long) i << 32));
+        assertEquals(source.orderBy(i -> i % 7L), source.orderByLong(i -> i % 7L));
+        assertEquals(source.orderBy(i -> i / 3.0), source.orderByDouble(i -> i / 3.0));
+        assertEquals(source.orderBy(i -> i % 7 / 2.0), source.orderByDouble(i -> i % 7 / 2.0));
+        if (items > 0) {
+            assertEquals(source.orderBy(i -> i).first(), source.orderByInt(i -> i).first());
+            assertEquals(source.orderBy(i -> i).last(), source.orderByInt(i -> i).last());
+            assertEquals(source.orderBy(i -> i).elementAt(items / 2), source.orderByLong(i -> i).elementAt(items / 2));
+            assertEquals(source.orderBy(i -> i).skip(items / 3).take(items / 3), source.orderByDouble(i -> i).skip(items / 3).take(items / 3));
+        }
+    }
+
+    @Test
+    void testOrderByPrimitiveExtremeValues() {
+        int[] ints = {0, -1, 1, Integer.MIN_VALUE, Integer.MAX_VALUE, -2, 2};
+        assertEquals(Linq.of(Integer.MIN_VALUE, -2, -1, 0, 1, 2, Integer.MAX_VALUE), Linq.of(ints).orderByInt(i -> i));
+
+        long[] longs = {0L, -1L, 1L, Long.MIN_VALUE, Long.MAX_VALUE, -2L, 2L};
+        assertEquals(Linq.of(Long.MIN_VALUE, -2L, -1L, 0L, 1L, 2L, Long.MAX_VALUE), Linq.of(longs).orderByLong(i -> i));
+
+        double[] doubles = {0.0, Double.NaN, -0.0, 1.5, Double.NEGATIVE_INFINITY, -1.5, Double.POSITIVE_INFINITY, Double.MIN_VALUE, -Double.MAX_VALUE};
+        assertEquals(Linq.of(doubles).orderBy(d -> d), Linq.of(doubles).orderByDouble(d -> d));
+        assertEquals(Linq.of(-Double.MAX_VALUE, Double.NEGATIVE_INFINITY), Linq.of(doubles).orderByDouble(d -> d).take(2).reverse());
+        assertEquals(Double.NaN, Linq.of(doubles).orderByDouble(d -> d).last());
+    }
+
+    @ParameterizedTest
+    @MethodSource("SortsRandomizedEnumerableCorrectly_TestData")
+    void testOrderByParallel(int items) {
+        Random r = new Random(42);
+        Integer[] randomized = Linq.range(0, items).select(i -> r.nextInt(items + 1)).toArray(Integer.class);
+        IEnumerable<Integer> source = ForceNotCollection(Linq.of(randomized));
+
+        assertEquals(source.orderBy(i -> i % 10), source.orderBy(i -> i % 10).parallel());
+        assertEquals(source.orderByDescending(i -> i % 10).thenBy(i -> -i), source.orderByDescending(i -> i % 10).parallel().thenBy(i -> -i));
+        assertEquals(source.orderBy(i -> i % 10).thenByDescending(i -> i), source.orderByInt(i -> i % 10).parallel().thenByDescendingLong(i -> i));
+        assertEquals(source.orderBy(i -> i).skip(items / 3).take(items / 3), source.orderByDouble(i -> i).parallel().skip(items / 3).take(items / 3));
+        if (items > 0) {
+            assertEquals(source.orderBy(i -> i).first(), source.orderBy(i -> i).parallel().first());
+            assertEquals(source.orderBy(i -> i).last(), source.orderBy(i -> i).parallel().last());
+            assertEquals(source.orderBy(i -> i).elementAt(items / 2), source.orderBy(i -> i).parallel().elementAt(items / 2));
+        }
+    }
+
+    @Test
+    void testOrderByParallelSame() {
+        IOrderedEnumerable<Integer> ordered = Linq.range(0, 10).orderBy(i -> i).parallel();
+        assertSame(ordered, ordered.parallel());
+        assertThrows(ArgumentNullException.class, () -> OrderBy.parallel(null));
+    }
+
+    @Test
+    void NullKeySelectorPrimitive() {
+        assertThrows(ArgumentNullException.class, () -> Linq.<Integer>empty().orderByInt(null));
+        assertThrows(ArgumentNullException.class, () -> Linq.<Integer>empty().orderByLong(null));
+        assertThrows(ArgumentNullException.class, () -> Linq.<Integer>empty().orderByDouble(null));
+    }
+
+
     private static class NameScore extends ValueType {
         private final String Name;
         private final int Score;
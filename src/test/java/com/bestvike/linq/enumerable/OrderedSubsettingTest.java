@@ -9,6 +9,8 @@ import com.bestvike.linq.exception.ArgumentOutOfRangeException;
 import com.bestvike.linq.exception.InvalidOperationException;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 /**
  * Created by 许崇雷 on 2019-05-24.
  */
@@ -442,4 +444,34 @@ class OrderedSubsettingTest extends TestCase {
         assertEquals(20, source.runOnce().orderBy(i -> i).skip(10).take(20).count());
         assertEquals(1, source.runOnce().orderBy(i -> i).take(2).skip(1).count());
     }
+
+    @Test
+    void TopTakeStable() {
+        Random r = new Random(42);
+        Integer[] indexes = Linq.range(0, 100_000).toArray(Integer.class);
+        int[] keys = new int[indexes.length];
+        for (int i = 0; i < keys.length; i++)
+            keys[i] = r.nextInt(1000);
+        IEnumerable<Integer> source = ForceNotCollection(Linq.of(indexes));
+        Integer[] sorted = Linq.of(indexes).orderBy(i -> keys[i]).toArray(Integer.class);
+        Integer[] sortedDescending = Linq.of(indexes).orderByDescending(i -> keys[i]).thenBy(i -> keys[i] % 3).toArray(Integer.class);
+
+        for (int take : new int[]{1, 2, 3, 100, 4095, 4096}) {
+            assertEquals(Linq.of(sorted).take(take), Linq.of(source.orderBy(i -> keys[i]).take(take).toArray()));
+            assertEquals(Linq.of(sorted).take(take), Linq.of(source.orderBy(i -> keys[i]).take(take).toList()));
+            assertEquals(Linq.of(sorted).skip(take / 2).take(take), source.orderByInt(i -> keys[i]).take(take + take / 2).skip(take / 2));
+            assertEquals(Linq.of(sortedDescending).take(take), Linq.of(source.orderByDescending(i -> keys[i]).thenBy(i -> keys[i] % 3).take(take).toArray(Integer.class)));
+            assertEquals(sorted[take - 1], source.orderBy(i -> keys[i]).take(take).last());
+            assertEquals(sorted[take - 1], source.orderBy(i -> keys[i]).elementAt(take - 1));
+        }
+        assertEquals(Linq.of(sorted).take(10), source.take(15).orderBy(i -> keys[i]).take(10).concat(source.skip(15)).orderBy(i -> keys[i]).take(10));
+    }
+
+    @Test
+    void TopTakeSmallSource() {
+        assertEquals(Linq.range(0, 5), ForceNotCollection(Linq.range(0, 5).reverse()).orderBy(i -> i).take(100));
+        assertEquals(Linq.range(2, 3), ForceNotCollection(Linq.range(0, 5).reverse()).orderBy(i -> i).take(100).skip(2));
+        assertEmpty(ForceNotCollection(Linq.<Integer>empty()).orderBy(i -> i).take(100).toArray());
+        assertTrue(ForceNotCollection(Linq.range(0, 5)).orderBy(i -> i).skip(10).take(100).toList().isEmpty());
+    }
 }
@@ -0,0 +1,74 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IGrouping;
+import com.bestvike.linq.ILookup;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+class PrimitiveLookupTest extends TestCase {
+    @Test
+    void testGroupBy() {
+        IEnumerable<Integer> source = Linq.range(-50, 1000);
+        IEnumerable<IGrouping<Integer, Integer>> expected = source.groupBy(x -> x % 37);
+        assertEquals(expected.select(IGrouping::getKey), source.groupByInt(x -> x % 37).select(IGrouping::getKey));
+        assertEquals(expected.select(g -> g.toList()), source.groupByInt(x -> x % 37).select(g -> g.toList()));
+        assertEquals(expected.select(g -> (long) g.getKey()), source.groupByLong(x -> x % 37).select(IGrouping::getKey));
+        assertEquals(expected.select(g -> g.toList()), source.groupByLong(x -> x % 37).select(g -> g.toList()));
+        assertEquals(73, source.groupByInt(x -> x % 37).count());
+        assertEmpty(Linq.<Integer>empty().groupByInt(x -> x));
+    }
+
+    @Test
+    void testToLookup() {
+        IEnumerable<String> source = Linq.of("a", "bb", "cc", "", "ddd", "e");
+        ILookup<Integer, String> lookup = source.toLookupInt(String::length);
+        assertEquals(4, lookup.getCount());
+        assertEquals(Linq.of(1, 2, 0, 3), lookup.select(IGrouping::getKey));
+        assertEquals(Linq.of("a", "e"), lookup.get(1));
+        assertEquals(Linq.of(""), lookup.get(0));
+        assertEmpty(lookup.get(5));
+        assertEmpty(lookup.get(null));
+        assertTrue(lookup.containsKey(0));
+        assertFalse(lookup.containsKey(null));
+
+        ILookup<Long, String> longLookup = source.toLookupLong(x -> x.length() * 10_000_000_000L);
+        assertEquals(Linq.of("bb", "cc"), longLookup.get(20_000_000_000L));
+        assertFalse(longLookup.containsKey(2L));
+    }
+
+    @Test
+    void testDistinctBy() {
+        IEnumerable<Integer> source = Linq.range(0, 100);
+        assertEquals(source.distinctBy(x -> x % 7), source.distinctByInt(x -> x % 7));
+        assertEquals(source.distinctBy(x -> x / 10), source.distinctByLong(x -> x / 10));
+        assertEquals(Linq.of(0, 1), Linq.of(0, 1, 0).distinctByInt(x -> x));
+    }
+
+    @Test
+    void testCountBy() {
+        IEnumerable<Integer> source = Linq.range(0, 100);
+        assertEquals(source.countBy(x -> x % 7), source.countByInt(x -> x % 7));
+        assertEquals(source.countBy(x -> (long) (x / 30)), source.countByLong(x -> x / 30));
+    }
+
+    @Test
+    void testArgumentNull() {
+        IEnumerable<Integer> source = Linq.of(1, 2, 3);
+        assertThrows(ArgumentNullException.class, () -> GroupBy.groupByInt((IEnumerable<Integer>) null, x -> x));
+        assertThrows(ArgumentNullException.class, () -> GroupBy.groupByLong(source, null));
+        assertThrows(ArgumentNullException.class, () -> ToLookup.toLookupInt(source, (IntFunc1<Integer>) null));
+        assertThrows(ArgumentNullException.class, () -> ToLookup.toLookupLong((IEnumerable<Integer>) null, x -> x));
+        assertThrows(ArgumentNullException.class, () -> DistinctBy.distinctByInt(source, null));
+        assertThrows(ArgumentNullException.class, () -> DistinctBy.distinctByLong(source, (LongFunc1<Integer>) null));
+        assertThrows(ArgumentNullException.class, () -> AggregateBy.countByInt((IEnumerable<Integer>) null, x -> x));
+        assertThrows(ArgumentNullException.class, () -> AggregateBy.countByLong(source, null));
+    }
+}
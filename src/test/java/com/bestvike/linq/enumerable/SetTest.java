@@ -0,0 +1,69 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.collections.generic.IEqualityComparer;
+import com.bestvike.linq.Linq;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+class SetTest extends TestCase {
+    @Test
+    void testAdd() {
+        Set<Integer> set = new Set<>(null);
+        for (int i = 0; i < 10_000; i++)
+            assertTrue(set.add(i));
+        for (int i = 0; i < 10_000; i++)
+            assertFalse(set.add(i));
+        assertTrue(set.add(null));
+        assertFalse(set.add(null));
+        assertEquals(10_001, set.getCount());
+        assertEquals(Linq.range(0, 10_000).append(null), Linq.of(set.toArray()));
+        assertEquals(Linq.range(0, 10_000).append(null), Linq.of(set.toArray(Integer.class)));
+        assertEquals(Linq.range(0, 10_000).append(null), Linq.of(set.toList()));
+    }
+
+    @Test
+    void testRemove() {
+        Set<Integer> set = new Set<>(new CollidingComparer());
+        for (int i = 0; i < 1000; i++)
+            assertTrue(set.add(i));
+        for (int i = 0; i < 1000; i += 3)
+            assertTrue(set.remove(i));
+        for (int i = 0; i < 1000; i += 3)
+            assertFalse(set.remove(i));
+        for (int i = 0; i < 1000; i++) {
+            if (i % 3 == 0)
+                continue;
+            assertFalse(set.add(i));
+            assertTrue(set.remove(i));
+        }
+        for (int i = 0; i < 1000; i++)
+            assertFalse(set.remove(i));
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+    }
+
+    @Test
+    void testEmpty() {
+        Set<Integer> set = new Set<>(null);
+        assertEquals(0, set.getCount());
+        assertFalse(set.remove(1));
+        assertEmpty(Linq.of(set.toArray()));
+        assertEmpty(Linq.of(set.toArray(Integer.class)));
+    }
+
+
+    private static class CollidingComparer implements IEqualityComparer<Integer> {
+        @Override
+        public boolean equals(Integer x, Integer y) {
+            return x.equals(y);
+        }
+
+        @Override
+        public int hashCode(Integer obj) {
+            return obj % 7;
+        }
+    }
+}
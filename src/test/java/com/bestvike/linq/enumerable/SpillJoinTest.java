@@ -0,0 +1,107 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.collections.generic.StringComparer;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.ArgumentOutOfRangeException;
+import com.bestvike.linq.util.ISerializer;
+import com.bestvike.linq.util.Serializer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Random;
+
+/**
+ * Created by 许崇雷 on 2026-10-18.
+ */
+class SpillJoinTest extends TestCase {
+    private static final ISerializer<Integer> INT_SERIALIZER = new ISerializer<Integer>() {
+        @Override
+        public void write(Integer value, ObjectOutput output) throws IOException {
+            output.writeInt(value);
+        }
+
+        @Override
+        public Integer read(ObjectInput input) throws IOException {
+            return input.readInt();
+        }
+    };
+
+    @Test
+    void testInMemory() {
+        IEnumerable<Integer> outer = Linq.of(null, 1, 2, 2, 3, 5);
+        IEnumerable<Integer> inner = Linq.of(2, 3, 3, 4, null);
+        assertEquals(outer.join(inner, x -> x, y -> y, (x, y) -> x + ":" + y), outer.spillJoin(inner, x -> x, y -> y, (x, y) -> x + ":" + y, 5));
+    }
+
+    @Test
+    void testSpill() {
+        Random random = new Random(42);
+        IEnumerable<Integer> outer = Linq.of(Linq.range(0, 1000).select(x -> random.nextInt(300)).toList());
+        IEnumerable<Integer> inner = Linq.of(Linq.range(0, 1000).select(x -> random.nextInt(300)).toList());
+        IEnumerable<Integer> expected = outer.join(inner, x -> x, y -> y, (x, y) -> x * 1000 + y).orderBy(x -> x);
+        assertEquals(expected, outer.spillJoin(inner, x -> x, y -> y, (x, y) -> x * 1000 + y, 10).orderBy(x -> x));
+        assertEquals(expected, outer.spillJoin(inner, x -> x, y -> y, (x, y) -> x * 1000 + y, null, INT_SERIALIZER, INT_SERIALIZER, 10).orderBy(x -> x));
+
+        // all keys in one partition cannot be split, it is joined block by block
+        IEnumerable<Integer> same = Linq.repeat(7, 100);
+        assertEquals(10000, same.spillJoin(same, x -> x, y -> y, (x, y) -> x + y, 10).count());
+    }
+
+    @Test
+    void testSkewedKey() {
+        // one heavy key is written by the first partitioning and by at most two more passes, the last one fails to split it
+        int[] written = {0};
+        ISerializer<Integer> counting = new ISerializer<Integer>() {
+            @Override
+            public void write(Integer value, ObjectOutput output) throws IOException {
+                written[0]++;
+                output.writeInt(value);
+            }
+
+            @Override
+            public Integer read(ObjectInput input) throws IOException {
+                return input.readInt();
+            }
+        };
+        IEnumerable<Integer> inner = Linq.of(Linq.repeat(7, 200).concat(Linq.range(100, 20)).toList());
+        IEnumerable<Integer> outer = Linq.of(7, 7, 100, 119, 120);
+        IEnumerable<String> expected = outer.join(inner, x -> x, y -> y, (x, y) -> x + ":" + y).orderBy(x -> x);
+        assertEquals(expected, outer.spillJoin(inner, x -> x, y -> y, (x, y) -> x + ":" + y, null, INT_SERIALIZER, counting, 10).orderBy(x -> x));
+        assertEquals(402, expected.count());
+        assertTrue(written[0] <= 220 * 3);
+    }
+
+    @Test
+    void testComparer() {
+        IEnumerable<String> outer = Linq.of("a", "B", "c", "D");
+        IEnumerable<String> inner = Linq.of("A", "b", "C", "d", "e");
+        assertEquals(Linq.of("a:A", "B:b", "c:C", "D:d"), outer.spillJoin(inner, x -> x, y -> y, (x, y) -> x + ":" + y, StringComparer.OrdinalIgnoreCase, Serializer.Default(), Serializer.Default(), 1).orderBy(x -> x));
+    }
+
+    @Test
+    void testEarlyClose() {
+        IEnumerable<Integer> source = Linq.range(0, 100);
+        try (IEnumerator<Integer> e = source.spillJoin(source, x -> x, y -> y, (x, y) -> x, 10).enumerator()) {
+            assertTrue(e.moveNext());
+        }
+    }
+
+    @Test
+    void testArgument() {
+        IEnumerable<Integer> source = Linq.of(1, 2, 3);
+        assertThrows(ArgumentNullException.class, () -> SpillJoin.spillJoin(null, source, x -> x, y -> y, (x, y) -> x, 10));
+        assertThrows(ArgumentNullException.class, () -> SpillJoin.spillJoin(source, null, x -> x, y -> y, (x, y) -> x, 10));
+        assertThrows(ArgumentNullException.class, () -> SpillJoin.spillJoin(source, source, null, y -> y, (x, y) -> x, 10));
+        assertThrows(ArgumentNullException.class, () -> SpillJoin.spillJoin(source, source, x -> x, null, (x, y) -> x, 10));
+        assertThrows(ArgumentNullException.class, () -> SpillJoin.spillJoin(source, source, x -> x, y -> y, null, 10));
+        assertThrows(ArgumentNullException.class, () -> SpillJoin.spillJoin(source, source, x -> x, y -> y, (x, y) -> x, null, null, Serializer.Default(), 10));
+        assertThrows(ArgumentNullException.class, () -> SpillJoin.spillJoin(source, source, x -> x, y -> y, (x, y) -> x, null, Serializer.Default(), null, 10));
+        assertThrows(ArgumentOutOfRangeException.class, () -> SpillJoin.spillJoin(source, source, x -> x, y -> y, (x, y) -> x, 0));
+    }
+}
@@ -310,6 +310,17 @@ class SumTest extends TestCase {
         assertThrows(ArithmeticException.class, () -> sourceInt.sumInt(x -> x));
     }
 
+    @Test
+    void SumOfIntArray_IntermediateOverflow() {
+        int[] source = {Integer.MAX_VALUE, 1, -1, Integer.MIN_VALUE, -1, 1};
+        assertThrows(ArithmeticException.class, () -> Linq.of(source).sumInt());
+        assertThrows(ArithmeticException.class, () -> Linq.of(source).asIntEnumerable().sum());
+        assertThrows(ArithmeticException.class, () -> Linq.of(source).where(x -> true).sumInt());
+        assertEquals(-1.0 / 6, Linq.of(source).averageInt());
+        assertEquals(Integer.MIN_VALUE, Linq.of(source).minInt());
+        assertEquals(Integer.MAX_VALUE, Linq.of(source).maxInt());
+    }
+
     @Test
     void SumOfNullableOfInt_SourceSumsToOverflow_OverflowExceptionThrown() {
         IEnumerable<Integer> sourceNullableInt = Linq.of(Integer.MAX_VALUE, null, 1);
@@ -246,6 +246,24 @@ class ThenByTest extends TestCase {
         assertEquals(Linq.of(randomized), orderedEnumerable);
     }
 
+    @Test
+    void testThenByPrimitive() {
+        Random r = new Random(42);
+        Integer[] randomized = Linq.range(0, 10_000).select(i -> r.nextInt(1000)).toArray(Integer.class);
+        IEnumerable<Integer> source = ForceNotCollection(Linq.of(randomized));
+
+        assertEquals(source.orderBy(i -> i % 10).thenBy(i -> i).thenByDescending(i -> i % 3),
+                source.orderByInt(i -> i % 10).thenByInt(i -> i).thenByDescendingInt(i -> i % 3));
+        assertEquals(source.orderBy(i -> i % 10).thenByDescending(i -> (long) i),
+                source.orderByLong(i -> i % 10L).thenByDescendingLong(i -> i));
+        assertEquals(source.orderBy(i -> i % 10).thenBy(i -> i / 7.0).thenByDescending(i -> -i / 3.0),
+                source.orderBy(i -> i % 10).thenByDouble(i -> i / 7.0).thenByDescendingDouble(i -> -i / 3.0));
+        assertEquals(source.orderBy(i -> i % 10).thenBy(i -> i).first(), source.orderByInt(i -> i % 10).thenByLong(i -> i).first());
+        assertEquals(source.orderBy(i -> i % 10).thenBy(i -> i).last(), source.orderByInt(i -> i % 10).thenByDouble(i -> i).last());
+        assertEquals(source.orderBy(i -> i % 10).thenBy(i -> i).elementAt(5000), source.orderByInt(i -> i % 10).thenByInt(i -> i).elementAt(5000));
+        assertThrows(ArgumentNullException.class, () -> source.orderBy(i -> i).thenByInt(null));
+    }
+
 
     private static class UserAddress extends ValueType {
         private final String Name;
@@ -410,6 +410,25 @@ class ToArrayGenericTest extends TestCase {
     }
 
 
+    @Test
+    void ToArray_TypedBuilder() {
+        for (int count : new int[]{0, 1, 4, 8, 9, 16, 17, 100, 10000}) {
+            List<Integer> expected = Linq.range(0, count).toList();
+            Integer[] array = new TestEnumerable<>(expected.toArray(new Integer[0])).toArray(Integer.class);
+            assertSame(Integer[].class, array.getClass());
+            assertEquals(expected, Arrays.asList(array));
+            array = Linq.range(0, count).where(x -> true).toArray(Integer.class);
+            assertEquals(expected, Arrays.asList(array));
+        }
+
+        LargeArrayBuilder<Integer> builder = new LargeArrayBuilder<>(Integer.class);
+        for (int i = 0; i < 8; i++)
+            builder.add(i);
+        assertSame(Object[].class, builder.toArray().getClass());
+        assertSame(Integer[].class, builder.toArray(Integer.class).getClass());
+        assertSame(builder.toArray(Integer.class), builder.toArray(Integer.class));
+    }
+
     // Consider that two very similar enums is not unheard of, if e.g. two assemblies map the
     // same external source of numbers (codes, response codes, colour codes, etc.) to values.
     private enum Enum0 {
@@ -457,6 +457,28 @@ class ToLookupTest extends TestCase {
         assertEquals(1, n2);
     }
 
+    @Test
+    void testToLookupManyKeys() {
+        ILookup<Integer, Integer> lookup = Linq.range(0, 10_000).toLookup(x -> x % 997);
+        assertEquals(997, lookup.getCount());
+        assertEquals(Linq.range(0, 997), lookup.select(g -> g.getKey()));
+        for (int key = 0; key < 997; key++) {
+            int k = key;
+            IEnumerable<Integer> group = lookup.get(key);
+            assertEquals(Linq.range(0, 10_000).where(x -> x % 997 == k), group);
+            assertEquals(group.count(), group.toArray(Integer.class).length);
+            assertEquals(k, group.first());
+            assertEquals(k + 997, group.elementAt(1));
+            assertEquals(1, group.indexOf(k + 997));
+            assertEquals(-1, group.indexOf(k + 1));
+            assertEquals(1, group.findIndex(x -> x == k + 997));
+            assertTrue(group.contains(k));
+            assertFalse(group.contains(k + 1));
+        }
+        assertEmpty(lookup.get(997));
+        assertFalse(lookup.containsKey(null));
+    }
+
 
     private static class NameScore extends ValueType {
         private final String Name;
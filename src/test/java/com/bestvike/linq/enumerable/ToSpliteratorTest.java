@@ -13,6 +13,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 /**
@@ -273,4 +275,79 @@ class ToSpliteratorTest extends TestCase {
 
         assertEquals(Linq.of(60, -10), Linq.of(Linq.of(source).toLookup(Tuple2::getItem1, Tuple2::getItem2).get("Tim").stream().toArray()));
     }
+
+    @Test
+    void testPartitionSplit() {
+        IEnumerable<Integer> range = Linq.range(0, 1000);
+        Spliterator<Integer> spliterator = range.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        assertEquals(1000L, spliterator.getExactSizeIfKnown());
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertEquals(500L, prefix.getExactSizeIfKnown());
+        assertEquals(500L, spliterator.getExactSizeIfKnown());
+        List<Integer> list = new ArrayList<>();
+        assertTrue(prefix.tryAdvance(list::add));
+        Spliterator<Integer> prefix2 = prefix.trySplit();
+        assertEquals(249L, prefix2.getExactSizeIfKnown());
+        assertEquals(250L, prefix.getExactSizeIfKnown());
+        prefix2.forEachRemaining(list::add);
+        prefix.forEachRemaining(list::add);
+        spliterator.forEachRemaining(list::add);
+        assertFalse(spliterator.tryAdvance(list::add));
+        assertEquals(range, Linq.of(list));
+
+        assertEquals(range.select(x -> x * 2), Linq.of(range.select(x -> x * 2).parallelStream().toArray()));
+        assertEquals(range.select(x -> x * 2), Linq.of(Linq.of(range.toArray()).select(x -> x * 2).parallelStream().toArray()));
+        assertEquals(range.select(x -> x * 2), Linq.of(Linq.of(range.toList()).select(x -> x * 2).parallelStream().toArray()));
+        assertEquals(range.reverse(), Linq.of(range.orderByDescending(x -> x).parallelStream().toArray()));
+        assertEquals(Linq.repeat("a", 100), Linq.of(Linq.repeat("a", 100).parallelStream().toArray()));
+        assertEquals(499500L, (long) range.parallelStream().mapToLong(x -> x).sum());
+        assertEquals(range.skip(10).take(100), Linq.of(range.skip(10).take(100).parallelStream().toArray()));
+    }
+
+    @Test
+    void testOrderedSplitSortsOnce() {
+        AtomicInteger keys = new AtomicInteger();
+        IEnumerable<Integer> ordered = Linq.range(0, 10000).orderByDescending(x -> {
+            keys.incrementAndGet();
+            return x;
+        });
+        assertEquals(Linq.range(0, 10000).reverse(), Linq.of(ordered.parallelStream().toArray()));
+        assertEquals(10000, keys.get());
+
+        // a split of the partition runs no more key selectors than one sequential pass
+        IEnumerable<Integer> partition = ordered.take(1000).select(x -> x);
+        keys.set(0);
+        partition.toArray();
+        int sequential = keys.get();
+        keys.set(0);
+        assertEquals(Linq.range(9000, 1000).reverse(), Linq.of(partition.parallelStream().toArray()));
+        assertEquals(sequential, keys.get());
+    }
+
+    @Test
+    void testConcatSplit() {
+        IEnumerable<Integer> concat = Linq.range(0, 100).concat(Linq.range(100, 100)).concat(Linq.of(200, 201)).concat(Linq.range(202, 98).where(x -> true));
+        assertEquals(Linq.range(0, 300), Linq.of(concat.parallelStream().toArray()));
+        assertEquals(Linq.range(0, 300), Linq.of(concat.stream().toArray()));
+
+        Spliterator<Integer> spliterator = concat.spliterator();
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertEquals(200L, prefix.estimateSize());
+        assertEquals(Long.MAX_VALUE, spliterator.estimateSize());
+        List<Integer> list = new ArrayList<>();
+        while (prefix.tryAdvance(list::add)) {
+            if (list.size() == 150) {
+                Spliterator<Integer> prefix2 = prefix.trySplit();
+                assertEquals(25L, prefix2.estimateSize());
+                prefix2.forEachRemaining(list::add);
+            }
+        }
+        spliterator.forEachRemaining(list::add);
+        assertEquals(Linq.range(0, 300), Linq.of(list));
+
+        IEnumerable<Integer> concat2 = Linq.range(0, 10).concat(Linq.range(10, 10));
+        assertEquals(20L, concat2.spliterator().estimateSize());
+        assertEquals(Linq.range(0, 20), Linq.of(concat2.parallelStream().toArray()));
+    }
 }
@@ -37,9 +37,29 @@ class ReflectionTest extends TestCase {
         assertEquals(1, fieldEnumerable.count("score"::equals));
     }
 
+    @Test
+    void testGetAccessors() {
+        Bean bean = new Bean("basePri", "basePro", 123, "Tim", "Andy", 456);
+
+        FieldAccessor[] accessors = Reflection.getAccessors(Bean.class);
+        assertSame(accessors, Reflection.getAccessors(Bean.class));
+        assertEquals(Linq.of(Reflection.getFields(Bean.class)), Linq.of(accessors).select(FieldAccessor::getField));
+        assertEquals(Linq.of(456, "Andy", "Tim", 123, "basePro", "basePri"), Linq.of(accessors).select(accessor -> accessor.get(bean)));
+        assertEquals(Linq.of(true, false, false, true, false, false), Linq.of(accessors).select(FieldAccessor::isPrimitive));
+
+        Primitives x = new Primitives(Double.NaN, 0.0f, 'a');
+        Primitives y = new Primitives(Double.NaN, 0.0f, 'a');
+        assertEquals(x, y);
+        assertEquals(x.hashCode(), y.hashCode());
+        assertNotEquals(x, new Primitives(Double.NaN, -0.0f, 'a'));
+        assertNotEquals(x, new Primitives(Double.NaN, 0.0f, 'b'));
+        assertEquals("Primitives{d=NaN, f=0.0, c=a}", x.toString());
+    }
+
     @Test
     void testArgumentNull() {
         assertThrows(ArgumentNullException.class, () -> Reflection.getFields(null));
+        assertThrows(ArgumentNullException.class, () -> Reflection.getAccessors(null));
     }
 
 
@@ -95,4 +115,16 @@ class ReflectionTest extends TestCase {
             return this.pub;
         }
     }
+
+    private static class Primitives extends ValueType {
+        private final double d;
+        private final float f;
+        private final char c;
+
+        private Primitives(double d, float f, char c) {
+            this.d = d;
+            this.f = f;
+            this.c = c;
+        }
+    }
 }